@@ -0,0 +1,35 @@
+-- Switch Manga - Volume 업로드 비동기 처리 작업 테이블
+-- POST /api/v1/upload/volume 은 파일만 받아 작업을 등록하고 즉시 jobId를 반환
+-- 실제 처리(볼륨 생성 → 커버 저장 → 페이지 추출)는 전용 풀에서 단계별로 진행되며
+-- 서버 재시작 시 QUEUED/RUNNING 작업은 저장된 단계부터 재개됨
+
+USE switchmanga;
+
+CREATE TABLE upload_jobs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '작업 ID',
+    status VARCHAR(20) NOT NULL DEFAULT 'QUEUED' COMMENT 'QUEUED, RUNNING, COMPLETED, FAILED',
+    stage VARCHAR(30) NOT NULL DEFAULT 'STAGED' COMMENT 'STAGED, VOLUME_CREATED, COVER_SAVED, PAGES_EXTRACTED, COMPLETED',
+    progress INT DEFAULT 0 COMMENT '진행률 (0-100)',
+    processed_pages INT DEFAULT 0 COMMENT '처리된 페이지 수',
+    total_pages INT COMMENT '전체 페이지 수 (추출 시작 후 확정)',
+    series_id BIGINT NOT NULL COMMENT '시리즈 ID',
+    volume_id BIGINT COMMENT '생성된 권 ID',
+    request_json TEXT COMMENT '업로드 요청 정보 (VolumeUploadRequest JSON)',
+    staging_dir VARCHAR(500) NOT NULL COMMENT '업로드 파일 임시 보관 폴더',
+    cover_file VARCHAR(255) COMMENT '임시 보관된 커버 파일명',
+    cover_original_name VARCHAR(255) COMMENT '커버 원본 파일명',
+    zip_file VARCHAR(255) COMMENT '임시 보관된 ZIP 파일명',
+    error_message TEXT COMMENT '실패 사유',
+    attempts INT DEFAULT 0 COMMENT '실행 횟수',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    started_at TIMESTAMP NULL COMMENT '처리 시작 시각',
+    completed_at TIMESTAMP NULL COMMENT '처리 종료 시각',
+    INDEX idx_status (status),
+    INDEX idx_volume (volume_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='볼륨 업로드 작업';
+
+-- 롤백용 (필요시)
+/*
+DROP TABLE upload_jobs;
+*/
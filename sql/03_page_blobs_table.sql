@@ -0,0 +1,26 @@
+-- Switch Manga - 콘텐츠 주소 기반 페이지 저장소
+-- 페이지 이미지는 SHA-256 해시 경로(/uploads/blobs/ab/cd/{hash}.jpg)에 한 번만 저장되고
+-- 같은 내용의 페이지(재업로드, 공통 크레딧/광고 페이지 등)는 같은 파일을 참조함
+-- ref_count는 해당 해시를 참조하는 pages 행 수이며, 0이 된 뒤 유예 시간이 지나면 파일과 함께 삭제됨
+
+USE switchmanga;
+
+CREATE TABLE page_blobs (
+    hash CHAR(64) NOT NULL PRIMARY KEY COMMENT '이미지 SHA-256 (hex)',
+    extension VARCHAR(10) NOT NULL COMMENT '파일 확장자 (내용으로 판별)',
+    file_size BIGINT NOT NULL COMMENT '파일 크기 (bytes)',
+    ref_count INT NOT NULL DEFAULT 0 COMMENT '참조하는 페이지 수',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    INDEX idx_ref_count (ref_count, updated_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='페이지 이미지 저장소';
+
+ALTER TABLE pages
+    ADD COLUMN content_hash CHAR(64) NULL COMMENT '이미지 SHA-256 (page_blobs.hash)' AFTER file_size,
+    ADD INDEX idx_content_hash (content_hash);
+
+-- 롤백용 (필요시)
+/*
+ALTER TABLE pages DROP INDEX idx_content_hash, DROP COLUMN content_hash;
+DROP TABLE page_blobs;
+*/
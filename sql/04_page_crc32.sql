@@ -0,0 +1,14 @@
+-- Switch Manga - 페이지 이미지 CRC-32
+-- 볼륨 오프라인 다운로드(/api/v1/volumes/{id}/download)는 STORED ZIP을 즉석에서 만들며,
+-- 엔트리 헤더에 들어갈 CRC-32를 미리 저장해 두어 응답 전에 이미지를 다시 읽지 않음
+-- 기존 페이지는 NULL이며, 처음 다운로드할 때 계산해서 채움
+
+USE switchmanga;
+
+ALTER TABLE pages
+    ADD COLUMN crc32 INT UNSIGNED NULL COMMENT '이미지 CRC-32 (ZIP 다운로드용)' AFTER content_hash;
+
+-- 롤백용 (필요시)
+/*
+ALTER TABLE pages DROP COLUMN crc32;
+*/
@@ -0,0 +1,106 @@
+package com.switchmanga.api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 백그라운드 작업용 스레드 풀 설정
+ */
+@Slf4j
+@Configuration
+public class ExecutorConfig {
+
+    // ZIP 엔트리 추출 스레드 수 (0이면 CPU 코어 수)
+    @Value("${file.upload.extraction.threads:0}")
+    private int extractionThreads;
+
+    // 썸네일 생성 스레드 수 (0이면 CPU 코어 수)
+    @Value("${file.upload.thumbnail.threads:0}")
+    private int thumbnailThreads;
+
+    // 볼륨 업로드 작업(ingest) 동시 처리 수
+    @Value("${file.upload.ingest.threads:2}")
+    private int ingestThreads;
+
+    /**
+     * ZIP 엔트리 병렬 추출용 풀
+     * - 업로드별 동시 실행 수는 FileUploadService에서 Semaphore로 제한
+     */
+    @Bean(name = "zipExtractionExecutor")
+    public ThreadPoolTaskExecutor zipExtractionExecutor() {
+        int threads = extractionThreads > 0 ? extractionThreads : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("zip-extract-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        log.info("ZIP extraction executor initialized: {} threads", threads);
+        return executor;
+    }
+
+    /**
+     * 볼륨 업로드 작업(UploadJob) 처리용 풀
+     * - 요청 스레드는 파일만 임시 저장하고 바로 응답, 실제 처리는 이 풀에서 실행
+     */
+    @Bean(name = "volumeIngestExecutor")
+    public ThreadPoolTaskExecutor volumeIngestExecutor() {
+        int threads = Math.max(1, ingestThreads);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(1_000);
+        executor.setThreadNamePrefix("volume-ingest-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+
+        log.info("Volume ingest executor initialized: {} threads", threads);
+        return executor;
+    }
+
+    /**
+     * 페이지 썸네일 생성용 풀 (CPU 작업이므로 코어 수 기준)
+     */
+    @Bean(name = "thumbnailExecutor")
+    public ThreadPoolTaskExecutor thumbnailExecutor() {
+        int threads = thumbnailThreads > 0 ? thumbnailThreads : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("thumbnail-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+
+        log.info("Thumbnail executor initialized: {} threads", threads);
+        return executor;
+    }
+
+    /**
+     * 볼륨 팩 재생성용 풀 (페이지 수정 후 커밋되면 실행)
+     * - 한 스레드로 처리해 같은 볼륨의 팩을 동시에 쓰지 않음
+     */
+    @Bean(name = "packBuildExecutor")
+    public ThreadPoolTaskExecutor packBuildExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("pack-build-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+
+        log.info("Pack build executor initialized");
+        return executor;
+    }
+}
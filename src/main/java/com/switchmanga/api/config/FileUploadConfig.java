@@ -25,6 +25,34 @@ public class FileUploadConfig {
     @Value("${file.upload.temp-dir}")
     private String tempDir;
 
+    // 콘텐츠 주소 기반 페이지 이미지 저장 폴더 (SHA-256 경로)
+    @Value("${file.upload.blobs-dir:blobs}")
+    private String blobsDir;
+
+    // 페이지 썸네일 저장 폴더
+    @Value("${file.upload.thumbnails-dir:thumbs}")
+    private String thumbnailsDir;
+
+    // 볼륨 팩 파일 저장 폴더 (페이지 이미지를 볼륨 단위 파일 하나로 묶음)
+    @Value("${file.upload.packs-dir:packs}")
+    private String packsDir;
+
+    // ZIP을 업로드 스트림에서 바로 압축 해제 (임시 ZIP 저장 후 재오픈 생략)
+    @Value("${file.upload.streaming-extraction:true}")
+    private boolean streamingExtraction;
+
+    // 스트리밍 압축 해제 시 원본 ZIP 사본도 같은 패스에서 저장할지 여부
+    @Value("${file.upload.keep-archive:true}")
+    private boolean keepArchive;
+
+    // 압축 해제 없이 원본 ZIP에서 바로 페이지를 응답 (중앙 디렉토리 인덱스 사용)
+    @Value("${file.upload.archive-backed:false}")
+    private boolean archiveBacked;
+
+    // 업로드 하나가 동시에 추출할 수 있는 최대 엔트리 수
+    @Value("${file.upload.extraction.per-upload-concurrency:4}")
+    private int extractionConcurrency;
+
     @PostConstruct
     public void init() {
         try {
@@ -32,11 +60,17 @@ public class FileUploadConfig {
             Files.createDirectories(getBaseDirectory());
             Files.createDirectories(getBooksDirectory());
             Files.createDirectories(getTempDirectory());
+            Files.createDirectories(getBlobsDirectory());
+            Files.createDirectories(getThumbnailsDirectory());
+            Files.createDirectories(getPacksDirectory());
 
             log.info("Upload directories initialized:");
             log.info("  - Base: {}", getBaseDirectory());
             log.info("  - Books: {}", getBooksDirectory());
             log.info("  - Temp: {}", getTempDirectory());
+            log.info("  - Blobs: {}", getBlobsDirectory());
+            log.info("  - Thumbnails: {}", getThumbnailsDirectory());
+            log.info("  - Packs: {}", getPacksDirectory());
 
         } catch (IOException e) {
             log.error("Failed to create upload directories", e);
@@ -56,6 +90,18 @@ public class FileUploadConfig {
         return Paths.get(baseDir, tempDir);
     }
 
+    public Path getBlobsDirectory() {
+        return Paths.get(baseDir, blobsDir);
+    }
+
+    public Path getThumbnailsDirectory() {
+        return Paths.get(baseDir, thumbnailsDir);
+    }
+
+    public Path getPacksDirectory() {
+        return Paths.get(baseDir, packsDir);
+    }
+
     /**
      * 새로운 책 업로드 폴더 생성
      * 예: /uploads/books/20251101123456_abc123/
@@ -39,7 +39,12 @@ public class SecurityConfig {
                         .requestMatchers("/").permitAll()
                         .requestMatchers("/error").permitAll()
                         .requestMatchers("/test").permitAll()
+                        // 청크 업로드 세션, 업로드 작업 조회/재실행은 출판사/관리자만 (대용량 세션, 볼륨 생성)
+                        .requestMatchers("/api/v1/upload/sessions/**", "/api/v1/upload/jobs/**")
+                                .hasAnyRole("PUBLISHER", "ADMIN")
                         .requestMatchers("/api/v1/upload/**").permitAll()
+                        // 페이지 이미지 저장소는 공개하지 않음 (권한 확인/서명 URL 엔드포인트로만 전송)
+                        .requestMatchers("/uploads/blobs/**").denyAll()
                         .requestMatchers("/uploads/**").permitAll()  // ✅ 정적 파일!
                         .requestMatchers("/api/v1/auth/**").permitAll()
 
@@ -62,6 +67,9 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/volumes").permitAll()
                         .requestMatchers("/api/v1/volumes/{id}").permitAll()
 
+                        // Reader 페이지 이미지 (서명 토큰으로 검증)
+                        .requestMatchers("/api/v1/reader/pages/**").permitAll()
+
                         // ========================================
                         // 2. Publisher Portal API (인증 필요)
                         // ========================================
@@ -1,17 +1,12 @@
 package com.switchmanga.api.config;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
-    @Value("${file.upload.base-dir}")
-    private String uploadBaseDir;
-
     // ✅ CORS 설정 추가 (Flutter Web에서 이미지 로드 허용)
     @Override
     public void addCorsMappings(CorsRegistry registry) {
@@ -22,23 +17,14 @@ public class WebConfig implements WebMvcConfigurer {
                 .exposedHeaders("Authorization")
                 .maxAge(3600);
 
-        // /uploads/** 경로도 CORS 허용
+        // /uploads/** 경로도 CORS 허용 (Range 응답/재검증 헤더 노출)
         registry.addMapping("/uploads/**")
                 .allowedOrigins("*")
-                .allowedMethods("GET", "OPTIONS")
+                .allowedMethods("GET", "HEAD", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("ETag", "Content-Range", "Accept-Ranges")
                 .maxAge(3600);
 
         System.out.println("✅ CORS enabled for all origins");
     }
-
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // /uploads/** 요청을 실제 파일 시스템 경로로 매핑
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:" + uploadBaseDir + "/")
-                .setCachePeriod(3600);  // 1시간 캐시
-
-        System.out.println("📂 Static file serving enabled: /uploads/** -> " + uploadBaseDir);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,158 @@
+package com.switchmanga.api.controller;
+
+import com.switchmanga.api.dto.admin.ThumbnailStatsResponse;
+import com.switchmanga.api.entity.User;
+import com.switchmanga.api.entity.UserRole;
+import com.switchmanga.api.service.CatalogCacheService;
+import com.switchmanga.api.service.CatalogSearchService;
+import com.switchmanga.api.service.EntitlementService;
+import com.switchmanga.api.service.ImageVariantService;
+import com.switchmanga.api.service.PageCacheService;
+import com.switchmanga.api.service.ThumbnailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 관리자 운영 API (ADMIN 전용)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final ThumbnailService thumbnailService;
+    private final ImageVariantService imageVariantService;
+    private final PageCacheService pageCacheService;
+    private final EntitlementService entitlementService;
+    private final CatalogCacheService catalogCacheService;
+    private final CatalogSearchService catalogSearchService;
+
+    // ========================================
+    // 썸네일 파이프라인
+    // ========================================
+
+    /**
+     * 썸네일 생성 통계 (처리량, 큐 길이)
+     */
+    @GetMapping("/thumbnails/stats")
+    public ResponseEntity<?> getThumbnailStats(Authentication authentication) {
+        if (!isAdmin(authentication)) {
+            return forbidden();
+        }
+        ThumbnailStatsResponse stats = thumbnailService.getStats();
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * 썸네일이 없는 기존 페이지 일괄 생성
+     */
+    @PostMapping("/thumbnails/backfill")
+    public ResponseEntity<?> backfillThumbnails(
+            @RequestParam(defaultValue = "200") int batchSize,
+            Authentication authentication) {
+        if (!isAdmin(authentication)) {
+            return forbidden();
+        }
+
+        int size = Math.max(1, Math.min(batchSize, 1000));
+        if (!thumbnailService.startBackfill(size)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("code", 1, "msg", "이미 백필이 실행 중입니다"));
+        }
+        return ResponseEntity.accepted()
+                .body(Map.of("code", 0, "msg", "백필 시작", "batchSize", size));
+    }
+
+    // ========================================
+    // 화면 크기별 이미지 캐시
+    // ========================================
+
+    /**
+     * 변환 이미지 캐시 통계 (적중률, 사용 용량, 변환/합쳐진 요청 수)
+     */
+    @GetMapping("/images/stats")
+    public ResponseEntity<?> getImageVariantStats(Authentication authentication) {
+        if (!isAdmin(authentication)) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(imageVariantService.getStats());
+    }
+
+    // ========================================
+    // 페이지 메모리 캐시
+    // ========================================
+
+    /**
+     * /uploads 페이지 메모리 캐시 통계 (적중률, 사용 용량, 교체/입장 거절 수)
+     */
+    @GetMapping("/page-cache/stats")
+    public ResponseEntity<?> getPageCacheStats(Authentication authentication) {
+        if (!isAdmin(authentication)) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(pageCacheService.getStats());
+    }
+
+    // ========================================
+    // 열람 권한 캐시
+    // ========================================
+
+    /**
+     * 구매 볼륨/볼륨 정책 캐시 통계
+     */
+    @GetMapping("/entitlements/stats")
+    public ResponseEntity<?> getEntitlementStats(Authentication authentication) {
+        if (!isAdmin(authentication)) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(entitlementService.getStats());
+    }
+
+    // ========================================
+    // 카탈로그 캐시
+    // ========================================
+
+    /**
+     * 시리즈/볼륨 상세 캐시 통계 (항목 수, 적중률, 교체 횟수)
+     */
+    @GetMapping("/catalog-cache/stats")
+    public ResponseEntity<?> getCatalogCacheStats(Authentication authentication) {
+        if (!isAdmin(authentication)) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(catalogCacheService.getStats());
+    }
+
+    /**
+     * 제목 검색 색인 통계 (색인된 시리즈/볼륨 수, 토큰 수)
+     */
+    @GetMapping("/catalog-search/stats")
+    public ResponseEntity<?> getCatalogSearchStats(Authentication authentication) {
+        if (!isAdmin(authentication)) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(catalogSearchService.getStats());
+    }
+
+    // ========================================
+    // Helper 메서드
+    // ========================================
+
+    private boolean isAdmin(Authentication authentication) {
+        return authentication != null
+                && authentication.getPrincipal() instanceof User user
+                && user.getRole() == UserRole.ADMIN;
+    }
+
+    private ResponseEntity<?> forbidden() {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of("code", 1, "msg", "관리자 권한이 필요합니다"));
+    }
+}
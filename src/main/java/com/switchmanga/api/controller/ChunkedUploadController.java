@@ -0,0 +1,169 @@
+package com.switchmanga.api.controller;
+
+import com.switchmanga.api.dto.upload.ChunkUploadSessionResponse;
+import com.switchmanga.api.dto.upload.UploadJobResponse;
+import com.switchmanga.api.dto.upload.VolumeUploadRequest;
+import com.switchmanga.api.service.ChunkedUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+/**
+ * 이어 올리기 가능한 청크 업로드 API
+ *
+ * 1. POST   /api/v1/upload/sessions                      세션 생성
+ * 2. PUT    /api/v1/upload/sessions/{uploadId}/chunks/{n} 청크 업로드 (X-Chunk-Checksum: SHA-256)
+ * 3. GET    /api/v1/upload/sessions/{uploadId}           수신 상태/offset 조회 (재개 시)
+ * 4. POST   /api/v1/upload/sessions/{uploadId}/complete  Volume 정보와 함께 완료 → 업로드 작업 등록
+ * 5. DELETE /api/v1/upload/sessions/{uploadId}           업로드 취소
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/upload/sessions")
+@RequiredArgsConstructor
+public class ChunkedUploadController {
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    /**
+     * 업로드 세션 생성
+     *
+     * @param fileName 원본 파일명
+     * @param totalSize 전체 파일 크기 (bytes)
+     * @param chunkSize 청크 크기 (선택, 기본 8MB)
+     * @param sha256 전체 파일 SHA-256 (선택, 완료 시 검증)
+     */
+    @PostMapping
+    public ResponseEntity<ChunkUploadSessionResponse> createSession(
+            @RequestParam("fileName") String fileName,
+            @RequestParam("totalSize") long totalSize,
+            @RequestParam(value = "chunkSize", required = false) Integer chunkSize,
+            @RequestParam(value = "sha256", required = false) String sha256) {
+
+        log.info("Chunk upload session request: {} ({}MB)", fileName, totalSize / 1024 / 1024);
+
+        try {
+            ChunkUploadSessionResponse response = chunkedUploadService.createSession(
+                    fileName, totalSize, chunkSize, sha256);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ChunkUploadSessionResponse.failure(e.getMessage()));
+        } catch (IOException e) {
+            log.error("Chunk upload session creation failed", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ChunkUploadSessionResponse.failure("세션 생성 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 세션 상태 조회 (수신된 청크 목록, 연속 수신 offset)
+     */
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<ChunkUploadSessionResponse> getSession(@PathVariable String uploadId) {
+        try {
+            ChunkUploadSessionResponse response = chunkedUploadService.getStatus(uploadId);
+            if (response == null) {
+                return notFound(uploadId);
+            }
+            return ResponseEntity.ok(response);
+        } catch (IOException e) {
+            log.error("Chunk upload session lookup failed: {}", uploadId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ChunkUploadSessionResponse.failure(e.getMessage()));
+        }
+    }
+
+    /**
+     * 청크 업로드 (본문 = 청크 바이트 그대로, application/octet-stream)
+     *
+     * @param index 청크 번호 (0부터)
+     * @param checksum 청크 SHA-256 (hex)
+     */
+    @PutMapping(value = "/{uploadId}/chunks/{index}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ChunkUploadSessionResponse> uploadChunk(
+            @PathVariable String uploadId,
+            @PathVariable int index,
+            @RequestHeader(value = "X-Chunk-Checksum", required = false) String checksum,
+            HttpServletRequest request) {
+
+        try {
+            ChunkUploadSessionResponse response = chunkedUploadService.writeChunk(
+                    uploadId, index, request.getInputStream(), checksum);
+            if (response == null) {
+                return notFound(uploadId);
+            }
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Chunk rejected: {} #{} - {}", uploadId, index, e.getMessage());
+            return ResponseEntity.badRequest().body(ChunkUploadSessionResponse.failure(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ChunkUploadSessionResponse.failure(e.getMessage()));
+        } catch (IOException e) {
+            // 대부분 전송 중 연결 끊김 - 클라이언트는 같은 청크를 다시 보내면 됨
+            log.warn("Chunk upload interrupted: {} #{} - {}", uploadId, index, e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ChunkUploadSessionResponse.failure("청크 저장 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 업로드 완료 → 청크를 합쳐 Volume 업로드 작업 등록
+     * - Volume 정보는 /api/v1/upload/volume 과 같은 폼 파라미터로 전달
+     *
+     * @param coverImage 표지 이미지 파일
+     * @return 업로드 작업 정보 (GET /api/v1/upload/jobs/{jobId} 로 진행 상황 조회)
+     */
+    @PostMapping(value = "/{uploadId}/complete", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<UploadJobResponse> complete(
+            @PathVariable String uploadId,
+            @RequestParam(value = "coverImage", required = false) MultipartFile coverImage,
+            @ModelAttribute VolumeUploadRequest request) {
+
+        log.info("Chunk upload complete request: {} (Series ID: {})", uploadId, request.getSeriesId());
+
+        try {
+            UploadJobResponse response = chunkedUploadService.complete(uploadId, request, coverImage);
+            if (response == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(UploadJobResponse.failure("업로드 세션을 찾을 수 없습니다: " + uploadId));
+            }
+            if (!response.isSuccess()) {
+                return ResponseEntity.badRequest().body(response);
+            }
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(UploadJobResponse.failure(e.getMessage()));
+        } catch (IOException e) {
+            log.error("Chunk upload completion failed: {}", uploadId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(UploadJobResponse.failure("업로드 완료 처리 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 업로드 취소
+     */
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Void> cancel(@PathVariable String uploadId) {
+        try {
+            return chunkedUploadService.cancel(uploadId)
+                    ? ResponseEntity.noContent().build()
+                    : ResponseEntity.notFound().build();
+        } catch (IOException e) {
+            log.error("Chunk upload cancel failed: {}", uploadId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    private ResponseEntity<ChunkUploadSessionResponse> notFound(String uploadId) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ChunkUploadSessionResponse.failure("업로드 세션을 찾을 수 없습니다: " + uploadId));
+    }
+}
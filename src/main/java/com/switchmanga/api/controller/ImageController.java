@@ -0,0 +1,88 @@
+package com.switchmanga.api.controller;
+
+import com.switchmanga.api.service.ImageVariantService;
+import com.switchmanga.api.service.StaticFileService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 화면 크기별 이미지 (/uploads/...?w=720)
+ *
+ * w 파라미터가 있을 때만 처리하고, 없으면 StaticFileController가 원본을 응답한다.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class ImageController {
+
+    private static final String UPLOADS_PREFIX = "/uploads/";
+
+    private final ImageVariantService imageVariantService;
+
+    @GetMapping(value = "/uploads/**", params = "w")
+    public ResponseEntity<Resource> getResized(
+            @RequestParam("w") int width,
+            HttpServletRequest request,
+            WebRequest webRequest) {
+
+        if (width <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String path = UriUtils.decode(
+                request.getRequestURI().substring(request.getContextPath().length()), StandardCharsets.UTF_8);
+        if (!path.startsWith(UPLOADS_PREFIX)) {
+            return ResponseEntity.notFound().build();
+        }
+        String relativePath = path.substring(UPLOADS_PREFIX.length());
+
+        try {
+            ImageVariantService.Variant variant = imageVariantService.resolve(relativePath, width);
+            if (variant == null) {
+                return ResponseEntity.notFound().build();
+            }
+
+            String etag = "\"" + variant.key() + "\"";
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+
+            // 해시 경로(blobs/)는 내용이 바뀌지 않으므로 장기 캐시
+            CacheControl cacheControl = StaticFileService.isContentAddressed(relativePath)
+                    ? CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable()
+                    : CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
+
+            Resource resource = new FileSystemResource(variant.path());
+            MediaType contentType = MediaTypeFactory.getMediaType(resource)
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM);
+
+            return ResponseEntity.ok()
+                    .contentType(contentType)
+                    .contentLength(resource.contentLength())
+                    .cacheControl(cacheControl)
+                    .eTag(etag)
+                    .body(resource);
+
+        } catch (IOException e) {
+            log.error("Image resize failed: {} (w={})", relativePath, width, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
@@ -1,14 +1,29 @@
 package com.switchmanga.api.controller;
 
+import com.switchmanga.api.dto.page.PageResponse;
 import com.switchmanga.api.entity.Page;
+import com.switchmanga.api.entity.User;
+import com.switchmanga.api.service.EntitlementService;
+import com.switchmanga.api.service.PageBundleService;
+import com.switchmanga.api.service.PageImageService;
 import com.switchmanga.api.service.PageService;
+import com.switchmanga.api.service.VolumeManifestService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,19 +34,78 @@ import java.util.Map;
 public class PageController {
 
     private final PageService pageService;
+    private final EntitlementService entitlementService;
+    private final VolumeManifestService volumeManifestService;
+    private final PageBundleService pageBundleService;
+    private final PageImageService pageImageService;
 
-    // 1. 권별 페이지 목록 조회
+    // 묶음 요청 한 번에 보낼 최대 페이지 수
+    @Value("${reader.bundle.max-pages:32}")
+    private int bundleMaxPages;
+
+    // 1. 권별 페이지 목록 조회 (읽을 수 없는 페이지는 이미지 경로/해시 제외)
     @GetMapping("/volume/{volumeId}")
-    public ResponseEntity<List<Page>> getPagesByVolume(@PathVariable Long volumeId) {
-        List<Page> pages = pageService.getPagesByVolume(volumeId);
-        return ResponseEntity.ok(pages);
+    public ResponseEntity<List<PageResponse>> getPagesByVolume(
+            @PathVariable Long volumeId,
+            @AuthenticationPrincipal User user) {
+        try {
+            List<PageResponse> pages = pageService.getPagesByVolume(volumeId).stream()
+                    .map(page -> PageResponse.from(page, volumeId,
+                            entitlementService.canRead(user, volumeId, page.getPageNumber())))
+                    .toList();
+            return ResponseEntity.ok(pages);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    // 1-1. 볼륨 읽기 매니페스트 (페이지 순서/크기/해시/무료 페이지, ?v=버전 이면 immutable 캐시)
+    //      구매하지 않은 유료 볼륨은 무료 페이지까지만 해시 포함
+    @GetMapping("/volume/{volumeId}/manifest")
+    public ResponseEntity<byte[]> getManifest(
+            @PathVariable Long volumeId,
+            @RequestParam(value = "v", required = false) String version,
+            @AuthenticationPrincipal User user,
+            ServletWebRequest webRequest) {
+        try {
+            boolean full = entitlementService.canReadAll(user, volumeId);
+            VolumeManifestService.Manifest manifest = volumeManifestService.getManifest(volumeId, full);
+
+            String etag = "\"" + manifest.version() + "\"";
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+
+            CacheControl cacheControl = manifest.version().equals(version)
+                    ? CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable()
+                    : CacheControl.noCache().cachePrivate();
+
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .cacheControl(cacheControl)
+                    .eTag(etag)
+                    .body(manifest.json());
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
     }
 
-    // 2. 페이지 상세 조회
+    // 2. 페이지 상세 조회 (읽을 수 없는 페이지는 이미지 경로/해시 제외)
     @GetMapping("/{id}")
-    public ResponseEntity<Page> getPageById(@PathVariable Long id) {
-        Page page = pageService.getPageById(id);
-        return ResponseEntity.ok(page);
+    public ResponseEntity<PageResponse> getPageById(
+            @PathVariable Long id,
+            @AuthenticationPrincipal User user) {
+        try {
+            Page page = pageService.getPageById(id);
+            Long volumeId = page.getVolume().getId();
+            boolean readable = entitlementService.canRead(user, volumeId, page.getPageNumber());
+            return ResponseEntity.ok(PageResponse.from(page, volumeId, readable));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
     }
 
     // 3. 권별 페이지 개수
@@ -41,6 +115,75 @@ public class PageController {
         return ResponseEntity.ok(count);
     }
 
+    // 3-1. 페이지 이미지 (볼륨 팩 파일에서 바로 전송, 팩이 없으면 페이지 이미지 파일에서 전송 - PageImageService)
+    //      구매하지 않은 유료 볼륨은 무료 페이지까지만
+    @GetMapping("/volume/{volumeId}/image/{pageNumber}")
+    public void getPageImage(
+            @PathVariable Long volumeId,
+            @PathVariable int pageNumber,
+            @AuthenticationPrincipal User user,
+            ServletWebRequest webRequest,
+            HttpServletResponse response) throws IOException {
+        try {
+            if (!entitlementService.canRead(user, volumeId, pageNumber)) {
+                response.sendError(HttpStatus.FORBIDDEN.value(), "구매가 필요한 페이지입니다");
+                return;
+            }
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.NOT_FOUND.value(), e.getMessage());
+            return;
+        }
+
+        pageImageService.write(volumeId, pageNumber, "private, max-age=86400", webRequest, response);
+    }
+
+    // 3-2. 여러 페이지 묶음 (from부터 count장, 프레임 형식은 PageBundleService 참고)
+    //      읽을 수 없는 페이지가 나오면 그 앞까지만 전송
+    @GetMapping("/volume/{volumeId}/bundle")
+    public void getPageBundle(
+            @PathVariable Long volumeId,
+            @RequestParam(defaultValue = "1") int from,
+            @RequestParam(defaultValue = "8") int count,
+            @AuthenticationPrincipal User user,
+            HttpServletResponse response) throws IOException {
+
+        if (from < 1 || count < 1) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "from, count는 1 이상이어야 합니다");
+            return;
+        }
+        int lastPage = from + Math.min(count, bundleMaxPages) - 1;
+        try {
+            if (!entitlementService.canRead(user, volumeId, from)) {
+                response.sendError(HttpStatus.FORBIDDEN.value(), "구매가 필요한 페이지입니다");
+                return;
+            }
+            for (int pageNumber = from + 1; pageNumber <= lastPage; pageNumber++) {
+                if (!entitlementService.canRead(user, volumeId, pageNumber)) {
+                    lastPage = pageNumber - 1;
+                    break;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.NOT_FOUND.value(), e.getMessage());
+            return;
+        }
+
+        try (PageBundleService.PageBundle bundle = pageBundleService.open(volumeId, from, lastPage)) {
+            if (bundle.getPageCount() == 0) {
+                response.sendError(HttpStatus.NOT_FOUND.value(), "페이지를 찾을 수 없습니다");
+                return;
+            }
+
+            response.setContentType(PageBundleService.CONTENT_TYPE);
+            response.setContentLengthLong(bundle.getContentLength());
+            response.setHeader("X-Page-Count", String.valueOf(bundle.getPageCount()));
+            response.setHeader("X-Last-Page", String.valueOf(bundle.getLastPage()));
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-store");
+
+            bundle.writeTo(Channels.newChannel(response.getOutputStream()));
+        }
+    }
+
     // 4. 단일 페이지 생성
     @PostMapping
     public ResponseEntity<Page> createPage(
@@ -87,7 +230,8 @@ public class PageController {
             consumes = "multipart/form-data")
     public ResponseEntity<Map<String, Object>> uploadZip(
             @PathVariable Long volumeId,
-            @RequestParam("file") MultipartFile zipFile) {
+            @RequestParam("file") MultipartFile zipFile,
+            @AuthenticationPrincipal User user) {
 
         try {
             // ZIP 파일 검증
@@ -110,7 +254,10 @@ public class PageController {
             response.put("message", "ZIP 파일이 성공적으로 업로드되고 페이지가 추출되었습니다.");
             response.put("volumeId", volumeId);
             response.put("totalPages", extractedPages.size());
-            response.put("pages", extractedPages);
+            response.put("pages", extractedPages.stream()
+                    .map(page -> PageResponse.from(page, volumeId,
+                            entitlementService.canRead(user, volumeId, page.getPageNumber())))
+                    .toList());
 
             return ResponseEntity.ok(response);
 
@@ -126,4 +273,4 @@ public class PageController {
             return ResponseEntity.badRequest().body(errorResponse);
         }
     }
-}
\ No newline at end of file
+}
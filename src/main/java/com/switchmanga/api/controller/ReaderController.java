@@ -0,0 +1,90 @@
+package com.switchmanga.api.controller;
+
+import com.switchmanga.api.dto.reader.PageTokenResponse;
+import com.switchmanga.api.entity.User;
+import com.switchmanga.api.entity.Volume;
+import com.switchmanga.api.security.PageUrlSigner;
+import com.switchmanga.api.service.EntitlementService;
+import com.switchmanga.api.service.PageImageService;
+import com.switchmanga.api.service.VolumeService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * 뷰어 API
+ *
+ * - 토큰 발급(인증 필요): 볼륨의 읽을 수 있는 페이지 범위에 대한 서명 토큰
+ *   (무료 볼륨/구매자는 전체, 그 외는 무료 페이지까지)
+ * - 페이지 이미지(인증 불필요): 서명 토큰만 검증하고 볼륨 팩에서 바로 전송 (JWT/DB 조회 없음, 팩이 없는 볼륨만 DB 조회)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/reader")
+@RequiredArgsConstructor
+public class ReaderController {
+
+    private final PageUrlSigner pageUrlSigner;
+    private final VolumeService volumeService;
+    private final EntitlementService entitlementService;
+    private final PageImageService pageImageService;
+
+    /**
+     * 페이지 서명 토큰 발급
+     */
+    @GetMapping("/volumes/{volumeId}/token")
+    public ResponseEntity<PageTokenResponse> issueToken(
+            @PathVariable Long volumeId,
+            @AuthenticationPrincipal User user) {
+        try {
+            Volume volume = volumeService.getVolumeById(volumeId);
+            if (volume.getTotalPages() == null || volume.getTotalPages() <= 0) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(PageTokenResponse.failure("페이지가 없는 볼륨입니다"));
+            }
+            int lastPage = entitlementService.readableLastPage(user, volume);
+            if (lastPage <= 0) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(PageTokenResponse.failure("구매가 필요한 볼륨입니다"));
+            }
+
+            PageUrlSigner.SignedRange signed = pageUrlSigner.sign(volumeId, 1, lastPage);
+            return ResponseEntity.ok(PageTokenResponse.success(volumeId, signed.token(),
+                    signed.firstPage(), signed.lastPage(), signed.expiresAt()));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(PageTokenResponse.failure(e.getMessage()));
+        }
+    }
+
+    /**
+     * 페이지 이미지 (서명 토큰 t 필요)
+     */
+    @GetMapping("/pages/{volumeId}/{pageNumber}")
+    public void getPage(
+            @PathVariable Long volumeId,
+            @PathVariable int pageNumber,
+            @RequestParam(value = "t", required = false) String token,
+            ServletWebRequest webRequest,
+            HttpServletResponse response) throws IOException {
+
+        long expiresAt = pageUrlSigner.verify(volumeId, pageNumber, token);
+        if (expiresAt < 0) {
+            response.sendError(HttpStatus.FORBIDDEN.value(), "유효하지 않거나 만료된 페이지 토큰입니다");
+            return;
+        }
+
+        // 토큰 만료까지만 브라우저 캐시 (URL에 토큰이 포함되어 공유 캐시 대상 아님)
+        long maxAge = Math.max(0, expiresAt - Instant.now().getEpochSecond());
+        pageImageService.write(volumeId, pageNumber, "private, max-age=" + maxAge, webRequest, response);
+    }
+}
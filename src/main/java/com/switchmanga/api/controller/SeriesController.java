@@ -1,5 +1,9 @@
 package com.switchmanga.api.controller;
 
+import com.switchmanga.api.dto.response.CursorPage;
+import com.switchmanga.api.dto.series.SeriesInfoResponse;
+import com.switchmanga.api.dto.series.SeriesSuggestResponse;
+import com.switchmanga.api.dto.series.SeriesSummaryResponse;
 import com.switchmanga.api.entity.Series;
 import com.switchmanga.api.service.SeriesService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,16 +28,25 @@ public class SeriesController {
 
     @Operation(
         summary = "전체 시리즈 조회",
-        description = "시스템에 등록된 모든 시리즈를 조회합니다."
+        description = "시스템에 등록된 시리즈를 최신순으로 조회합니다. (커서 기반 페이지)"
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 커서"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping
-    public ResponseEntity<List<Series>> getAllSeries() {
-        List<Series> series = seriesService.getAllSeries();
-        return ResponseEntity.ok(series);
+    public ResponseEntity<CursorPage<SeriesSummaryResponse>> getAllSeries(
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+        @RequestParam(required = false) Integer size
+    ) {
+        try {
+            return ResponseEntity.ok(seriesService.getAllSeries(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @Operation(
@@ -46,11 +59,11 @@ public class SeriesController {
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<Series> getSeriesById(
+    public ResponseEntity<SeriesInfoResponse> getSeriesById(
         @Parameter(description = "시리즈 ID", required = true, example = "1")
         @PathVariable Long id
     ) {
-        Series series = seriesService.getSeriesById(id);
+        SeriesInfoResponse series = seriesService.getSeriesInfo(id);
         return ResponseEntity.ok(series);
     }
 
@@ -63,61 +76,104 @@ public class SeriesController {
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/publisher/{publisherId}")
-    public ResponseEntity<List<Series>> getSeriesByPublisher(
+    public ResponseEntity<List<SeriesSummaryResponse>> getSeriesByPublisher(
         @Parameter(description = "출판사 ID", required = true, example = "1")
         @PathVariable Long publisherId
     ) {
-        List<Series> series = seriesService.getSeriesByPublisher(publisherId);
+        List<SeriesSummaryResponse> series = seriesService.getSeriesByPublisher(publisherId);
         return ResponseEntity.ok(series);
     }
 
     @Operation(
         summary = "활성화된 시리즈 조회",
-        description = "활성화된 시리즈 목록만 조회합니다."
+        description = "활성화된 시리즈 목록만 최신순으로 조회합니다. (커서 기반 페이지)"
     )
     @GetMapping("/active")
-    public ResponseEntity<List<Series>> getActiveSeries() {
-        List<Series> series = seriesService.getActiveSeries();
-        return ResponseEntity.ok(series);
+    public ResponseEntity<CursorPage<SeriesSummaryResponse>> getActiveSeries(
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+        @RequestParam(required = false) Integer size
+    ) {
+        try {
+            return ResponseEntity.ok(seriesService.getActiveSeries(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @Operation(
         summary = "상태별 시리즈 조회",
-        description = "특정 상태(연재중/완결/중단)의 시리즈를 조회합니다."
+        description = "특정 상태(연재중/완결/중단)의 시리즈를 최신순으로 조회합니다. (커서 기반 페이지)"
     )
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<Series>> getSeriesByStatus(
+    public ResponseEntity<CursorPage<SeriesSummaryResponse>> getSeriesByStatus(
         @Parameter(description = "시리즈 상태", required = true, example = "ONGOING")
-        @PathVariable String status
+        @PathVariable String status,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+        @RequestParam(required = false) Integer size
     ) {
-        List<Series> series = seriesService.getSeriesByStatus(status);
-        return ResponseEntity.ok(series);
+        try {
+            return ResponseEntity.ok(seriesService.getSeriesByStatus(status, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @Operation(
         summary = "제목으로 시리즈 검색",
-        description = "제목으로 시리즈를 검색합니다. (부분 일치)"
+        description = "제목(한/영/일)으로 시리즈를 검색합니다. (부분 일치, 띄어쓰기 무시, 관련도 순 커서 기반 페이지)"
     )
     @GetMapping("/search")
-    public ResponseEntity<List<Series>> searchSeriesByTitle(
+    public ResponseEntity<CursorPage<SeriesSummaryResponse>> searchSeriesByTitle(
         @Parameter(description = "검색할 제목", required = true, example = "원피스")
-        @RequestParam String title
+        @RequestParam String title,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+        @RequestParam(required = false) Integer size
     ) {
-        List<Series> series = seriesService.searchSeriesByTitle(title);
-        return ResponseEntity.ok(series);
+        try {
+            return ResponseEntity.ok(seriesService.searchSeriesByTitle(title, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @Operation(
         summary = "작가명으로 시리즈 검색",
-        description = "작가명으로 시리즈를 검색합니다. (부분 일치)"
+        description = "작가/그림 작가명으로 시리즈를 검색합니다. (부분 일치, 관련도 순 커서 기반 페이지)"
     )
     @GetMapping("/search/author")
-    public ResponseEntity<List<Series>> searchSeriesByAuthor(
+    public ResponseEntity<CursorPage<SeriesSummaryResponse>> searchSeriesByAuthor(
         @Parameter(description = "검색할 작가명", required = true, example = "오다")
-        @RequestParam String author
+        @RequestParam String author,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+        @RequestParam(required = false) Integer size
     ) {
-        List<Series> series = seriesService.searchSeriesByAuthor(author);
-        return ResponseEntity.ok(series);
+        try {
+            return ResponseEntity.ok(seriesService.searchSeriesByAuthor(author, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(
+        summary = "시리즈 자동완성",
+        description = "입력 중인 접두어로 시리즈를 제안합니다. (제목 한/영/일, 작가명, 띄어쓰기 무시, 인기도 순)"
+    )
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SeriesSuggestResponse>> suggestSeries(
+        @Parameter(description = "입력 중인 검색어", required = true, example = "원피")
+        @RequestParam String q,
+        @Parameter(description = "최대 제안 수 (기본 10, 최대 20)", example = "10")
+        @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(seriesService.suggestSeries(q, limit));
     }
 
     @Operation(
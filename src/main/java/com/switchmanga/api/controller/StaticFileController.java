@@ -0,0 +1,197 @@
+package com.switchmanga.api.controller;
+
+import com.switchmanga.api.service.PageCacheService;
+import com.switchmanga.api.service.StaticFileService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 업로드 파일 정적 응답 (/uploads/**)
+ *
+ * - 조건부 요청(If-None-Match / If-Modified-Since)은 파일 본문을 열지 않고 304로 응답
+ * - 해시 경로는 Cache-Control: immutable 장기 캐시, 그 외는 max-age 후 ETag로 재검증
+ * - 단일 Range 요청은 206 (여러 구간 요청은 전체 응답)
+ * - 자주 읽는 파일은 메모리 캐시(PageCacheService)에서 바로 전송 (Range 요청은 캐시를 거치지 않음)
+ * - 그 외 큰 파일은 Tomcat sendfile로 위임하고, 지원하지 않으면 FileChannel.transferTo로 전송
+ * - ?w= 요청은 ImageController가 처리
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class StaticFileController {
+
+    private static final String UPLOADS_PREFIX = "/uploads/";
+
+    // Tomcat sendfile 요청 속성 (DefaultServlet과 같은 방식)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 이 크기 이상만 sendfile 사용 (작은 파일은 직접 쓰는 편이 빠름)
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+
+    private static final long IMMUTABLE_MAX_AGE_SECONDS = 365L * 24 * 60 * 60;
+
+    private final StaticFileService staticFileService;
+    private final PageCacheService pageCacheService;
+
+    // 해시 경로가 아닌 파일의 캐시 시간 (이후 ETag로 재검증)
+    @Value("${file.upload.cache-max-age-seconds:3600}")
+    private long maxAgeSeconds;
+
+    @GetMapping("/uploads/**")
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String path = UriUtils.decode(
+                request.getRequestURI().substring(request.getContextPath().length()), StandardCharsets.UTF_8);
+        if (!path.startsWith(UPLOADS_PREFIX)) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        String relativePath = path.substring(UPLOADS_PREFIX.length());
+        StaticFileService.StaticFile file = staticFileService.resolve(relativePath);
+        if (file == null) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        // 1. 캐시 헤더 + 조건부 요청 (본문을 열지 않음)
+        String etag = "\"" + file.etag() + "\"";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, file.immutable()
+                ? "public, max-age=" + IMMUTABLE_MAX_AGE_SECONDS + ", immutable"
+                : "public, max-age=" + maxAgeSeconds);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (new ServletWebRequest(request, response).checkNotModified(etag, file.lastModified())) {
+            return;
+        }
+
+        MediaType contentType = MediaTypeFactory.getMediaType(file.filename())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+        response.setContentType(contentType.toString());
+
+        // 2. Range
+        long start = 0;
+        long length = file.length();
+        HttpRange range = singleRange(request, etag, file);
+
+        if (range != null) {
+            try {
+                start = range.getRangeStart(file.length());
+                length = range.getRangeEnd(file.length()) - start + 1;
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + file.length());
+                response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + start + "-" + (start + length - 1) + "/" + file.length());
+        }
+        response.setContentLengthLong(length);
+
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+
+        // 3. 본문
+        // 부분 요청은 캐시에 올리지 않고 파일 구간에서 바로 전송
+        ByteBuffer cached = range == null ? pageCacheService.lookup(relativePath, file) : null;
+        if (cached != null) {
+            writeBuffer(cached, start, length, response);
+        } else if (file.path() == null) {
+            writeStream(file, start, length, response);
+        } else if (length >= SENDFILE_THRESHOLD && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, file.offset() + start);
+            request.setAttribute(SENDFILE_END, file.offset() + start + length);
+        } else {
+            writeRegion(file, start, length, response);
+        }
+    }
+
+    /**
+     * 처리할 단일 Range (없거나, 여러 구간이거나, If-Range가 맞지 않거나, 형식이 잘못되면 null → 전체 응답)
+     */
+    private HttpRange singleRange(HttpServletRequest request, String etag, StaticFileService.StaticFile file) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            long ifRangeDate = request.getDateHeader(HttpHeaders.IF_RANGE);
+            if (ifRangeDate == -1 || file.lastModified() / 1000 > ifRangeDate / 1000) {
+                return null;
+            }
+        }
+
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void writeRegion(StaticFileService.StaticFile file, long start, long length,
+                             HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = file.offset() + start;
+            long end = position + length;
+
+            while (position < end) {
+                long sent = channel.transferTo(position, end - position, target);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+            }
+        }
+    }
+
+    private void writeBuffer(ByteBuffer buffer, long start, long length,
+                             HttpServletResponse response) throws IOException {
+        buffer.position((int) start).limit((int) (start + length));
+        WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+
+    private void writeStream(StaticFileService.StaticFile file, long start, long length,
+                             HttpServletResponse response) throws IOException {
+        try (InputStream in = file.inflated().getInputStream()) {
+            OutputStream out = response.getOutputStream();
+            StreamUtils.copyRange(in, out, start, start + length - 1);
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package com.switchmanga.api.controller;
 
 import com.switchmanga.api.dto.upload.ImageUploadResponse;
+import com.switchmanga.api.dto.upload.UploadJobResponse;
 import com.switchmanga.api.dto.upload.VolumeUploadRequest;
-import com.switchmanga.api.dto.upload.VolumeUploadResponse;
 import com.switchmanga.api.dto.upload.ZipUploadResponse;
 import com.switchmanga.api.service.FileUploadService;
-import com.switchmanga.api.service.VolumeUploadService;
+import com.switchmanga.api.service.VolumeIngestService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -21,7 +21,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class UploadController {
 
     private final FileUploadService fileUploadService;
-    private final VolumeUploadService volumeUploadService;
+    private final VolumeIngestService volumeIngestService;
 
     /**
      * 이미지 업로드 API
@@ -81,13 +81,14 @@ public class UploadController {
      * - 표지 이미지 (필수)
      * - ZIP 파일 (선택)
      * - Volume 정보
+     * - 파일을 임시 보관한 뒤 202 Accepted + jobId 를 바로 반환하고, 처리는 백그라운드에서 진행
      *
      * @param coverImage 표지 이미지 파일 (필수)
      * @param zipFile ZIP 파일 (선택)
-     * @return Volume 업로드 결과
+     * @return 업로드 작업 정보 (GET /api/v1/upload/jobs/{jobId} 로 진행 상황 조회)
      */
     @PostMapping(value = "/volume", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<VolumeUploadResponse> uploadVolume(
+    public ResponseEntity<UploadJobResponse> uploadVolume(
             @RequestParam("coverImage") MultipartFile coverImage,
             @RequestParam(value = "zipFile", required = false) MultipartFile zipFile,
             @RequestParam("seriesId") Long seriesId,
@@ -137,12 +138,13 @@ public class UploadController {
                 .hasAction(hasAction)
                 .build();
 
-        VolumeUploadResponse response = volumeUploadService.uploadVolume(
-                request, coverImage, zipFile);
+        UploadJobResponse response = volumeIngestService.submit(request, coverImage, zipFile);
 
         if (response.isSuccess()) {
-            log.info("Volume uploaded successfully: ID={}", response.getVolumeId());
-            return ResponseEntity.ok(response);
+            log.info("Volume upload job queued: jobId={}", response.getJobId());
+            return ResponseEntity
+                    .status(HttpStatus.ACCEPTED)
+                    .body(response);
         } else {
             log.error("Volume upload failed: {}", response.getErrorMessage());
             return ResponseEntity
@@ -151,6 +153,49 @@ public class UploadController {
         }
     }
 
+    /**
+     * Volume 업로드 작업 상태 조회 API
+     *
+     * @param jobId 업로드 작업 ID
+     * @return 작업 상태/진행률
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<UploadJobResponse> getUploadJob(@PathVariable Long jobId) {
+        UploadJobResponse response = volumeIngestService.getJob(jobId);
+
+        if (response == null) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(UploadJobResponse.failure("업로드 작업을 찾을 수 없습니다: " + jobId));
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 실패한 Volume 업로드 작업 다시 실행 API
+     *
+     * @param jobId 업로드 작업 ID
+     * @return 작업 상태
+     */
+    @PostMapping("/jobs/{jobId}/retry")
+    public ResponseEntity<UploadJobResponse> retryUploadJob(@PathVariable Long jobId) {
+        UploadJobResponse response = volumeIngestService.retry(jobId);
+
+        if (response == null) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body(UploadJobResponse.failure("업로드 작업을 찾을 수 없습니다: " + jobId));
+        }
+        if (!response.isSuccess()) {
+            return ResponseEntity
+                    .status(HttpStatus.CONFLICT)
+                    .body(response);
+        }
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(response);
+    }
+
     /**
      * 업로드 테스트 (개발용)
      */
@@ -1,12 +1,28 @@
 package com.switchmanga.api.controller;
 
+import com.switchmanga.api.dto.response.CursorPage;
+import com.switchmanga.api.dto.volume.VolumeInfoResponse;
+import com.switchmanga.api.dto.volume.VolumeSummaryResponse;
+import com.switchmanga.api.entity.User;
 import com.switchmanga.api.entity.Volume;
+import com.switchmanga.api.service.EntitlementService;
+import com.switchmanga.api.service.VolumeDownloadService;
 import com.switchmanga.api.service.VolumeService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -15,69 +31,148 @@ import java.util.List;
 public class VolumeController {
 
     private final VolumeService volumeService;
+    private final VolumeDownloadService volumeDownloadService;
+    private final EntitlementService entitlementService;
 
-    // 전체 Volume 조회
+    // 전체 Volume 조회 (최신순, 커서 기반 페이지: ?cursor={nextCursor}&size=20, 최대 100)
     @GetMapping
-    public ResponseEntity<List<Volume>> getAllVolumes() {
-        List<Volume> volumes = volumeService.getAllVolumes();
-        return ResponseEntity.ok(volumes);
+    public ResponseEntity<CursorPage<VolumeSummaryResponse>> getAllVolumes(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(volumeService.getAllVolumes(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // Volume 상세 조회
     @GetMapping("/{id}")
-    public ResponseEntity<Volume> getVolumeById(@PathVariable Long id) {
-        Volume volume = volumeService.getVolumeById(id);
+    public ResponseEntity<VolumeInfoResponse> getVolumeById(@PathVariable Long id) {
+        VolumeInfoResponse volume = volumeService.getVolumeInfo(id);
         return ResponseEntity.ok(volume);
     }
 
+    // Volume 오프라인 다운로드 (STORED ZIP, 단일 Range 이어 받기 지원)
+    @GetMapping("/{id}/download")
+    public void downloadVolume(
+            @PathVariable Long id,
+            @AuthenticationPrincipal User user,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        try {
+            if (!entitlementService.canReadAll(user, id)) {
+                response.sendError(HttpStatus.FORBIDDEN.value(), "구매한 볼륨만 다운로드할 수 있습니다");
+                return;
+            }
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.NOT_FOUND.value(), e.getMessage());
+            return;
+        }
+
+        try (VolumeDownloadService.VolumeDownload download = volumeDownloadService.open(id)) {
+            String etag = "\"" + download.getEtag() + "\"";
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+            if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+                return;
+            }
+
+            response.setContentType("application/zip");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename(download.getFilename(), StandardCharsets.UTF_8).build().toString());
+
+            long total = download.getLength();
+            long start = 0;
+            long length = total;
+
+            // If-Range가 현재 ETag와 다르면 전체 응답
+            String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+            String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+            if (rangeHeader != null && (ifRange == null || ifRange.equals(etag))) {
+                try {
+                    List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+                    if (ranges.size() == 1) {
+                        start = ranges.get(0).getRangeStart(total);
+                        length = ranges.get(0).getRangeEnd(total) - start + 1;
+                        response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                        response.setHeader(HttpHeaders.CONTENT_RANGE,
+                                "bytes " + start + "-" + (start + length - 1) + "/" + total);
+                    }
+                } catch (IllegalArgumentException e) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + total);
+                    response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    return;
+                }
+            }
+            response.setContentLengthLong(length);
+
+            download.write(start, length, Channels.newChannel(response.getOutputStream()));
+
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.NOT_FOUND.value(), e.getMessage());
+        }
+    }
+
     // 시리즈별 Volume 조회
     @GetMapping("/series/{seriesId}")
-    public ResponseEntity<List<Volume>> getVolumesBySeries(@PathVariable Long seriesId) {
-        List<Volume> volumes = volumeService.getVolumesBySeries(seriesId);
+    public ResponseEntity<List<VolumeSummaryResponse>> getVolumesBySeries(@PathVariable Long seriesId) {
+        List<VolumeSummaryResponse> volumes = volumeService.getVolumesBySeries(seriesId);
         return ResponseEntity.ok(volumes);
     }
 
     // 시리즈별 Volume 조회 (권수 순서대로)
     @GetMapping("/series/{seriesId}/ordered")
-    public ResponseEntity<List<Volume>> getVolumesBySeriesOrdered(@PathVariable Long seriesId) {
-        List<Volume> volumes = volumeService.getVolumesBySeriesOrdered(seriesId);
+    public ResponseEntity<List<VolumeSummaryResponse>> getVolumesBySeriesOrdered(@PathVariable Long seriesId) {
+        List<VolumeSummaryResponse> volumes = volumeService.getVolumesBySeriesOrdered(seriesId);
         return ResponseEntity.ok(volumes);
     }
 
     // 특정 시리즈의 특정 권 조회
     @GetMapping("/series/{seriesId}/number/{volumeNumber}")
-    public ResponseEntity<Volume> getVolumeBySeriesAndNumber(
+    public ResponseEntity<VolumeInfoResponse> getVolumeBySeriesAndNumber(
             @PathVariable Long seriesId,
             @PathVariable Integer volumeNumber) {
-        Volume volume = volumeService.getVolumeBySeriesAndNumber(seriesId, volumeNumber);
+        VolumeInfoResponse volume = volumeService.getVolumeBySeriesAndNumber(seriesId, volumeNumber);
         return ResponseEntity.ok(volume);
     }
 
-    // 활성화된 Volume만 조회
+    // 활성화된 Volume만 조회 (최신순, 커서 기반 페이지)
     @GetMapping("/active")
-    public ResponseEntity<List<Volume>> getActiveVolumes() {
-        List<Volume> volumes = volumeService.getActiveVolumes();
-        return ResponseEntity.ok(volumes);
+    public ResponseEntity<CursorPage<VolumeSummaryResponse>> getActiveVolumes(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(volumeService.getActiveVolumes(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // 시리즈별 활성 Volume 조회
     @GetMapping("/series/{seriesId}/active")
-    public ResponseEntity<List<Volume>> getActiveVolumesBySeries(@PathVariable Long seriesId) {
-        List<Volume> volumes = volumeService.getActiveVolumesBySeries(seriesId);
+    public ResponseEntity<List<VolumeSummaryResponse>> getActiveVolumesBySeries(@PathVariable Long seriesId) {
+        List<VolumeSummaryResponse> volumes = volumeService.getActiveVolumesBySeries(seriesId);
         return ResponseEntity.ok(volumes);
     }
 
-    // 제목으로 검색
+    // 제목(한/영/일)으로 검색 (관련도 순, 커서 기반 페이지)
     @GetMapping("/search")
-    public ResponseEntity<List<Volume>> searchVolumesByTitle(@RequestParam String title) {
-        List<Volume> volumes = volumeService.searchVolumesByTitle(title);
-        return ResponseEntity.ok(volumes);
+    public ResponseEntity<CursorPage<VolumeSummaryResponse>> searchVolumesByTitle(
+            @RequestParam String title,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(volumeService.searchVolumesByTitle(title, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // ISBN으로 조회
     @GetMapping("/isbn/{isbn}")
-    public ResponseEntity<Volume> getVolumeByIsbn(@PathVariable String isbn) {
-        Volume volume = volumeService.getVolumeByIsbn(isbn);
+    public ResponseEntity<VolumeInfoResponse> getVolumeByIsbn(@PathVariable String isbn) {
+        VolumeInfoResponse volume = volumeService.getVolumeByIsbn(isbn);
         return ResponseEntity.ok(volume);
     }
 
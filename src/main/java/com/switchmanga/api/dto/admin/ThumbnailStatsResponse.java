@@ -0,0 +1,44 @@
+package com.switchmanga.api.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 썸네일 생성 파이프라인 상태 응답 DTO
+ * GET /api/v1/admin/thumbnails/stats
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThumbnailStatsResponse {
+
+    // ========================================
+    // 1. 작업 풀
+    // ========================================
+    private int poolSize;
+    private int activeThreads;
+    private int queueDepth;
+
+    // ========================================
+    // 2. 누적 처리 건수
+    // ========================================
+    private long generated;     // 새로 생성
+    private long reused;        // 같은 이미지의 기존 썸네일 재사용
+    private long skipped;       // 원본 없음 / 지원하지 않는 형식
+    private long failed;        // 디코딩/기록 실패
+
+    // ========================================
+    // 3. 처리량
+    // ========================================
+    private double averageRenderMillis;
+    private long generatedLastMinute;
+
+    // ========================================
+    // 4. 백필
+    // ========================================
+    private boolean backfillRunning;
+    private long backfillProcessed;
+}
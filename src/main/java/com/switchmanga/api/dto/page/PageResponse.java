@@ -0,0 +1,49 @@
+package com.switchmanga.api.dto.page;
+
+import com.switchmanga.api.entity.Page;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 페이지 정보
+ * GET /api/v1/pages/volume/{volumeId}, /api/v1/pages/{id} 응답에 사용
+ *
+ * 이미지는 권한 확인 엔드포인트 경로로만 알려주고, 읽을 수 없는 페이지는 이미지 경로/해시를 비움
+ * (저장소 경로나 해시로 유료 페이지를 받을 수 없도록)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponse {
+
+    private Long id;
+    private Long volumeId;
+    private Integer pageNumber;
+    private String imageUrl;
+    private String thumbnailUrl;
+    private Integer width;
+    private Integer height;
+    private Integer fileSize;
+    private String contentHash;
+    private LocalDateTime createdAt;
+
+    /**
+     * @param readable 호출한 사용자가 이 페이지를 읽을 수 있는지 (EntitlementService.canRead)
+     */
+    public static PageResponse from(Page page, Long volumeId, boolean readable) {
+        return new PageResponse(
+                page.getId(),
+                volumeId,
+                page.getPageNumber(),
+                readable ? "/api/v1/pages/volume/" + volumeId + "/image/" + page.getPageNumber() : null,
+                page.getThumbnailUrl(),
+                page.getWidth(),
+                page.getHeight(),
+                page.getFileSize(),
+                readable ? page.getContentHash() : null,
+                page.getCreatedAt());
+    }
+}
@@ -0,0 +1,79 @@
+package com.switchmanga.api.dto.reader;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageTokenResponse {
+
+    /**
+     * 요청 처리 성공 여부
+     */
+    private boolean success;
+
+    /**
+     * 볼륨 ID
+     */
+    private Long volumeId;
+
+    /**
+     * 페이지 서명 토큰 (페이지 요청의 t 파라미터)
+     */
+    private String token;
+
+    /**
+     * 토큰으로 읽을 수 있는 첫 페이지
+     */
+    private int firstPage;
+
+    /**
+     * 토큰으로 읽을 수 있는 마지막 페이지
+     */
+    private int lastPage;
+
+    /**
+     * 토큰 만료 시각 (epoch 초)
+     */
+    private long expiresAt;
+
+    /**
+     * 페이지 URL 템플릿 ({page}를 페이지 번호로 치환)
+     */
+    private String pageUrlTemplate;
+
+    /**
+     * 에러 메시지 (실패 시)
+     */
+    private String errorMessage;
+
+    /**
+     * 성공 응답 생성
+     */
+    public static PageTokenResponse success(Long volumeId, String token, int firstPage, int lastPage,
+                                            long expiresAt) {
+        return PageTokenResponse.builder()
+                .success(true)
+                .volumeId(volumeId)
+                .token(token)
+                .firstPage(firstPage)
+                .lastPage(lastPage)
+                .expiresAt(expiresAt)
+                .pageUrlTemplate("/api/v1/reader/pages/" + volumeId + "/{page}?t=" + token)
+                .build();
+    }
+
+    /**
+     * 실패 응답 생성
+     */
+    public static PageTokenResponse failure(String errorMessage) {
+        return PageTokenResponse.builder()
+                .success(false)
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
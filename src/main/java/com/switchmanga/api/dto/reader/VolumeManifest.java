@@ -0,0 +1,96 @@
+package com.switchmanga.api.dto.reader;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.switchmanga.api.entity.Page;
+import com.switchmanga.api.entity.Volume;
+import com.switchmanga.api.util.AvfFrameIndex;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 볼륨 읽기 매니페스트 (뷰어가 볼륨을 열 때 한 번 받는 페이지 목록)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VolumeManifest {
+
+    private Long volumeId;
+    private Integer totalPages;
+    private Boolean isFree;
+
+    /**
+     * 구매 없이 읽을 수 있는 마지막 페이지 (무료 볼륨이면 totalPages)
+     */
+    private Integer freePages;
+
+    /**
+     * 컷(패널) 단위 읽기 가능 여부 (frame.avf 를 컷 정보로 해석했으면 true)
+     */
+    private Boolean hasAction;
+
+    /**
+     * 업로드 ZIP에 frame.avf 가 있었는지 (지원하지 않는 레이아웃이라 hasAction 이 false여도 true)
+     */
+    private Boolean hasAvf;
+
+    private List<PageInfo> pages;
+
+    /**
+     * @param frames 컷 인덱스 (없으면 null)
+     * @param hasAvf 원본 frame.avf 보관 여부
+     * @param readableLastPage 이 페이지 이후는 해시를 넣지 않음 (해시로 원본 이미지 경로를 알 수 없도록)
+     */
+    public static VolumeManifest from(Volume volume, List<Page> pages, AvfFrameIndex frames, boolean hasAvf,
+                                      int readableLastPage) {
+        boolean free = Boolean.TRUE.equals(volume.getIsFree());
+        int freePages = volume.getFreePages() != null ? volume.getFreePages() : 0;
+
+        return VolumeManifest.builder()
+                .volumeId(volume.getId())
+                .totalPages(pages.size())
+                .isFree(free)
+                .freePages(free ? pages.size() : Math.min(freePages, pages.size()))
+                .hasAction(frames != null && !frames.isEmpty())
+                .hasAvf(hasAvf)
+                .pages(pages.stream()
+                        .map(page -> PageInfo.from(volume.getId(), page, frames, readableLastPage))
+                        .toList())
+                .build();
+    }
+
+    /**
+     * 페이지 정보
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class PageInfo {
+        private Integer pageNumber;
+        private String url;       // 권한 확인 후 팩에서 전송하는 이미지 경로
+        private Integer width;
+        private Integer height;
+        private Integer size;     // bytes
+        private String hash;      // SHA-256 (이미지 ETag와 같음, 읽을 수 있는 페이지만)
+        private List<float[]> frames;  // 컷 [x, y, w, h] 목록 (읽는 순서, 페이지 크기 대비 비율)
+
+        public static PageInfo from(Long volumeId, Page page, AvfFrameIndex frames, int readableLastPage) {
+            return PageInfo.builder()
+                    .pageNumber(page.getPageNumber())
+                    .url("/api/v1/pages/volume/" + volumeId + "/image/" + page.getPageNumber())
+                    .width(page.getWidth())
+                    .height(page.getHeight())
+                    .size(page.getFileSize())
+                    .hash(page.getPageNumber() <= readableLastPage ? page.getContentHash() : null)
+                    .frames(frames != null ? frames.getFrames(page.getPageNumber()) : null)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.switchmanga.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 커서 기반 목록 응답 (id 내림차순 = 최신순)
+ *
+ * - 다음 페이지는 마지막 항목 id보다 작은 행부터 읽음 (WHERE id < :cursor ORDER BY id DESC LIMIT n)
+ *   → OFFSET이 없어 몇 번째 페이지든 첫 페이지와 같은 비용, 중간에 행이 추가/삭제돼도 중복/누락 없음
+ * - size는 MAX_SIZE로 제한, 한 건 더 읽어 다음 페이지 존재 여부 판단
+ * - 검색 결과(관련도 순)는 ofRanked: 메모리 색인이 낸 id 순위에서 커서 = 다음 항목 위치
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private List<T> items;
+    private int size;
+    private boolean hasNext;
+
+    /**
+     * 다음 페이지 요청 시 ?cursor= 로 전달 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 요청 size 보정 (없으면 기본값, 1 ~ MAX_SIZE)
+     */
+    public static int sizeOf(Integer size) {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * 커서 → 검색 기준 id (없으면 처음부터)
+     *
+     * @throws IllegalArgumentException 잘못된 커서
+     */
+    public static long seekOf(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            long id = Long.parseLong(cursor.trim());
+            if (id <= 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+            return id;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+
+    /**
+     * 한 건 더 읽는 조회 범위 (다음 페이지 존재 여부 확인용, count 쿼리 없음)
+     */
+    public static Pageable fetchOf(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    /**
+     * size + 1 건까지 읽은 결과로 응답 생성
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, Long> idOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> items = hasNext ? fetched.subList(0, size) : fetched;
+
+        return CursorPage.<T>builder()
+                .items(items)
+                .size(items.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? String.valueOf(idOf.apply(items.get(items.size() - 1))) : null)
+                .build();
+    }
+
+    /**
+     * 관련도 순 id 목록으로 응답 생성 (해당 구간의 행만 loader 로 조회해서 순위대로 정렬)
+     *
+     * @param cursor 다음 항목 위치 (없으면 처음부터)
+     * @throws IllegalArgumentException 잘못된 커서
+     */
+    public static <T> CursorPage<T> ofRanked(List<Long> rankedIds, String cursor, int size,
+                                             Function<List<Long>, List<T>> loader, Function<T, Long> idOf) {
+        int from = Math.min(positionOf(cursor), rankedIds.size());
+        int to = Math.min(from + size, rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(from, to);
+
+        Map<Long, T> loaded = pageIds.isEmpty() ? Map.of() : loader.apply(pageIds).stream()
+                .collect(Collectors.toMap(idOf, Function.identity(), (first, second) -> first));
+        List<T> items = pageIds.stream().map(loaded::get).filter(Objects::nonNull).toList();
+        boolean hasNext = to < rankedIds.size();
+
+        return CursorPage.<T>builder()
+                .items(items)
+                .size(items.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? String.valueOf(to) : null)
+                .build();
+    }
+
+    private static int positionOf(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            int position = Integer.parseInt(cursor.trim());
+            if (position < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+            return position;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.switchmanga.api.dto.series;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 공개 시리즈 상세
+ * GET /api/v1/series/{id} 응답에 사용
+ *
+ * JPQL 생성자 표현식으로 시리즈 + 출판사 이름을 한 번에 조회
+ * (필드 순서 = 생성자 인자 순서 = SeriesRepository.INFO_SELECT 순서)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeriesInfoResponse {
+
+    private Long id;
+    private String title;
+    private String titleEn;
+    private String titleJp;
+    private String author;
+    private String artist;
+    private String coverImage;
+    private String description;
+    private Long categoryId;
+    private String status;
+    private Integer totalVolumes;
+    private Integer freeVolumes;
+
+    // 가격 정보
+    private BigDecimal defaultPrice;
+    private String pricingModel;
+    private BigDecimal bundlePrice;
+    private Integer bundleDiscountRate;
+
+    // 평점/조회수
+    private BigDecimal rating;
+    private BigDecimal averageRating;
+    private Integer reviewCount;
+    private Long viewCount;
+
+    // 출판사 정보
+    private Long publisherId;
+    private String publisherName;
+
+    private LocalDate releaseDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
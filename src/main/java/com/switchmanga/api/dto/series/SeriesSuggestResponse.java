@@ -0,0 +1,31 @@
+package com.switchmanga.api.dto.series;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 시리즈 자동완성 항목
+ * GET /api/v1/series/suggest 응답에 사용 (DB 조회 없이 메모리 색인에서 바로 응답)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeriesSuggestResponse {
+
+    private Long id;
+    private String title;
+    private String titleEn;
+    private String titleJp;
+    private String author;
+    private String coverImage;
+    private BigDecimal rating;
+    private Long viewCount;
+
+    /**
+     * 입력한 접두어가 일치한 텍스트 (제목/영문 제목/일문 제목/작가 중 하나)
+     */
+    private String matchedText;
+}
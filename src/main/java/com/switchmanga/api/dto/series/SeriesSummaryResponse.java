@@ -0,0 +1,40 @@
+package com.switchmanga.api.dto.series;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 공개 시리즈 목록 항목
+ * GET /api/v1/series, /active, /status/{status}, /search, /publisher/{publisherId} 응답에 사용
+ *
+ * 엔티티를 읽지 않고 JPQL 생성자 표현식(select new ...)으로 필요한 컬럼만 한 번에 조회
+ * (필드 순서 = 생성자 인자 순서 = SeriesRepository.SUMMARY_SELECT 순서)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeriesSummaryResponse {
+
+    private Long id;
+    private String title;
+    private String titleEn;
+    private String titleJp;
+    private String author;
+    private String artist;
+    private String coverImage;
+    private String status;
+    private Integer totalVolumes;
+    private BigDecimal rating;
+    private Integer reviewCount;
+    private Long viewCount;
+
+    // 출판사 정보
+    private Long publisherId;
+    private String publisherName;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,81 @@
+package com.switchmanga.api.dto.upload;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChunkUploadSessionResponse {
+
+    /**
+     * 요청 처리 성공 여부
+     */
+    private boolean success;
+
+    /**
+     * 업로드 세션 ID (청크 업로드/완료 요청에 사용)
+     */
+    private String uploadId;
+
+    /**
+     * 원본 파일명
+     */
+    private String fileName;
+
+    /**
+     * 전체 파일 크기 (bytes)
+     */
+    private long totalSize;
+
+    /**
+     * 청크 크기 (bytes, 마지막 청크만 더 작을 수 있음)
+     */
+    private int chunkSize;
+
+    /**
+     * 전체 청크 수
+     */
+    private int totalChunks;
+
+    /**
+     * 수신 완료된 청크 번호 목록 (0부터 시작)
+     */
+    private List<Integer> receivedChunks;
+
+    /**
+     * 처음부터 연속으로 수신된 바이트 수 (이어 올리기 시작 위치)
+     */
+    private long offset;
+
+    /**
+     * 모든 청크 수신 여부
+     */
+    private boolean complete;
+
+    /**
+     * 세션 만료 시각
+     */
+    private LocalDateTime expiresAt;
+
+    /**
+     * 에러 메시지 (실패 시)
+     */
+    private String errorMessage;
+
+    /**
+     * 실패 응답 생성
+     */
+    public static ChunkUploadSessionResponse failure(String errorMessage) {
+        return ChunkUploadSessionResponse.builder()
+                .success(false)
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.switchmanga.api.dto.upload;
+
+import com.switchmanga.api.entity.UploadJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadJobResponse {
+
+    /**
+     * 요청 처리 성공 여부 (작업 등록/조회 자체의 성공 여부)
+     */
+    private boolean success;
+
+    /**
+     * 작업 ID (GET /api/v1/upload/jobs/{jobId} 로 상태 조회)
+     */
+    private Long jobId;
+
+    /**
+     * 작업 상태 (QUEUED, RUNNING, COMPLETED, FAILED)
+     */
+    private String status;
+
+    /**
+     * 마지막으로 완료된 단계
+     */
+    private String stage;
+
+    /**
+     * 진행률 (0-100)
+     */
+    private Integer progress;
+
+    private Integer processedPages;
+    private Integer totalPages;
+
+    private Long seriesId;
+    private Long volumeId;
+
+    /**
+     * 작업 실패 사유 / 요청 실패 메시지
+     */
+    private String errorMessage;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    /**
+     * Entity → DTO 변환
+     */
+    public static UploadJobResponse from(UploadJob job) {
+        return UploadJobResponse.builder()
+                .success(true)
+                .jobId(job.getId())
+                .status(job.getStatus().name())
+                .stage(job.getStage().name())
+                .progress(job.getProgress())
+                .processedPages(job.getProcessedPages())
+                .totalPages(job.getTotalPages())
+                .seriesId(job.getSeriesId())
+                .volumeId(job.getVolumeId())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+
+    /**
+     * 실패 응답 생성
+     */
+    public static UploadJobResponse failure(String errorMessage) {
+        return UploadJobResponse.builder()
+                .success(false)
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
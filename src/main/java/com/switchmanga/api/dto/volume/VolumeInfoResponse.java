@@ -0,0 +1,51 @@
+package com.switchmanga.api.dto.volume;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 공개 권 상세
+ * GET /api/v1/volumes/{id}, /series/{seriesId}/number/{volumeNumber}, /isbn/{isbn} 응답에 사용
+ *
+ * JPQL 생성자 표현식으로 권 + 시리즈/출판사 이름을 한 번에 조회
+ * (필드 순서 = 생성자 인자 순서 = VolumeRepository.INFO_SELECT 순서)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class VolumeInfoResponse {
+
+    private Long id;
+    private Integer volumeNumber;
+    private String title;
+    private String titleEn;
+    private String titleJp;
+    private String coverImage;
+    private String description;
+    private String isbn;
+    private BigDecimal price;
+    private Integer discountRate;
+    private Integer totalPages;
+    private LocalDate publishedDate;
+    private Boolean isFree;
+    private Integer freePages;
+    private String status;
+    private BigDecimal rating;
+    private Integer reviewCount;
+    private Integer purchaseCount;
+    private Integer viewCount;
+
+    // Series / 출판사 정보
+    private Long seriesId;
+    private String seriesTitle;
+    private Long publisherId;
+    private String publisherName;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,43 @@
+package com.switchmanga.api.dto.volume;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 공개 권 목록 항목
+ * GET /api/v1/volumes, /active, /search, /series/{seriesId}/** 응답에 사용
+ *
+ * 엔티티를 읽지 않고 JPQL 생성자 표현식(select new ...)으로 필요한 컬럼만 한 번에 조회
+ * (필드 순서 = 생성자 인자 순서 = VolumeRepository.SUMMARY_SELECT 순서)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class VolumeSummaryResponse {
+
+    private Long id;
+    private Integer volumeNumber;
+    private String title;
+    private String titleEn;
+    private String titleJp;
+    private String coverImage;
+    private BigDecimal price;
+    private Integer discountRate;
+    private Integer totalPages;
+    private LocalDate publishedDate;
+    private Boolean isFree;
+    private Integer freePages;
+    private BigDecimal rating;
+    private Integer reviewCount;
+    private Integer viewCount;
+    private LocalDateTime createdAt;
+
+    // Series 정보
+    private Long seriesId;
+    private String seriesTitle;
+}
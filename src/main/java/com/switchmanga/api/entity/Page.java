@@ -43,6 +43,14 @@ public class Page {
     @Column(name = "file_size")
     private Integer fileSize;
 
+    // 이미지 SHA-256 (page_blobs.hash, 직접 등록한 외부 URL 페이지는 null)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 이미지 CRC-32 (ZIP 다운로드 시 미리 계산된 값 사용, 없으면 다운로드 시 계산 후 저장)
+    @Column(name = "crc32")
+    private Long crc32;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,45 @@
+package com.switchmanga.api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 콘텐츠 주소 기반 페이지 이미지
+ * - 파일 경로: {base-dir}/blobs/{hash[0:2]}/{hash[2:4]}/{hash}.{extension}
+ * - refCount: 이 해시를 참조하는 pages 행 수
+ */
+@Entity
+@Table(name = "page_blobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PageBlob {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(nullable = false, length = 10)
+    private String extension;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @Builder.Default
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount = 0;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,106 @@
+package com.switchmanga.api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 볼륨 업로드 비동기 처리 작업
+ * - 단계(stage)는 완료된 마지막 단계를 의미하며, 재시작 시 다음 단계부터 재개
+ */
+@Entity
+@Table(name = "upload_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.QUEUED;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Stage stage = Stage.STAGED;
+
+    @Builder.Default
+    @Column
+    private Integer progress = 0;
+
+    @Builder.Default
+    @Column(name = "processed_pages")
+    private Integer processedPages = 0;
+
+    @Column(name = "total_pages")
+    private Integer totalPages;
+
+    @Column(name = "series_id", nullable = false)
+    private Long seriesId;
+
+    @Column(name = "volume_id")
+    private Long volumeId;
+
+    @Column(name = "request_json", columnDefinition = "TEXT")
+    private String requestJson;
+
+    @Column(name = "staging_dir", nullable = false, length = 500)
+    private String stagingDir;
+
+    @Column(name = "cover_file", length = 255)
+    private String coverFile;
+
+    @Column(name = "cover_original_name", length = 255)
+    private String coverOriginalName;
+
+    @Column(name = "zip_file", length = 255)
+    private String zipFile;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Builder.Default
+    @Column
+    private Integer attempts = 0;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // ==================== Enums ====================
+
+    public enum Status {
+        QUEUED,     // 대기
+        RUNNING,    // 처리 중
+        COMPLETED,  // 완료
+        FAILED      // 실패
+    }
+
+    public enum Stage {
+        STAGED,           // 업로드 파일 임시 보관 완료
+        VOLUME_CREATED,   // Volume 생성 완료
+        COVER_SAVED,      // 커버 이미지 저장 완료
+        PAGES_EXTRACTED,  // 페이지 추출/저장 완료
+        COMPLETED         // 시리즈 정보 갱신까지 완료
+    }
+}
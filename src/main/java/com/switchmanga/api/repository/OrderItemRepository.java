@@ -2,6 +2,8 @@ package com.switchmanga.api.repository;
 
 import com.switchmanga.api.entity.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,5 +19,15 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
     // 주문별 항목 개수
     Long countByOrderId(Long orderId);
+
+    // 사용자가 구매한(결제 완료) Volume ID 목록 (정렬)
+    @Query("SELECT DISTINCT oi.volume.id FROM OrderItem oi " +
+            "WHERE oi.order.user.id = :userId AND oi.order.status IN ('PAID', 'COMPLETED') " +
+            "ORDER BY oi.volume.id")
+    List<Long> findOwnedVolumeIdsByUserId(@Param("userId") Long userId);
+
+    // 주문에 포함된 Volume ID 목록
+    @Query("SELECT oi.volume.id FROM OrderItem oi WHERE oi.order.id = :orderId")
+    List<Long> findVolumeIdsByOrderId(@Param("orderId") Long orderId);
 }
 
@@ -0,0 +1,34 @@
+package com.switchmanga.api.repository;
+
+import com.switchmanga.api.entity.PageBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PageBlobRepository extends JpaRepository<PageBlob, String>, PageBlobRepositoryCustom {
+
+    // 참조 수 재계산 (실제 pages 행 기준)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE page_blobs SET ref_count = " +
+            "(SELECT COUNT(*) FROM pages p WHERE p.content_hash = :hash) WHERE hash = :hash",
+            nativeQuery = true)
+    int recount(@Param("hash") String hash);
+
+    // 참조가 없는 상태로 유예 시간이 지난 항목 (GC 대상)
+    List<PageBlob> findTop100ByRefCountLessThanEqualAndUpdatedAtBeforeOrderByUpdatedAtAsc(
+            Integer refCount, LocalDateTime updatedAt);
+
+    // 여전히 참조가 없을 때만 삭제
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM PageBlob b WHERE b.hash = :hash AND b.refCount <= 0")
+    int deleteIfUnreferenced(@Param("hash") String hash);
+}
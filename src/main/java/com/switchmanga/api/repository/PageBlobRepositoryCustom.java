@@ -0,0 +1,26 @@
+package com.switchmanga.api.repository;
+
+import com.switchmanga.api.entity.PageBlob;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 이미지 참조 수 일괄 갱신 (JDBC batch)
+ */
+public interface PageBlobRepositoryCustom {
+
+    /**
+     * 참조 추가 일괄 처리 (없으면 생성)
+     *
+     * @param blobs refCount에 더할 참조 수를 담은 항목 (0이면 등록만)
+     */
+    void acquireAll(Collection<PageBlob> blobs);
+
+    /**
+     * 참조 해제 일괄 처리
+     *
+     * @param counts 해시별 해제할 참조 수
+     */
+    void releaseAll(Map<String, Integer> counts);
+}
@@ -0,0 +1,52 @@
+package com.switchmanga.api.repository;
+
+import com.switchmanga.api.entity.PageBlob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class PageBlobRepositoryCustomImpl implements PageBlobRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String ACQUIRE_SQL =
+            "INSERT INTO page_blobs (hash, extension, file_size, ref_count, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + VALUES(ref_count), updated_at = NOW()";
+
+    private static final String RELEASE_SQL =
+            "UPDATE page_blobs SET ref_count = GREATEST(ref_count - ?, 0), updated_at = NOW() WHERE hash = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void acquireAll(Collection<PageBlob> blobs) {
+        if (blobs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ACQUIRE_SQL, new ArrayList<>(blobs), BATCH_SIZE, (ps, blob) -> {
+            ps.setString(1, blob.getHash());
+            ps.setString(2, blob.getExtension());
+            ps.setLong(3, blob.getFileSize());
+            ps.setInt(4, blob.getRefCount());
+        });
+    }
+
+    @Override
+    @Transactional
+    public void releaseAll(Map<String, Integer> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(RELEASE_SQL, new ArrayList<>(counts.entrySet()), BATCH_SIZE, (ps, entry) -> {
+            ps.setInt(1, entry.getValue());
+            ps.setString(2, entry.getKey());
+        });
+    }
+}
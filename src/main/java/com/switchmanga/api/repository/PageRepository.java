@@ -1,14 +1,19 @@
 package com.switchmanga.api.repository;
 
 import com.switchmanga.api.entity.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PageRepository extends JpaRepository<Page, Long> {
+public interface PageRepository extends JpaRepository<Page, Long>, PageRepositoryCustom {
 
     // Volume ID로 조회
     List<Page> findByVolumeId(Long volumeId);
@@ -18,12 +23,49 @@ public interface PageRepository extends JpaRepository<Page, Long> {
     // 특정 페이지 번호 조회
     Optional<Page> findByVolumeIdAndPageNumber(Long volumeId, Integer pageNumber);
 
+    List<Page> findByVolumeIdAndPageNumberBetweenOrderByPageNumberAsc(Long volumeId, Integer from, Integer to);
+
     // 개수 조회
     Long countByVolumeId(Long volumeId);
 
-    // 삭제
-    void deleteByVolumeId(Long volumeId);
+    // 삭제 (엔티티를 읽지 않고 DELETE 한 번으로 처리)
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query("DELETE FROM Page p WHERE p.volume.id = :volumeId")
+    int deleteByVolumeId(@Param("volumeId") Long volumeId);
 
     // 존재 여부 확인
     boolean existsByVolumeIdAndPageNumber(Long volumeId, Integer pageNumber);
-}
\ No newline at end of file
+
+    // 볼륨 페이지들이 참조하는 이미지 해시 (중복 포함, 참조 해제용)
+    @Query("SELECT p.contentHash FROM Page p WHERE p.volume.id = :volumeId AND p.contentHash IS NOT NULL")
+    List<String> findContentHashesByVolumeId(@Param("volumeId") Long volumeId);
+
+    @Query("SELECT p.contentHash FROM Page p WHERE p.volume.series.id = :seriesId AND p.contentHash IS NOT NULL")
+    List<String> findContentHashesBySeriesId(@Param("seriesId") Long seriesId);
+
+    // 해당 이미지를 참조하는 페이지 존재 여부
+    boolean existsByContentHash(String contentHash);
+
+    // 썸네일이 없는 페이지 (id 순 배치 조회, 백필용)
+    List<Page> findByThumbnailUrlIsNullAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 썸네일 URL 갱신
+    @Modifying
+    @Transactional
+    @Query("UPDATE Page p SET p.thumbnailUrl = :thumbnailUrl WHERE p.id = :id")
+    int updateThumbnailUrl(@Param("id") Long id, @Param("thumbnailUrl") String thumbnailUrl);
+
+    // 같은 이미지를 참조하는 페이지 썸네일 일괄 갱신
+    @Modifying
+    @Transactional
+    @Query("UPDATE Page p SET p.thumbnailUrl = :thumbnailUrl WHERE p.contentHash = :contentHash")
+    int updateThumbnailUrlByContentHash(@Param("contentHash") String contentHash,
+                                        @Param("thumbnailUrl") String thumbnailUrl);
+
+    // 다운로드 시 계산한 CRC-32 저장 (같은 이미지를 참조하는 페이지 모두)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Page p SET p.crc32 = :crc32 WHERE p.contentHash = :contentHash AND p.crc32 IS NULL")
+    int updateCrc32ByContentHash(@Param("contentHash") String contentHash, @Param("crc32") Long crc32);
+}
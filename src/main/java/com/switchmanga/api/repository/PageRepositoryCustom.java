@@ -0,0 +1,20 @@
+package com.switchmanga.api.repository;
+
+import com.switchmanga.api.entity.Page;
+
+import java.util.List;
+
+/**
+ * 페이지 대량 기록 (JDBC batch)
+ */
+public interface PageRepositoryCustom {
+
+    /**
+     * 볼륨 페이지 일괄 INSERT
+     * - IDENTITY 키라 JPA saveAll은 페이지마다 INSERT를 한 번씩 보내므로 JDBC batch로 묶어서 기록
+     * - 생성된 id는 엔티티에 채우지 않음 (필요하면 다시 조회)
+     *
+     * @return 기록한 행 수
+     */
+    int insertAll(Long volumeId, List<Page> pages);
+}
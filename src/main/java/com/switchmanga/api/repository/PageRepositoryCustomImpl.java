@@ -0,0 +1,48 @@
+package com.switchmanga.api.repository;
+
+import com.switchmanga.api.entity.Page;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Types;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PageRepositoryCustomImpl implements PageRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO pages (volume_id, page_number, image_url, thumbnail_url, width, height, " +
+            "file_size, content_hash, crc32, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, NOW())";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public int insertAll(Long volumeId, List<Page> pages) {
+        if (pages.isEmpty()) {
+            return 0;
+        }
+
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, pages, BATCH_SIZE, (ps, page) -> {
+            ps.setLong(1, volumeId);
+            ps.setInt(2, page.getPageNumber());
+            ps.setString(3, page.getImageUrl());
+            ps.setString(4, page.getThumbnailUrl());
+            ps.setObject(5, page.getWidth(), Types.INTEGER);
+            ps.setObject(6, page.getHeight(), Types.INTEGER);
+            ps.setObject(7, page.getFileSize(), Types.INTEGER);
+            ps.setString(8, page.getContentHash());
+            ps.setObject(9, page.getCrc32(), Types.BIGINT);
+        });
+
+        // 드라이버가 batch 행 수를 SUCCESS_NO_INFO(-2)로 돌려주는 경우가 있어 배치 크기로 계산
+        int inserted = 0;
+        for (int[] batch : results) {
+            inserted += batch.length;
+        }
+        return inserted;
+    }
+}
@@ -1,12 +1,18 @@
 package com.switchmanga.api.repository;
 
+import com.switchmanga.api.dto.series.SeriesInfoResponse;
+import com.switchmanga.api.dto.series.SeriesSummaryResponse;
 import com.switchmanga.api.entity.Series;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SeriesRepository extends JpaRepository<Series, Long> {
@@ -37,4 +43,42 @@ public interface SeriesRepository extends JpaRepository<Series, Long> {
     List<Series> findByStatus(String status);
 
     Page<Series> findByStatus(String status, Pageable pageable);
-}
\ No newline at end of file
+
+    // ========================================
+    // 공개 조회용 DTO 프로젝션 (엔티티/지연 로딩 없이 필요한 컬럼만 한 번에 조회)
+    // 목록은 커서 기반 (id 내림차순, WHERE id < :cursor)
+    // ========================================
+
+    String SUMMARY_SELECT = "select new com.switchmanga.api.dto.series.SeriesSummaryResponse("
+            + "s.id, s.title, s.titleEn, s.titleJp, s.author, s.artist, s.coverImage, s.status, "
+            + "s.totalVolumes, s.rating, s.reviewCount, s.viewCount, p.id, p.name, s.createdAt) "
+            + "from Series s join s.publisher p ";
+
+    String INFO_SELECT = "select new com.switchmanga.api.dto.series.SeriesInfoResponse("
+            + "s.id, s.title, s.titleEn, s.titleJp, s.author, s.artist, s.coverImage, s.description, "
+            + "s.categoryId, s.status, s.totalVolumes, s.freeVolumes, "
+            + "s.defaultPrice, s.pricingModel, s.bundlePrice, s.bundleDiscountRate, "
+            + "s.rating, s.averageRating, s.reviewCount, s.viewCount, p.id, p.name, "
+            + "s.releaseDate, s.createdAt, s.updatedAt) "
+            + "from Series s join s.publisher p ";
+
+    @Query(SUMMARY_SELECT + "where s.id < :cursor order by s.id desc")
+    List<SeriesSummaryResponse> findSummaries(@Param("cursor") Long cursor, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where s.status = :status and s.id < :cursor order by s.id desc")
+    List<SeriesSummaryResponse> findSummariesByStatus(@Param("status") String status,
+                                                      @Param("cursor") Long cursor, Pageable pageable);
+
+    // 검색 결과 id 목록 → 요약 (순서는 호출 측에서 맞춤)
+    @Query(SUMMARY_SELECT + "where s.id in :ids")
+    List<SeriesSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SUMMARY_SELECT + "where s.id = :id")
+    Optional<SeriesSummaryResponse> findSummaryById(@Param("id") Long id);
+
+    @Query(SUMMARY_SELECT + "where p.id = :publisherId order by s.id desc")
+    List<SeriesSummaryResponse> findSummariesByPublisherId(@Param("publisherId") Long publisherId);
+
+    @Query(INFO_SELECT + "where s.id = :id")
+    Optional<SeriesInfoResponse> findInfoById(@Param("id") Long id);
+}
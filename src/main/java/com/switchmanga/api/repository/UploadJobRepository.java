@@ -0,0 +1,29 @@
+package com.switchmanga.api.repository;
+
+import com.switchmanga.api.entity.UploadJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UploadJobRepository extends JpaRepository<UploadJob, Long> {
+
+    // 상태별 조회 (재시작 시 재개 대상 조회)
+    List<UploadJob> findByStatusInOrderByIdAsc(Collection<UploadJob.Status> statuses);
+
+    // 진행률 갱신 (페이지 추출 중 주기적으로 호출)
+    @Modifying
+    @Transactional
+    @Query("UPDATE UploadJob j SET j.processedPages = :processedPages, j.totalPages = :totalPages, " +
+            "j.progress = :progress WHERE j.id = :id")
+    int updateProgress(@Param("id") Long id,
+                       @Param("processedPages") Integer processedPages,
+                       @Param("totalPages") Integer totalPages,
+                       @Param("progress") Integer progress);
+}
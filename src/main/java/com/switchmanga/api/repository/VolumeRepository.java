@@ -1,11 +1,16 @@
 package com.switchmanga.api.repository;
 
+import com.switchmanga.api.dto.volume.VolumeInfoResponse;
+import com.switchmanga.api.dto.volume.VolumeSummaryResponse;
 import com.switchmanga.api.entity.Volume;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -82,4 +87,48 @@ public interface VolumeRepository extends JpaRepository<Volume, Long> {
             String status,
             Pageable pageable
     );
-}
\ No newline at end of file
+
+    // ========================================
+    // 공개 조회용 DTO 프로젝션 (엔티티/지연 로딩 없이 필요한 컬럼만 한 번에 조회)
+    // 목록은 커서 기반 (id 내림차순, WHERE id < :cursor)
+    // ========================================
+
+    String SUMMARY_SELECT = "select new com.switchmanga.api.dto.volume.VolumeSummaryResponse("
+            + "v.id, v.volumeNumber, v.title, v.titleEn, v.titleJp, v.coverImage, v.price, v.discountRate, "
+            + "v.totalPages, v.publishedDate, v.isFree, v.freePages, v.rating, v.reviewCount, v.viewCount, "
+            + "v.createdAt, s.id, s.title) "
+            + "from Volume v join v.series s ";
+
+    String INFO_SELECT = "select new com.switchmanga.api.dto.volume.VolumeInfoResponse("
+            + "v.id, v.volumeNumber, v.title, v.titleEn, v.titleJp, v.coverImage, v.description, v.isbn, "
+            + "v.price, v.discountRate, v.totalPages, v.publishedDate, v.isFree, v.freePages, v.status, "
+            + "v.rating, v.reviewCount, v.purchaseCount, v.viewCount, s.id, s.title, p.id, p.name, "
+            + "v.createdAt, v.updatedAt) "
+            + "from Volume v join v.series s join s.publisher p ";
+
+    @Query(SUMMARY_SELECT + "where v.id < :cursor order by v.id desc")
+    List<VolumeSummaryResponse> findSummaries(@Param("cursor") Long cursor, Pageable pageable);
+
+    // 검색 결과 id 목록 → 요약 (순서는 호출 측에서 맞춤)
+    @Query(SUMMARY_SELECT + "where v.id in :ids")
+    List<VolumeSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SUMMARY_SELECT + "where v.id = :id")
+    Optional<VolumeSummaryResponse> findSummaryById(@Param("id") Long id);
+
+    @Query(SUMMARY_SELECT + "where s.id = :seriesId order by v.id")
+    List<VolumeSummaryResponse> findSummariesBySeriesId(@Param("seriesId") Long seriesId);
+
+    @Query(SUMMARY_SELECT + "where s.id = :seriesId order by v.volumeNumber")
+    List<VolumeSummaryResponse> findSummariesBySeriesIdOrderByVolumeNumber(@Param("seriesId") Long seriesId);
+
+    @Query(INFO_SELECT + "where v.id = :id")
+    Optional<VolumeInfoResponse> findInfoById(@Param("id") Long id);
+
+    @Query(INFO_SELECT + "where s.id = :seriesId and v.volumeNumber = :volumeNumber")
+    Optional<VolumeInfoResponse> findInfoBySeriesIdAndVolumeNumber(@Param("seriesId") Long seriesId,
+                                                                   @Param("volumeNumber") Integer volumeNumber);
+
+    @Query(INFO_SELECT + "where v.isbn = :isbn")
+    Optional<VolumeInfoResponse> findInfoByIsbn(@Param("isbn") String isbn);
+}
@@ -36,7 +36,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             "/v3/api-docs/",
             "/api/v1/publishers",
             "/api/v1/series",
-            "/api/v1/volumes"
+            "/api/v1/volumes",
+            "/api/v1/reader/pages"   // 서명 토큰으로 검증 (PageUrlSigner)
     );
 
     @Override
@@ -52,6 +53,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return false;
         }
 
+        // 볼륨 다운로드는 구매 확인이 필요하므로 필터 통과 (/api/v1/volumes/{id}/download)
+        if (path.endsWith("/download")) {
+            return false;
+        }
+
         // ⭐ Public API는 필터 건너뛰기
         boolean shouldSkip = EXCLUDED_PATHS.stream().anyMatch(excluded -> {
             // 정확히 일치하거나, 숫자 ID가 뒤에 오는 경우만 건너뛰기
@@ -0,0 +1,137 @@
+package com.switchmanga.api.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 페이지 이미지 서명 URL 토큰 (HMAC-SHA256)
+ *
+ * 토큰 형식: {firstPage}-{lastPage}-{expiresAt(epoch 초)}.{서명}
+ * - 서명 대상: volumeId:firstPage:lastPage:expiresAt → 다른 볼륨/범위/만료로 바꿔 쓸 수 없음
+ * - 검증은 문자열 파싱 + HMAC 한 번 (DB, 세션 조회 없음)
+ * - 서명 키는 설정한 비밀값에서 HKDF-SHA256(용도 라벨 포함)으로 파생
+ *   → 같은 비밀값을 JWT 등 다른 곳에 쓰더라도 서로의 서명을 만들 수 없음
+ */
+@Component
+public class PageUrlSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    // HKDF info (이 키의 용도, 바꾸면 기존 토큰은 모두 무효)
+    private static final byte[] KEY_LABEL = "switchmanga/reader/page-url-signing/v1".getBytes(StandardCharsets.US_ASCII);
+
+    private final SecretKeySpec key;
+    private final long ttlSeconds;
+
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    public PageUrlSigner(
+            @Value("${reader.url-signing.secret}") String secret,
+            @Value("${reader.url-signing.ttl-seconds:600}") long ttlSeconds) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("reader.url-signing.secret 가 설정되지 않았습니다");
+        }
+        this.key = new SecretKeySpec(deriveKey(secret.getBytes(StandardCharsets.UTF_8)), ALGORITHM);
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 볼륨의 페이지 범위 토큰 발급 (만료: 지금 + ttl-seconds)
+     */
+    public SignedRange sign(Long volumeId, int firstPage, int lastPage) {
+        long expiresAt = Instant.now().getEpochSecond() + ttlSeconds;
+        String claims = firstPage + "-" + lastPage + "-" + expiresAt;
+        return new SignedRange(claims + "." + signature(volumeId, firstPage, lastPage, expiresAt),
+                firstPage, lastPage, expiresAt);
+    }
+
+    /**
+     * 토큰이 해당 볼륨/페이지에 유효한지 검증
+     *
+     * @return 유효하면 만료 시각(epoch 초), 아니면 -1
+     */
+    public long verify(Long volumeId, int pageNumber, String token) {
+        if (token == null) {
+            return -1;
+        }
+
+        int dot = token.indexOf('.');
+        if (dot < 0) {
+            return -1;
+        }
+        String[] claims = token.substring(0, dot).split("-");
+        if (claims.length != 3) {
+            return -1;
+        }
+
+        int firstPage;
+        int lastPage;
+        long expiresAt;
+        try {
+            firstPage = Integer.parseInt(claims[0]);
+            lastPage = Integer.parseInt(claims[1]);
+            expiresAt = Long.parseLong(claims[2]);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+
+        // 서명 계산 전에 만료/범위부터 확인
+        if (expiresAt < Instant.now().getEpochSecond() || pageNumber < firstPage || pageNumber > lastPage) {
+            return -1;
+        }
+
+        byte[] expected = signature(volumeId, firstPage, lastPage, expiresAt).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = token.substring(dot + 1).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, actual) ? expiresAt : -1;
+    }
+
+    private String signature(Long volumeId, int firstPage, int lastPage, long expiresAt) {
+        String payload = volumeId + ":" + firstPage + ":" + lastPage + ":" + expiresAt;
+        byte[] digest = macs.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    /**
+     * HKDF-SHA256 (RFC 5869, salt 없음, 출력 32바이트 = 한 블록)
+     */
+    private static byte[] deriveKey(byte[] secret) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(new byte[mac.getMacLength()], ALGORITHM));
+            byte[] pseudoRandomKey = mac.doFinal(secret);
+
+            mac.init(new SecretKeySpec(pseudoRandomKey, ALGORITHM));
+            mac.update(KEY_LABEL);
+            mac.update((byte) 1);
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("서명 키 파생 실패", e);
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 초기화 실패", e);
+        }
+    }
+
+    /**
+     * 발급된 토큰
+     *
+     * @param expiresAt 만료 시각 (epoch 초)
+     */
+    public record SignedRange(String token, int firstPage, int lastPage, long expiresAt) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.switchmanga.api.service;
+
+import com.switchmanga.api.config.FileUploadConfig;
+import com.switchmanga.api.util.AvfFrameIndex;
+import com.switchmanga.api.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 볼륨 컷(패널) 인덱스 관리 ({packs-dir}/{volumeId}.frames, 원본 {packs-dir}/{volumeId}.avf)
+ *
+ * - 업로드 ZIP의 frame.avf 는 페이지 추출 중 한 번만 파싱해서 볼륨 옆에 저장
+ * - 원본 파일도 그대로 보관 (문서화된 레이아웃이 아니라 컷 정보로 해석하지 못한 경우 나중에 다시 처리할 수 있도록)
+ * - 뷰어는 원본 AVF 대신 읽기 매니페스트의 페이지별 frames 를 사용 (매니페스트 생성 시에만 읽음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActionFrameService {
+
+    public static final String AVF_FILENAME = "frame.avf";
+
+    private static final String FRAMES_EXTENSION = ".frames";
+    private static final String RAW_EXTENSION = ".avf";
+
+    private final FileUploadConfig fileUploadConfig;
+
+    /**
+     * 원본 frame.avf 와 컷 인덱스 저장 (null 이거나 비어 있으면 기존 파일 삭제)
+     *
+     * @param avf 업로드 ZIP의 frame.avf 내용 (없으면 null)
+     * @param index 파싱 결과 (지원하지 않는 레이아웃이면 null)
+     */
+    public void store(Long volumeId, byte[] avf, AvfFrameIndex index) {
+        try {
+            if (avf != null) {
+                Files.write(rawPath(volumeId), avf);
+            } else {
+                Files.deleteIfExists(rawPath(volumeId));
+            }
+        } catch (IOException e) {
+            log.warn("Failed to store frame.avf of volume {}", volumeId, e);
+        }
+
+        if (index == null || index.isEmpty()) {
+            if (avf != null) {
+                log.warn("Volume {} frame.avf kept without action frames: unsupported layout", volumeId);
+            }
+            deleteFile(framesPath(volumeId));
+            return;
+        }
+
+        try {
+            index.write(framesPath(volumeId));
+            log.info("Volume {} action frames stored: {} frames on {} pages",
+                    volumeId, index.getFrameCount(), index.getPageCount());
+        } catch (IOException e) {
+            log.warn("Failed to store action frames of volume {}", volumeId, e);
+        }
+    }
+
+    /**
+     * 원본 frame.avf 보관 여부 (컷 인덱스가 없어도 true일 수 있음)
+     */
+    public boolean hasRawFile(Long volumeId) {
+        return Files.isRegularFile(rawPath(volumeId));
+    }
+
+    /**
+     * 컷 인덱스 조회
+     *
+     * @return 없거나 읽을 수 없으면 null
+     */
+    public AvfFrameIndex load(Long volumeId) {
+        Path path = framesPath(volumeId);
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+
+        try {
+            return AvfFrameIndex.read(path);
+        } catch (IOException e) {
+            log.warn("Failed to read action frames of volume {}", volumeId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 컷 인덱스와 원본 삭제 (페이지 전체 삭제, 볼륨 삭제 시 - 커밋 후 실행)
+     * 인덱스는 업로드 때만 만들어지므로 삭제가 롤백되면 파일이 남아 있어야 함
+     */
+    public void delete(Long volumeId) {
+        TransactionCallbacks.afterCommit(() -> {
+            deleteFile(framesPath(volumeId));
+            deleteFile(rawPath(volumeId));
+        });
+    }
+
+    public static boolean isAvfFile(String entryName) {
+        return entryName.equals(AVF_FILENAME) || entryName.endsWith("/" + AVF_FILENAME);
+    }
+
+    private void deleteFile(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete action frame file {}", path, e);
+        }
+    }
+
+    private Path framesPath(Long volumeId) {
+        return fileUploadConfig.getPacksDirectory().resolve(volumeId + FRAMES_EXTENSION);
+    }
+
+    private Path rawPath(Long volumeId) {
+        return fileUploadConfig.getPacksDirectory().resolve(volumeId + RAW_EXTENSION);
+    }
+}
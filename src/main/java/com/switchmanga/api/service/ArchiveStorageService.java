@@ -0,0 +1,130 @@
+package com.switchmanga.api.service;
+
+import com.switchmanga.api.config.FileUploadConfig;
+import com.switchmanga.api.util.ArchiveEntryResource;
+import com.switchmanga.api.util.ArchiveIndex;
+import com.switchmanga.api.util.LruCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 원본 ZIP 기반 페이지 저장 (file.upload.archive-backed)
+ *
+ * - 업로드 시 압축을 풀지 않고 ZIP과 엔트리 오프셋 인덱스(pages.idx)만 책 폴더에 저장
+ * - /uploads/books/{dir}/pages/{name} 요청은 인덱스로 ZIP의 해당 구간을 바로 읽어 응답
+ * - 인덱스는 최근 사용한 책 폴더 단위로 메모리에 캐시
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArchiveStorageService {
+
+    public static final String INDEX_FILENAME = "pages.idx";
+    public static final String PAGES_DIR = "pages";
+
+    private static final int INDEX_CACHE_SIZE = 512;
+
+    private final FileUploadConfig fileUploadConfig;
+
+    private final LruCache<String, ArchiveIndex> indexCache = LruCache.ofSize(INDEX_CACHE_SIZE);
+
+    public boolean isEnabled() {
+        return fileUploadConfig.isArchiveBacked();
+    }
+
+    /**
+     * 책 폴더의 ZIP으로 인덱스 생성 후 저장
+     *
+     * @return 바로 읽을 수 없는 엔트리가 있으면 null (압축 해제 방식으로 처리해야 함)
+     */
+    public ArchiveIndex createIndex(Path bookDir, Path zipPath) throws IOException {
+        ArchiveIndex index = ArchiveIndex.build(zipPath);
+        if (index == null) {
+            log.info("Archive has entries that cannot be served in place, falling back to extraction: {}", zipPath);
+            return null;
+        }
+
+        index.write(bookDir.resolve(INDEX_FILENAME));
+        indexCache.put(bookDir.getFileName().toString(), index);
+        return index;
+    }
+
+    /**
+     * /uploads/ 이후 경로(books/{dir}/pages/{name})를 ZIP 엔트리 리소스로 변환
+     *
+     * @return 인덱스가 없는 책 폴더이거나 엔트리가 없으면 null
+     */
+    public ArchiveEntryResource resolve(String resourcePath) {
+        String booksPrefix = fileUploadConfig.getBooksDir() + "/";
+        if (!resourcePath.startsWith(booksPrefix)) {
+            return null;
+        }
+
+        String rest = resourcePath.substring(booksPrefix.length());
+        int slash = rest.indexOf('/');
+        if (slash <= 0 || !rest.startsWith(PAGES_DIR + "/", slash + 1)) {
+            return null;
+        }
+
+        String bookDirName = rest.substring(0, slash);
+        String entryName = rest.substring(slash + PAGES_DIR.length() + 2);
+
+        ArchiveIndex index = loadIndex(bookDirName);
+        if (index == null) {
+            return null;
+        }
+
+        ArchiveIndex.Entry entry = index.getEntry(entryName);
+        if (entry == null) {
+            return null;
+        }
+        return new ArchiveEntryResource(bookDirectory(bookDirName).resolve(index.getArchiveName()), entry);
+    }
+
+    /**
+     * 책 폴더 삭제 등으로 인덱스가 바뀌었을 때 캐시 제거
+     */
+    public void evict(String bookDirName) {
+        indexCache.remove(bookDirName);
+    }
+
+    private ArchiveIndex loadIndex(String bookDirName) {
+        ArchiveIndex cached = indexCache.get(bookDirName);
+        if (cached != null) {
+            return cached;
+        }
+
+        Path bookDir = bookDirectory(bookDirName);
+        if (bookDir == null) {
+            return null;
+        }
+
+        Path indexPath = bookDir.resolve(INDEX_FILENAME);
+        if (!Files.isRegularFile(indexPath)) {
+            return null;
+        }
+
+        try {
+            ArchiveIndex index = ArchiveIndex.read(indexPath);
+            indexCache.put(bookDirName, index);
+            return index;
+        } catch (IOException e) {
+            log.warn("Failed to read archive index: {}", indexPath, e);
+            return null;
+        }
+    }
+
+    /**
+     * 책 폴더 경로 (폴더 이름이 한 단계가 아니면 null)
+     */
+    private Path bookDirectory(String bookDirName) {
+        Path booksDir = fileUploadConfig.getBooksDirectory().normalize();
+        Path bookDir = booksDir.resolve(bookDirName).normalize();
+        return booksDir.equals(bookDir.getParent()) ? bookDir : null;
+    }
+}
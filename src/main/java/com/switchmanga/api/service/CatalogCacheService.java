@@ -0,0 +1,169 @@
+package com.switchmanga.api.service;
+
+import com.switchmanga.api.dto.series.SeriesInfoResponse;
+import com.switchmanga.api.dto.volume.VolumeInfoResponse;
+import com.switchmanga.api.dto.volume.VolumeSummaryResponse;
+import com.switchmanga.api.repository.SeriesRepository;
+import com.switchmanga.api.repository.VolumeRepository;
+import com.switchmanga.api.util.LruCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 공개 카탈로그 읽기 캐시 (시리즈 상세, 볼륨 상세, 시리즈별 권 목록)
+ *
+ * - 캐시에 없으면 DTO 프로젝션으로 읽어서 보관 (read-through), 항목 수 한도 안에서 LRU 교체
+ * - 쓰기 경로가 발행한 CatalogChangedEvent 를 커밋 후 받아 관련 항목만 삭제
+ *   · 시리즈: 시리즈 상세 + 그 시리즈의 권 목록/권 상세 (시리즈 제목이 들어 있음)
+ *   · 볼륨: 볼륨 상세 + 소속 시리즈 상세/권 목록 (권수가 바뀜)
+ *   · 출판사: 그 출판사의 시리즈/볼륨 상세 (출판사 이름이 들어 있음)
+ * - 읽는 중에 삭제가 일어나면 읽은 결과는 보관하지 않음 (이전 내용이 남지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogCacheService {
+
+    private final SeriesRepository seriesRepository;
+    private final VolumeRepository volumeRepository;
+
+    // 캐시에 보관할 시리즈 상세 수
+    @Value("${catalog.cache.series-max-entries:10000}")
+    private int seriesMaxEntries;
+
+    // 캐시에 보관할 볼륨 상세 수
+    @Value("${catalog.cache.volume-max-entries:50000}")
+    private int volumeMaxEntries;
+
+    // 캐시에 보관할 시리즈별 권 목록의 총 권 수
+    @Value("${catalog.cache.series-volumes-max-items:200000}")
+    private long seriesVolumesMaxItems;
+
+    private LruCache<Long, SeriesInfoResponse> seriesCache;
+    private LruCache<Long, VolumeInfoResponse> volumeCache;
+    private LruCache<Long, List<VolumeSummaryResponse>> seriesVolumesCache;
+
+    // 삭제가 일어날 때마다 증가 (읽기 전후 값이 다르면 결과를 보관하지 않음)
+    private long generation;
+
+    @PostConstruct
+    public void init() {
+        seriesCache = LruCache.ofSize(seriesMaxEntries);
+        volumeCache = LruCache.ofSize(volumeMaxEntries);
+        seriesVolumesCache = new LruCache<>(seriesVolumesMaxItems, volumes -> volumes.size() + 1L, null);
+    }
+
+    /**
+     * 시리즈 상세
+     */
+    public Optional<SeriesInfoResponse> getSeriesInfo(Long seriesId) {
+        return Optional.ofNullable(readThrough(seriesCache, seriesId,
+                () -> seriesRepository.findInfoById(seriesId).orElse(null)));
+    }
+
+    /**
+     * 볼륨 상세
+     */
+    public Optional<VolumeInfoResponse> getVolumeInfo(Long volumeId) {
+        return Optional.ofNullable(readThrough(volumeCache, volumeId,
+                () -> volumeRepository.findInfoById(volumeId).orElse(null)));
+    }
+
+    /**
+     * 시리즈의 권 목록 (권 번호 순)
+     */
+    public List<VolumeSummaryResponse> getSeriesVolumes(Long seriesId) {
+        return readThrough(seriesVolumesCache, seriesId,
+                () -> List.copyOf(volumeRepository.findSummariesBySeriesIdOrderByVolumeNumber(seriesId)));
+    }
+
+    /**
+     * 카탈로그 변경 반영 (커밋 후, 트랜잭션 밖에서 발행된 경우 바로)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        synchronized (this) {
+            generation++;
+        }
+
+        switch (event.type()) {
+            case SERIES -> {
+                seriesCache.remove(event.id());
+                seriesVolumesCache.remove(event.id());
+                volumeCache.removeIf((volumeId, volume) -> event.id().equals(volume.getSeriesId()));
+            }
+            case VOLUME -> {
+                volumeCache.remove(event.id());
+                if (event.seriesId() != null) {
+                    seriesCache.remove(event.seriesId());
+                    seriesVolumesCache.remove(event.seriesId());
+                } else {
+                    // 소속 시리즈를 모르면 이 볼륨이 들어 있는 권 목록을 찾아 삭제
+                    seriesVolumesCache.removeIf((seriesId, volumes) -> volumes.stream()
+                            .anyMatch(volume -> event.id().equals(volume.getId())));
+                }
+            }
+            case PUBLISHER -> {
+                seriesCache.removeIf((seriesId, series) -> event.id().equals(series.getPublisherId()));
+                volumeCache.removeIf((volumeId, volume) -> event.id().equals(volume.getPublisherId()));
+            }
+        }
+        log.debug("Catalog cache invalidated: {}", event);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("series", statsOf(seriesCache.stats()));
+        result.put("volumes", statsOf(volumeCache.stats()));
+        result.put("seriesVolumes", statsOf(seriesVolumesCache.stats()));
+        return result;
+    }
+
+    // ========================================
+    // Helper 메서드
+    // ========================================
+
+    private <V> V readThrough(LruCache<Long, V> cache, Long key, Supplier<V> loader) {
+        V cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startGeneration = currentGeneration();
+        V loaded = loader.get();
+        if (loaded != null) {
+            synchronized (this) {
+                if (generation == startGeneration) {
+                    cache.put(key, loaded);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    private static Map<String, Object> statsOf(LruCache.Stats stats) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("entries", stats.size());
+        result.put("weight", stats.weight());
+        result.put("maxWeight", stats.maxWeight());
+        result.put("hits", stats.hits());
+        result.put("misses", stats.misses());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictions", stats.evictions());
+        return result;
+    }
+}
@@ -0,0 +1,30 @@
+package com.switchmanga.api.service;
+
+/**
+ * 카탈로그(시리즈/볼륨/출판사) 변경 이벤트
+ *
+ * 쓰기 경로에서 발행하고, 메모리 카탈로그 캐시/검색 인덱스가 커밋 후 받아서 해당 항목만 갱신
+ * (@TransactionalEventListener(fallbackExecution = true) → 트랜잭션 밖에서 발행해도 바로 전달)
+ *
+ * @param type     변경 대상 종류
+ * @param id       변경된 시리즈/볼륨/출판사 ID
+ * @param seriesId 볼륨 변경 시 소속 시리즈 ID (시리즈 권수 등도 함께 바뀜), 그 외 null
+ */
+public record CatalogChangedEvent(Type type, Long id, Long seriesId) {
+
+    public enum Type {
+        SERIES, VOLUME, PUBLISHER
+    }
+
+    public static CatalogChangedEvent series(Long seriesId) {
+        return new CatalogChangedEvent(Type.SERIES, seriesId, seriesId);
+    }
+
+    public static CatalogChangedEvent volume(Long volumeId, Long seriesId) {
+        return new CatalogChangedEvent(Type.VOLUME, volumeId, seriesId);
+    }
+
+    public static CatalogChangedEvent publisher(Long publisherId) {
+        return new CatalogChangedEvent(Type.PUBLISHER, publisherId, null);
+    }
+}
@@ -0,0 +1,257 @@
+package com.switchmanga.api.service;
+
+import com.switchmanga.api.dto.series.SeriesSuggestResponse;
+import com.switchmanga.api.dto.series.SeriesSummaryResponse;
+import com.switchmanga.api.dto.volume.VolumeSummaryResponse;
+import com.switchmanga.api.repository.SeriesRepository;
+import com.switchmanga.api.repository.VolumeRepository;
+import com.switchmanga.api.util.BigramIndex;
+import com.switchmanga.api.util.PrefixSuggestIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시리즈/볼륨 제목 검색 (메모리 bigram 역색인) + 시리즈 자동완성 (접두어 색인)
+ *
+ * - 시리즈: 제목/영문/일문 제목, 작가, 그림 작가 / 볼륨: 제목/영문/일문 제목
+ * - 기동 시(또는 첫 검색 시) 전체를 id 커서로 나눠 읽어 색인, 이후 CatalogChangedEvent 로 해당 항목만 다시 읽어 갱신
+ * - 검색은 색인 조회만으로 관련도 순 id 목록을 만들고, 응답 행은 그 페이지의 id 로만 조회 (LIKE 전체 스캔 없음)
+ * - 자동완성은 제목 3개 언어 + 작가 접두어, 인기도(조회수, 평점) 순으로 DB 조회 없이 응답
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogSearchService {
+
+    // 시리즈 색인 필드: 제목, 영문 제목, 일문 제목, 작가, 그림 작가
+    private static final int SERIES_TITLE_FIELDS = 0b00111;
+    private static final int SERIES_PEOPLE_FIELDS = 0b11000;
+
+    // 볼륨 색인 필드: 제목, 영문 제목, 일문 제목
+    private static final int VOLUME_TITLE_FIELDS = 0b111;
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    // 자동완성 최대 제안 수
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private final SeriesRepository seriesRepository;
+    private final VolumeRepository volumeRepository;
+
+    // 검색 한 번에 순위를 매길 최대 결과 수
+    @Value("${catalog.search.max-results:1000}")
+    private int maxResults;
+
+    private final BigramIndex seriesIndex = new BigramIndex(3, 3, 3, 2, 2);
+    private final BigramIndex volumeIndex = new BigramIndex(1, 1, 1);
+    private final PrefixSuggestIndex<SeriesSummaryResponse> seriesSuggestIndex =
+            new PrefixSuggestIndex<>(MAX_SUGGESTIONS);
+
+    // 볼륨 id → 시리즈 id (시리즈 삭제 시 볼륨 색인 정리)
+    private final Map<Long, Long> seriesIdByVolume = new HashMap<>();
+
+    private volatile boolean built;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            ensureBuilt();
+        } catch (RuntimeException e) {
+            log.warn("Failed to build catalog search index, retrying on first search", e);
+        }
+    }
+
+    /**
+     * 제목(3개 언어)으로 시리즈 검색
+     *
+     * @return 관련도 순 시리즈 id
+     */
+    public List<Long> searchSeriesByTitle(String query) {
+        ensureBuilt();
+        return seriesIndex.search(query, SERIES_TITLE_FIELDS, maxResults);
+    }
+
+    /**
+     * 작가/그림 작가로 시리즈 검색
+     *
+     * @return 관련도 순 시리즈 id
+     */
+    public List<Long> searchSeriesByAuthor(String query) {
+        ensureBuilt();
+        return seriesIndex.search(query, SERIES_PEOPLE_FIELDS, maxResults);
+    }
+
+    /**
+     * 제목(3개 언어)으로 볼륨 검색
+     *
+     * @return 관련도 순 볼륨 id
+     */
+    public List<Long> searchVolumesByTitle(String query) {
+        ensureBuilt();
+        return volumeIndex.search(query, VOLUME_TITLE_FIELDS, maxResults);
+    }
+
+    /**
+     * 시리즈 자동완성 (제목 3개 언어 + 작가 접두어, 인기도 순)
+     */
+    public List<SeriesSuggestResponse> suggestSeries(String prefix, int limit) {
+        ensureBuilt();
+        return seriesSuggestIndex.suggest(prefix, limit).stream()
+                .map(suggestion -> {
+                    SeriesSummaryResponse series = suggestion.value();
+                    return new SeriesSuggestResponse(series.getId(), series.getTitle(), series.getTitleEn(),
+                            series.getTitleJp(), series.getAuthor(), series.getCoverImage(),
+                            series.getRating(), series.getViewCount(), suggestion.matchedText());
+                })
+                .toList();
+    }
+
+    /**
+     * 카탈로그 변경 반영 (커밋 후 해당 항목만 다시 읽어 색인)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCatalogChanged(CatalogChangedEvent event) {
+        if (!built) {
+            // 아직 색인 전이면 전체 색인 때 반영됨
+            return;
+        }
+
+        try {
+            switch (event.type()) {
+                case SERIES -> seriesRepository.findSummaryById(event.id()).ifPresentOrElse(series -> {
+                    indexSeries(series);
+                    seriesSuggestIndex.put(suggestDocumentOf(series));
+                }, () -> removeSeries(event.id()));
+                case VOLUME -> volumeRepository.findSummaryById(event.id()).ifPresentOrElse(
+                        this::indexVolume, () -> removeVolume(event.id()));
+                case PUBLISHER -> {
+                    // 출판사 정보는 색인하지 않음
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to update catalog search index: {}", event, e);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("built", built);
+        result.put("seriesDocuments", seriesIndex.getDocumentCount());
+        result.put("seriesTokens", seriesIndex.getTokenCount());
+        result.put("suggestKeys", seriesSuggestIndex.getEntryCount());
+        result.put("volumeDocuments", volumeIndex.getDocumentCount());
+        result.put("volumeTokens", volumeIndex.getTokenCount());
+        return result;
+    }
+
+    // ========================================
+    // Helper 메서드
+    // ========================================
+
+    private void ensureBuilt() {
+        if (!built) {
+            build();
+        }
+    }
+
+    /**
+     * 전체 색인 (id 내림차순 커서로 LOAD_BATCH_SIZE 씩)
+     */
+    private synchronized void build() {
+        if (built) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        seriesIndex.clear();
+        volumeIndex.clear();
+        seriesIdByVolume.clear();
+
+        long cursor = Long.MAX_VALUE;
+        List<SeriesSummaryResponse> seriesBatch;
+        List<PrefixSuggestIndex.Document<SeriesSummaryResponse>> suggestDocuments = new ArrayList<>();
+        do {
+            seriesBatch = seriesRepository.findSummaries(cursor, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (SeriesSummaryResponse series : seriesBatch) {
+                indexSeries(series);
+                suggestDocuments.add(suggestDocumentOf(series));
+            }
+            if (!seriesBatch.isEmpty()) {
+                cursor = seriesBatch.get(seriesBatch.size() - 1).getId();
+            }
+        } while (seriesBatch.size() == LOAD_BATCH_SIZE);
+        seriesSuggestIndex.rebuild(suggestDocuments);
+
+        cursor = Long.MAX_VALUE;
+        List<VolumeSummaryResponse> volumeBatch;
+        do {
+            volumeBatch = volumeRepository.findSummaries(cursor, PageRequest.of(0, LOAD_BATCH_SIZE));
+            volumeBatch.forEach(this::indexVolume);
+            if (!volumeBatch.isEmpty()) {
+                cursor = volumeBatch.get(volumeBatch.size() - 1).getId();
+            }
+        } while (volumeBatch.size() == LOAD_BATCH_SIZE);
+
+        built = true;
+        log.info("Catalog search index built: {} series, {} volumes in {}ms",
+                seriesIndex.getDocumentCount(), volumeIndex.getDocumentCount(),
+                System.currentTimeMillis() - startedAt);
+    }
+
+    private void indexSeries(SeriesSummaryResponse series) {
+        seriesIndex.put(series.getId(), series.getTitle(), series.getTitleEn(), series.getTitleJp(),
+                series.getAuthor(), series.getArtist());
+    }
+
+    /**
+     * 자동완성 문서 (인기도 = log(조회수 + 1) + 평점 × 2)
+     */
+    private PrefixSuggestIndex.Document<SeriesSummaryResponse> suggestDocumentOf(SeriesSummaryResponse series) {
+        long views = series.getViewCount() != null ? series.getViewCount() : 0L;
+        double rating = series.getRating() != null ? series.getRating().doubleValue() : 0.0;
+        double score = Math.log1p(Math.max(views, 0L)) + rating * 2;
+
+        List<String> texts = new ArrayList<>(4);
+        texts.add(series.getTitle());
+        texts.add(series.getTitleEn());
+        texts.add(series.getTitleJp());
+        texts.add(series.getAuthor());
+        return new PrefixSuggestIndex.Document<>(series.getId(), score, series, texts);
+    }
+
+    private void indexVolume(VolumeSummaryResponse volume) {
+        volumeIndex.put(volume.getId(), volume.getTitle(), volume.getTitleEn(), volume.getTitleJp());
+        seriesIdByVolume.put(volume.getId(), volume.getSeriesId());
+    }
+
+    private void removeSeries(Long seriesId) {
+        seriesIndex.remove(seriesId);
+        seriesSuggestIndex.remove(seriesId);
+
+        // 볼륨은 DB CASCADE로 함께 삭제됨
+        seriesIdByVolume.entrySet().removeIf(entry -> {
+            if (seriesId.equals(entry.getValue())) {
+                volumeIndex.remove(entry.getKey());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private void removeVolume(Long volumeId) {
+        volumeIndex.remove(volumeId);
+        seriesIdByVolume.remove(volumeId);
+    }
+}
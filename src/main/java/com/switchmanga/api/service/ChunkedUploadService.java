@@ -0,0 +1,431 @@
+package com.switchmanga.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.switchmanga.api.config.FileUploadConfig;
+import com.switchmanga.api.dto.upload.ChunkUploadSessionResponse;
+import com.switchmanga.api.dto.upload.UploadJobResponse;
+import com.switchmanga.api.dto.upload.VolumeUploadRequest;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 이어 올리기 가능한 청크 업로드
+ *
+ * 1. 세션 생성: 파일 크기/청크 크기로 세션 디렉토리(temp/chunks/{uploadId}) 생성
+ * 2. 청크 업로드: 청크마다 SHA-256을 검증해 chunk_{index} 파일로 저장 (순서 무관, 재전송 시 덮어씀)
+ * 3. 상태 조회: 수신된 청크 목록과 연속 수신 바이트(offset)로 끊긴 지점부터 재개
+ * 4. 완료: 요청 검증 후 FileChannel.transferTo로 청크를 하나의 ZIP으로 합쳐 기존 볼륨 업로드 작업으로 전달
+ *    청크는 작업 등록이 성공한 뒤에만 삭제하므로 등록이 실패해도 같은 세션으로 다시 완료 요청할 수 있다.
+ *
+ * 세션 정보는 session.json에 저장하므로 서버가 재시작되어도 이어서 업로드할 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChunkedUploadService {
+
+    private static final String CHUNKS_DIR = "chunks";
+    private static final String SESSION_FILE = "session.json";
+    private static final String CHUNK_PREFIX = "chunk_";
+    private static final String ASSEMBLED_FILE = "assembled.zip";
+
+    private static final Pattern UPLOAD_ID_PATTERN = Pattern.compile("[0-9a-f\\-]{36}");
+    private static final Pattern SHA256_PATTERN = Pattern.compile("[0-9a-fA-F]{64}");
+
+    private static final int MIN_CHUNK_SIZE = 256 * 1024;
+
+    private final FileUploadConfig fileUploadConfig;
+    private final VolumeIngestService volumeIngestService;
+    private final ObjectMapper objectMapper;
+
+    // 기본 청크 크기 (클라이언트가 지정하지 않은 경우)
+    @Value("${file.upload.chunk.default-size:8388608}")
+    private int defaultChunkSize;
+
+    // 최대 청크 크기
+    @Value("${file.upload.chunk.max-size:67108864}")
+    private int maxChunkSize;
+
+    // 최대 파일 크기
+    @Value("${file.upload.chunk.max-file-size:4294967296}")
+    private long maxFileSize;
+
+    // 마지막 활동 이후 세션 보관 시간
+    @Value("${file.upload.chunk.session-ttl-hours:24}")
+    private long sessionTtlHours;
+
+    // 완료 처리 중인 세션 (완료 중 청크 쓰기/중복 완료 방지)
+    private final Set<String> completingSessions = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 업로드 세션 생성
+     *
+     * @param fileName 원본 파일명
+     * @param totalSize 전체 파일 크기
+     * @param chunkSize 청크 크기 (null이면 기본값)
+     * @param sha256 전체 파일 SHA-256 (선택, 완료 시 검증)
+     */
+    public ChunkUploadSessionResponse createSession(String fileName, long totalSize, Integer chunkSize, String sha256)
+            throws IOException {
+        if (totalSize <= 0 || totalSize > maxFileSize) {
+            throw new IllegalArgumentException("파일 크기가 올바르지 않습니다: " + totalSize);
+        }
+        int size = chunkSize != null ? chunkSize : defaultChunkSize;
+        if (size < MIN_CHUNK_SIZE || size > maxChunkSize) {
+            throw new IllegalArgumentException(
+                    "청크 크기는 " + MIN_CHUNK_SIZE + " ~ " + maxChunkSize + " bytes 사이여야 합니다: " + size);
+        }
+        if (sha256 != null && !SHA256_PATTERN.matcher(sha256).matches()) {
+            throw new IllegalArgumentException("SHA-256 형식이 올바르지 않습니다");
+        }
+
+        purgeExpiredSessions();
+
+        UploadSession session = new UploadSession();
+        session.setUploadId(UUID.randomUUID().toString());
+        session.setFileName(fileName);
+        session.setTotalSize(totalSize);
+        session.setChunkSize(size);
+        session.setSha256(sha256 != null ? sha256.toLowerCase() : null);
+        session.setCreatedAt(System.currentTimeMillis());
+
+        Path sessionDir = sessionDir(session.getUploadId());
+        Files.createDirectories(sessionDir);
+        objectMapper.writeValue(sessionDir.resolve(SESSION_FILE).toFile(), session);
+
+        log.info("Chunk upload session created: {} ({} bytes, {} chunks)",
+                session.getUploadId(), totalSize, session.totalChunks());
+        return toResponse(session);
+    }
+
+    /**
+     * 세션 상태 조회 (없으면 null)
+     */
+    public ChunkUploadSessionResponse getStatus(String uploadId) throws IOException {
+        UploadSession session = loadSession(uploadId);
+        return session != null ? toResponse(session) : null;
+    }
+
+    /**
+     * 청크 저장
+     * - 본문 길이와 SHA-256이 모두 맞을 때만 chunk_{index}로 원자적으로 교체
+     *
+     * @param checksum 청크의 SHA-256 (hex)
+     * @return 저장 후 세션 상태 (세션이 없으면 null)
+     */
+    public ChunkUploadSessionResponse writeChunk(String uploadId, int index, InputStream body, String checksum)
+            throws IOException {
+        UploadSession session = loadSession(uploadId);
+        if (session == null) {
+            return null;
+        }
+        if (completingSessions.contains(uploadId)) {
+            throw new IllegalStateException("이미 완료 처리 중인 업로드입니다: " + uploadId);
+        }
+        if (index < 0 || index >= session.totalChunks()) {
+            throw new IllegalArgumentException("청크 번호가 범위를 벗어났습니다: " + index);
+        }
+        if (checksum == null || !SHA256_PATTERN.matcher(checksum).matches()) {
+            throw new IllegalArgumentException("청크 SHA-256 체크섬이 필요합니다");
+        }
+
+        long expectedLength = session.chunkLength(index);
+        Path sessionDir = sessionDir(uploadId);
+        Path partFile = sessionDir.resolve(CHUNK_PREFIX + index + "." + UUID.randomUUID() + ".part");
+
+        try {
+            MessageDigest digest = sha256();
+            long written = 0;
+            byte[] buffer = new byte[64 * 1024];
+
+            try (OutputStream out = Files.newOutputStream(partFile)) {
+                int read;
+                while ((read = body.read(buffer)) != -1) {
+                    written += read;
+                    if (written > expectedLength) {
+                        throw new IllegalArgumentException(
+                                "청크 크기가 초과되었습니다: index=" + index + ", expected=" + expectedLength);
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+
+            if (written != expectedLength) {
+                throw new IllegalArgumentException(
+                        "청크 크기가 맞지 않습니다: index=" + index + ", expected=" + expectedLength + ", actual=" + written);
+            }
+
+            String actual = HexFormat.of().formatHex(digest.digest());
+            if (!actual.equalsIgnoreCase(checksum)) {
+                throw new IllegalArgumentException("청크 체크섬이 일치하지 않습니다: index=" + index);
+            }
+
+            Files.move(partFile, chunkFile(sessionDir, index),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(partFile);
+        }
+
+        touch(sessionDir);
+        return toResponse(session);
+    }
+
+    /**
+     * 업로드 완료: 요청 검증 → 청크 합치기 → 볼륨 업로드 작업 등록
+     *
+     * @return 등록된 업로드 작업 (세션이 없으면 null)
+     */
+    public UploadJobResponse complete(String uploadId, VolumeUploadRequest request, MultipartFile coverFile)
+            throws IOException {
+        UploadSession session = loadSession(uploadId);
+        if (session == null) {
+            return null;
+        }
+        if (!completingSessions.add(uploadId)) {
+            throw new IllegalStateException("이미 완료 처리 중인 업로드입니다: " + uploadId);
+        }
+
+        Path sessionDir = sessionDir(uploadId);
+        try {
+            List<Integer> missing = new ArrayList<>();
+            for (int i = 0; i < session.totalChunks(); i++) {
+                if (!Files.exists(chunkFile(sessionDir, i))) {
+                    missing.add(i);
+                }
+            }
+            if (!missing.isEmpty()) {
+                throw new IllegalStateException("수신되지 않은 청크가 있습니다: " + missing);
+            }
+
+            // 합치기 전에 등록할 수 없는 요청인지 확인 (잘못된 시리즈 등)
+            UploadJobResponse invalid = volumeIngestService.validate(request);
+            if (invalid != null) {
+                return invalid;
+            }
+
+            Path assembled = assemble(session, sessionDir);
+            UploadJobResponse response;
+            try {
+                response = volumeIngestService.submit(request, coverFile, assembled);
+            } finally {
+                // 작업 디렉토리로 옮겨지지 않은 합친 파일 정리 (청크는 남아 있어 다시 합칠 수 있음)
+                Files.deleteIfExists(assembled);
+            }
+
+            if (response.isSuccess()) {
+                FileSystemUtils.deleteRecursively(sessionDir);
+                log.info("Chunk upload completed: {} -> jobId={}", uploadId, response.getJobId());
+            }
+            return response;
+
+        } finally {
+            completingSessions.remove(uploadId);
+        }
+    }
+
+    /**
+     * 업로드 취소 (세션 삭제)
+     */
+    public boolean cancel(String uploadId) throws IOException {
+        if (loadSession(uploadId) == null || completingSessions.contains(uploadId)) {
+            return false;
+        }
+        return FileSystemUtils.deleteRecursively(sessionDir(uploadId));
+    }
+
+    /**
+     * 청크 파일을 순서대로 하나의 파일로 합침 (커널 내 복사, 청크는 그대로 둠)
+     * - 크기/체크섬이 맞지 않거나 실패하면 합친 파일은 삭제
+     */
+    private Path assemble(UploadSession session, Path sessionDir) throws IOException {
+        Path assembled = sessionDir.resolve(ASSEMBLED_FILE);
+
+        try {
+            long assembledSize;
+            try (FileChannel out = FileChannel.open(assembled, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                for (int i = 0; i < session.totalChunks(); i++) {
+                    try (FileChannel in = FileChannel.open(chunkFile(sessionDir, i), StandardOpenOption.READ)) {
+                        long size = in.size();
+                        long position = 0;
+                        while (position < size) {
+                            position += in.transferTo(position, size - position, out);
+                        }
+                    }
+                }
+                assembledSize = out.size();
+            }
+
+            if (assembledSize != session.getTotalSize()) {
+                throw new IllegalStateException(
+                        "합친 파일 크기가 맞지 않습니다: expected=" + session.getTotalSize() + ", actual=" + assembledSize);
+            }
+            if (session.getSha256() != null && !sha256Hex(assembled).equals(session.getSha256())) {
+                throw new IllegalStateException("파일 체크섬이 일치하지 않습니다");
+            }
+            return assembled;
+
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(assembled);
+            throw e;
+        }
+    }
+
+    private ChunkUploadSessionResponse toResponse(UploadSession session) throws IOException {
+        Path sessionDir = sessionDir(session.getUploadId());
+
+        List<Integer> received = new ArrayList<>();
+        long offset = 0;
+        boolean contiguous = true;
+        for (int i = 0; i < session.totalChunks(); i++) {
+            if (Files.exists(chunkFile(sessionDir, i))) {
+                received.add(i);
+                if (contiguous) {
+                    offset += session.chunkLength(i);
+                }
+            } else {
+                contiguous = false;
+            }
+        }
+
+        Instant lastActivity = Files.getLastModifiedTime(sessionDir).toInstant();
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(
+                lastActivity.plus(Duration.ofHours(sessionTtlHours)), ZoneId.systemDefault());
+
+        return ChunkUploadSessionResponse.builder()
+                .success(true)
+                .uploadId(session.getUploadId())
+                .fileName(session.getFileName())
+                .totalSize(session.getTotalSize())
+                .chunkSize(session.getChunkSize())
+                .totalChunks(session.totalChunks())
+                .receivedChunks(received)
+                .offset(offset)
+                .complete(received.size() == session.totalChunks())
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private UploadSession loadSession(String uploadId) throws IOException {
+        if (uploadId == null || !UPLOAD_ID_PATTERN.matcher(uploadId).matches()) {
+            return null;
+        }
+        Path sessionFile = sessionDir(uploadId).resolve(SESSION_FILE);
+        if (!Files.exists(sessionFile)) {
+            return null;
+        }
+        return objectMapper.readValue(sessionFile.toFile(), UploadSession.class);
+    }
+
+    /**
+     * 마지막 활동 후 TTL이 지난 세션 삭제 (세션 생성 시 함께 정리)
+     */
+    private void purgeExpiredSessions() {
+        Path chunksRoot = fileUploadConfig.getTempDirectory().resolve(CHUNKS_DIR);
+        if (!Files.isDirectory(chunksRoot)) {
+            return;
+        }
+
+        Instant threshold = Instant.now().minus(Duration.ofHours(sessionTtlHours));
+        try (var sessions = Files.list(chunksRoot)) {
+            for (Path dir : sessions.toList()) {
+                if (completingSessions.contains(dir.getFileName().toString())) {
+                    continue;
+                }
+                if (Files.getLastModifiedTime(dir).toInstant().isBefore(threshold)) {
+                    FileSystemUtils.deleteRecursively(dir);
+                    log.info("Expired chunk upload session removed: {}", dir.getFileName());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to purge expired chunk upload sessions", e);
+        }
+    }
+
+    private void touch(Path sessionDir) throws IOException {
+        Files.setLastModifiedTime(sessionDir, FileTime.from(Instant.now()));
+    }
+
+    private Path sessionDir(String uploadId) {
+        return fileUploadConfig.getTempDirectory().resolve(CHUNKS_DIR).resolve(uploadId);
+    }
+
+    private Path chunkFile(Path sessionDir, int index) {
+        return sessionDir.resolve(CHUNK_PREFIX + index);
+    }
+
+    private static String sha256Hex(Path file) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * session.json 내용
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    static class UploadSession {
+        private String uploadId;
+        private String fileName;
+        private long totalSize;
+        private int chunkSize;
+        private String sha256;
+        private long createdAt;
+
+        int totalChunks() {
+            return (int) ((totalSize + chunkSize - 1) / chunkSize);
+        }
+
+        long chunkLength(int index) {
+            long start = (long) index * chunkSize;
+            return Math.min(chunkSize, totalSize - start);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.switchmanga.api.service;
+
+import com.switchmanga.api.entity.User;
+import com.switchmanga.api.entity.UserRole;
+import com.switchmanga.api.entity.Volume;
+import com.switchmanga.api.repository.OrderItemRepository;
+import com.switchmanga.api.repository.VolumeRepository;
+import com.switchmanga.api.util.LruCache;
+import com.switchmanga.api.util.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 볼륨 열람 권한 (구매 여부 + 무료 미리보기)
+ *
+ * - 사용자별 구매 볼륨 ID를 정렬된 long[]로 메모리에 보관 (PAID/COMPLETED 주문의 OrderItem 기준)
+ * - 볼륨별 무료 여부(isFree)/무료 페이지 수(freePages)도 캐시 → 페이지 확인은 DB 조회 없이 이진 탐색 한 번
+ * - 결제 완료/환불/주문 상태 변경은 트랜잭션 커밋 후 반영 (롤백된 결제로 권한이 생기지 않음)
+ *   - 구매: 캐시된 배열에 병합
+ *   - 환불/취소: 같은 볼륨을 다른 주문으로도 샀을 수 있으므로 해당 사용자 항목만 삭제 후 다시 로드
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EntitlementService {
+
+    private final OrderItemRepository orderItemRepository;
+    private final VolumeRepository volumeRepository;
+
+    // 캐시에 보관할 구매 볼륨 ID 총 개수
+    @Value("${reader.entitlement.cache-max-ids:2000000}")
+    private long cacheMaxIds;
+
+    // 캐시에 보관할 볼륨 정책 수
+    @Value("${reader.entitlement.volume-cache-size:10000}")
+    private int volumeCacheSize;
+
+    private LruCache<Long, long[]> ownedVolumes;
+    private LruCache<Long, VolumeAccess> volumeAccess;
+
+    // 로드 중 구매/환불이 반영되면 로드 결과를 캐시에 넣지 않기 위한 버전
+    private long version;
+
+    @PostConstruct
+    public void init() {
+        ownedVolumes = new LruCache<>(cacheMaxIds, ids -> ids.length + 1L, null);
+        volumeAccess = LruCache.ofSize(volumeCacheSize);
+    }
+
+    /**
+     * 사용자가 볼륨을 구매했는지
+     */
+    public boolean owns(Long userId, Long volumeId) {
+        return Arrays.binarySearch(getOwnedVolumeIds(userId), volumeId) >= 0;
+    }
+
+    /**
+     * 해당 페이지를 읽을 수 있는지 (무료 볼륨, 관리자, 구매자는 전체, 그 외는 무료 페이지까지)
+     *
+     * @throws IllegalArgumentException 볼륨이 없으면
+     */
+    public boolean canRead(User user, Long volumeId, int pageNumber) {
+        VolumeAccess access = getVolumeAccess(volumeId);
+        return access.free()
+                || pageNumber <= access.freePages()
+                || hasFullAccess(user, volumeId);
+    }
+
+    /**
+     * 볼륨 전체를 읽을 수 있는지 (무료 볼륨, 관리자, 구매자 - 오프라인 다운로드용)
+     *
+     * @throws IllegalArgumentException 볼륨이 없으면
+     */
+    public boolean canReadAll(User user, Long volumeId) {
+        return getVolumeAccess(volumeId).free() || hasFullAccess(user, volumeId);
+    }
+
+    /**
+     * 읽을 수 있는 마지막 페이지 (0이면 읽을 수 없음)
+     */
+    public int readableLastPage(User user, Volume volume) {
+        int totalPages = volume.getTotalPages() != null ? volume.getTotalPages() : 0;
+        if (Boolean.TRUE.equals(volume.getIsFree()) || hasFullAccess(user, volume.getId())) {
+            return totalPages;
+        }
+        int freePages = volume.getFreePages() != null ? volume.getFreePages() : 0;
+        return Math.min(freePages, totalPages);
+    }
+
+    /**
+     * 커밋 후 구매 볼륨 추가
+     */
+    public void grantAfterCommit(Long userId, Collection<Long> volumeIds) {
+        long[] granted = volumeIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        TransactionCallbacks.afterCommit(() -> grant(userId, granted));
+    }
+
+    /**
+     * 커밋 후 사용자 구매 목록 다시 로드 (환불, 취소, 주문 삭제)
+     */
+    public void revokeAfterCommit(Long userId) {
+        TransactionCallbacks.afterCommit(() -> invalidateUser(userId));
+    }
+
+    /**
+     * 볼륨 정책(isFree, freePages) 변경/삭제 시 호출
+     */
+    public void evictVolume(Long volumeId) {
+        TransactionCallbacks.afterCommit(() -> volumeAccess.remove(volumeId));
+    }
+
+    /**
+     * 캐시 통계
+     */
+    public Map<String, Object> getStats() {
+        LruCache.Stats owned = ownedVolumes.stats();
+        LruCache.Stats volumes = volumeAccess.stats();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("cachedUsers", owned.size());
+        result.put("cachedVolumeIds", owned.weight() - owned.size());
+        result.put("maxIds", owned.maxWeight());
+        result.put("userHitRate", owned.hitRate());
+        result.put("cachedVolumes", volumes.size());
+        result.put("volumeHitRate", volumes.hitRate());
+        return result;
+    }
+
+    // ========================================
+    // Helper 메서드
+    // ========================================
+
+    private boolean hasFullAccess(User user, Long volumeId) {
+        if (user == null) {
+            return false;
+        }
+        return user.getRole() == UserRole.ADMIN || owns(user.getId(), volumeId);
+    }
+
+    private long[] getOwnedVolumeIds(Long userId) {
+        long[] cached = ownedVolumes.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadVersion;
+        synchronized (this) {
+            loadVersion = version;
+        }
+        long[] loaded = orderItemRepository.findOwnedVolumeIdsByUserId(userId).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+
+        synchronized (this) {
+            if (version == loadVersion) {
+                ownedVolumes.put(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private VolumeAccess getVolumeAccess(Long volumeId) {
+        VolumeAccess cached = volumeAccess.get(volumeId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Volume volume = volumeRepository.findById(volumeId)
+                .orElseThrow(() -> new IllegalArgumentException("볼륨을 찾을 수 없습니다: " + volumeId));
+        VolumeAccess access = new VolumeAccess(Boolean.TRUE.equals(volume.getIsFree()),
+                volume.getFreePages() != null ? volume.getFreePages() : 0);
+        volumeAccess.put(volumeId, access);
+        return access;
+    }
+
+    private synchronized void grant(Long userId, long[] granted) {
+        version++;
+        long[] owned = ownedVolumes.get(userId);
+        if (owned != null) {
+            ownedVolumes.put(userId, merge(owned, granted));
+        }
+        log.debug("Entitlement granted: user={}, volumes={}", userId, granted.length);
+    }
+
+    private synchronized void invalidateUser(Long userId) {
+        version++;
+        ownedVolumes.remove(userId);
+        log.debug("Entitlement invalidated: user={}", userId);
+    }
+
+    /**
+     * 정렬된 두 배열 병합 (중복 제거)
+     */
+    private static long[] merge(long[] a, long[] b) {
+        long[] result = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length || j < b.length) {
+            long next;
+            if (j >= b.length || (i < a.length && a[i] <= b[j])) {
+                next = a[i++];
+            } else {
+                next = b[j++];
+            }
+            if (n == 0 || result[n - 1] != next) {
+                result[n++] = next;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    /**
+     * 볼륨 열람 정책
+     */
+    private record VolumeAccess(boolean free, int freePages) {
+    }
+}
@@ -4,22 +4,37 @@ import com.switchmanga.api.config.FileUploadConfig;
 import com.switchmanga.api.dto.upload.ImageUploadResponse;
 import com.switchmanga.api.dto.upload.ZipUploadResponse;
 import com.switchmanga.api.exception.FileValidationException;
+import com.switchmanga.api.util.ArchiveIndex;
+import com.switchmanga.api.util.TeeInputStream;
+import com.switchmanga.api.util.ZipEntryNameDecoder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.io.InputStream;
 import java.util.Enumeration;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
 import org.apache.commons.compress.archivers.zip.ZipFile;
 
 @Slf4j
@@ -28,6 +43,10 @@ import org.apache.commons.compress.archivers.zip.ZipFile;
 public class FileUploadService {
 
     private final FileUploadConfig fileUploadConfig;
+    private final ThreadPoolTaskExecutor zipExtractionExecutor;
+    private final PageBlobService pageBlobService;
+    private final ArchiveStorageService archiveStorageService;
+
 
     // 허용된 이미지 확장자
     private static final List<String> ALLOWED_IMAGE_EXTENSIONS =
@@ -103,37 +122,65 @@ public class FileUploadService {
             // 3. 원본 파일명
             String originalFilename = file.getOriginalFilename();
 
-            // 4. ZIP 파일 저장 (comic_timestamp.zip)
+            // 4. ZIP 파일명 (comic_timestamp.zip)
             String zipFilename = "comic_" + System.currentTimeMillis() + ".zip";
             Path zipPath = bookDir.resolve(zipFilename);
-            Files.copy(file.getInputStream(), zipPath, StandardCopyOption.REPLACE_EXISTING);
-
-            log.info("ZIP file saved: {}", zipPath);
 
-            // 5. pages/ 폴더 생성
-            Path pagesDir = bookDir.resolve("pages");
-            Files.createDirectories(pagesDir);
+            // 5. pages/ 경로 (원본 ZIP 기반 모드에서는 실제 폴더를 만들지 않음)
+            Path pagesDir = bookDir.resolve(ArchiveStorageService.PAGES_DIR);
 
             // 6. ZIP 압축 해제
-            List<String> extractedFiles = extractZipFile(zipPath, pagesDir);
+            List<String> extractedFiles = null;
+            boolean archiveSaved = true;
+            Collection<PageBlobService.StoredBlob> storedBlobs = new ConcurrentLinkedQueue<>();
+
+            if (archiveStorageService.isEnabled()) {
+                // 원본 ZIP 기반: ZIP 저장 + 엔트리 오프셋 인덱스만 생성 (압축 해제 없음)
+                Files.copy(file.getInputStream(), zipPath, StandardCopyOption.REPLACE_EXISTING);
+                log.info("ZIP file saved: {}", zipPath);
+
+                ArchiveIndex index = archiveStorageService.createIndex(bookDir, zipPath);
+                if (index != null) {
+                    extractedFiles = index.getEntries().stream().map(ArchiveIndex.Entry::name).toList();
+                } else {
+                    Files.createDirectories(pagesDir);
+                    extractedFiles = extractZipFile(zipPath, pagesDir, storedBlobs);
+                }
+            } else if (fileUploadConfig.isStreamingExtraction()) {
+                Files.createDirectories(pagesDir);
+                // 업로드 스트림에서 바로 추출 (원본 사본은 같은 패스에서 저장)
+                archiveSaved = fileUploadConfig.isKeepArchive();
+                try (InputStream inputStream = file.getInputStream()) {
+                    extractedFiles = streamExtractZip(inputStream, archiveSaved ? zipPath : null, pagesDir, storedBlobs);
+                }
+            } else {
+                Files.createDirectories(pagesDir);
+                Files.copy(file.getInputStream(), zipPath, StandardCopyOption.REPLACE_EXISTING);
+                log.info("ZIP file saved: {}", zipPath);
+
+                extractedFiles = extractZipFile(zipPath, pagesDir, storedBlobs);
+            }
+
+            // 이미지는 해시 저장소에 등록 (같은 내용을 페이지로 올리면 파일을 다시 쓰지 않음)
+            pageBlobService.register(storedBlobs);
 
-            log.info("Extracted {} files from ZIP", extractedFiles.size());
+            log.info("Extracted {} files from ZIP ({} images, {} new)", extractedFiles.size(), storedBlobs.size(),
+                    storedBlobs.stream().filter(PageBlobService.StoredBlob::created).count());
 
-            // 7. AVF 파일 자동 감지 (재귀 검색)
-            Path avfPath = findAvfFile(pagesDir);
-            boolean hasAvf = avfPath != null;
+            // 7. AVF 파일 자동 감지 (추출/인덱싱 중 기록한 엔트리 이름에서 찾음, 폴더를 다시 훑지 않음)
+            String avfRelativePath = findAvfEntry(extractedFiles);
+            boolean hasAvf = avfRelativePath != null;
             String avfFilePath = null;
 
             if (hasAvf) {
-                // 상대 경로 생성 (pages/ 기준)
-                Path relativePath = pagesDir.relativize(avfPath);
-                avfFilePath = "/uploads/books/" + bookDir.getFileName() + "/pages/" +
-                        relativePath.toString().replace("\\", "/");
+                avfFilePath = "/uploads/books/" + bookDir.getFileName() + "/pages/" + avfRelativePath;
                 log.info("AVF file detected: {}", avfFilePath);
             }
 
             // 8. 상대 경로 생성
-            String zipRelativePath = "/uploads/books/" + bookDir.getFileName() + "/" + zipFilename;
+            String zipRelativePath = archiveSaved
+                    ? "/uploads/books/" + bookDir.getFileName() + "/" + zipFilename
+                    : null;
             String pagesRelativePath = "/uploads/books/" + bookDir.getFileName() + "/pages/";
 
             // 9. 성공 응답 반환
@@ -244,91 +291,243 @@ public class FileUploadService {
 
     /**
      * ZIP 파일 압축 해제 (한글/일본어 파일명 지원)
+     * - 중앙 디렉토리를 한 번 읽어 파일명 인코딩을 결정한 뒤 한 번만 추출
      */
-    private List<String> extractZipFile(Path zipPath, Path extractDir) throws IOException {
-        List<String> extractedFiles = new ArrayList<>();
+    private List<String> extractZipFile(Path zipPath, Path extractDir,
+                                        Collection<PageBlobService.StoredBlob> storedBlobs) throws IOException {
+        // ✅ 원본 바이트를 보존하는 인코딩으로 열고 이름은 ZipEntryNameDecoder로 디코딩
+        try (ZipFile zipFile = new ZipFile(zipPath.toFile(), ZipEntryNameDecoder.RAW_CHARSET, false)) {
+            Charset charset = detectEntryNameCharset(zipFile);
+            log.info("ZIP entry name charset: {}", charset);
+
+            return extractEntries(zipFile, extractDir, charset, storedBlobs);
+        }
+    }
 
-        // ✅ Apache Commons Compress ZipFile 사용 (UTF-8, EUC-KR, CP949 등 자동 처리)
-        try (ZipFile zipFile = new ZipFile(zipPath.toFile(), "UTF-8")) {
+    /**
+     * 중앙 디렉토리의 파일명으로 인코딩 판별 (추출 전에 한 번만 결정)
+     */
+    private Charset detectEntryNameCharset(ZipFile zipFile) {
+        List<byte[]> rawNames = new ArrayList<>();
+        Enumeration<ZipArchiveEntry> entries = zipFile.getEntries();
+
+        while (entries.hasMoreElements()) {
+            ZipArchiveEntry entry = entries.nextElement();
+            if (ZipEntryNameDecoder.needsDetection(entry)) {
+                rawNames.add(entry.getRawName());
+            }
+        }
+        return ZipEntryNameDecoder.detect(rawNames);
+    }
+
+    /**
+     * ZIP 엔트리 병렬 추출
+     * - ZipFile은 엔트리별 랜덤 액세스가 가능하므로 엔트리 단위로 추출 풀에 분배
+     * - 업로드 하나가 풀을 독점하지 않도록 업로드별 동시 실행 수를 Semaphore로 제한
+     * - 결과는 ZIP 엔트리 순서대로 수집
+     * - 하나라도 실패하면 남은 작업을 취소하고 예외 전파
+     */
+    private List<String> extractEntries(ZipFile zipFile, Path extractDir, Charset charset,
+                                        Collection<PageBlobService.StoredBlob> storedBlobs) throws IOException {
+        // 1. 디렉토리는 먼저 생성하고 파일 엔트리만 모음
+        List<ZipArchiveEntry> fileEntries = new ArrayList<>();
+        List<String> fileEntryNames = new ArrayList<>();
+        Enumeration<ZipArchiveEntry> entries = zipFile.getEntries();
+
+        while (entries.hasMoreElements()) {
+            ZipArchiveEntry entry = entries.nextElement();
+            String entryName = ZipEntryNameDecoder.decode(entry, charset);
+
+            if (entry.isDirectory()) {
+                Files.createDirectories(resolveEntryPath(extractDir, entryName));
+            } else {
+                fileEntries.add(entry);
+                fileEntryNames.add(entryName);
+            }
+        }
 
-            Enumeration<ZipArchiveEntry> entries = zipFile.getEntries();
+        // 2. 업로드별 동시 실행 수 제한
+        Semaphore permits = new Semaphore(Math.max(1, fileUploadConfig.getExtractionConcurrency()));
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Future<String>> futures = new ArrayList<>(fileEntries.size());
 
-            while (entries.hasMoreElements()) {
-                ZipArchiveEntry entry = entries.nextElement();
+        try {
+            for (int i = 0; i < fileEntries.size(); i++) {
+                ZipArchiveEntry entry = fileEntries.get(i);
+                String entryName = fileEntryNames.get(i);
+                permits.acquire();
+
+                // 이미 실패한 엔트리가 있으면 더 이상 제출하지 않음
+                if (failure.get() != null) {
+                    permits.release();
+                    break;
+                }
 
                 try {
-                    // 파일 경로 정리 (Windows 경로 분리자 처리)
-                    String entryName = entry.getName().replace("\\", "/");
-                    Path targetPath = extractDir.resolve(entryName);
-
-                    if (entry.isDirectory()) {
-                        // 디렉토리 생성
-                        Files.createDirectories(targetPath);
-                    } else {
-                        // 부모 디렉토리 생성
-                        Files.createDirectories(targetPath.getParent());
-
-                        // 파일 추출
-                        try (InputStream inputStream = zipFile.getInputStream(entry)) {
-                            Files.copy(
-                                    inputStream,
-                                    targetPath,
-                                    StandardCopyOption.REPLACE_EXISTING
-                            );
+                    futures.add(zipExtractionExecutor.submit(() -> {
+                        try {
+                            return extractEntry(zipFile, entry, entryName, extractDir, storedBlobs);
+                        } catch (Throwable t) {
+                            failure.compareAndSet(null, t);
+                            throw t;
+                        } finally {
+                            permits.release();
                         }
+                    }));
+                } catch (RuntimeException e) {
+                    // 풀 포화 등으로 제출 실패
+                    permits.release();
+                    failure.compareAndSet(null, e);
+                    break;
+                }
+            }
 
-                        extractedFiles.add(entryName);
-                        log.debug("Extracted: {}", entryName);
-                    }
+            // 3. 엔트리 순서대로 결과 수집
+            List<String> extractedFiles = new ArrayList<>(futures.size());
+            for (Future<String> future : futures) {
+                extractedFiles.add(future.get());
+            }
 
-                } catch (IOException e) {
-                    log.error("Failed to extract: {}", entry.getName(), e);
-                    throw new RuntimeException("압축 해제 실패: " + entry.getName(), e);
-                }
+            if (failure.get() != null) {
+                throw new IOException("압축 해제 실패: " + failure.get().getMessage(), failure.get());
+            }
+
+            return extractedFiles;
+
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
             }
+            throw new IOException("압축 해제 실패: " + cause.getMessage(), cause);
 
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new IOException("압축 해제가 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 단일 엔트리 추출 (추출 풀에서 실행)
+     */
+    private String extractEntry(ZipFile zipFile, ZipArchiveEntry entry, String entryName,
+                                Path extractDir, Collection<PageBlobService.StoredBlob> storedBlobs) throws IOException {
+        Path targetPath = resolveEntryPath(extractDir, entryName);
+
+        // 부모 디렉토리 생성
+        Files.createDirectories(targetPath.getParent());
+
+        // 파일 추출
+        try (InputStream inputStream = zipFile.getInputStream(entry)) {
+            writeEntry(inputStream, entryName, targetPath, storedBlobs);
         } catch (IOException e) {
-            // UTF-8 실패 시 EUC-KR 시도
-            log.warn("UTF-8 extraction failed, trying EUC-KR encoding...");
-            try (ZipFile zipFile = new ZipFile(zipPath.toFile(), "EUC-KR")) {
-
-                Enumeration<ZipArchiveEntry> entries = zipFile.getEntries();
-
-                while (entries.hasMoreElements()) {
-                    ZipArchiveEntry entry = entries.nextElement();
-
-                    try {
-                        String entryName = entry.getName().replace("\\", "/");
-                        Path targetPath = extractDir.resolve(entryName);
-
-                        if (entry.isDirectory()) {
-                            Files.createDirectories(targetPath);
-                        } else {
-                            Files.createDirectories(targetPath.getParent());
-
-                            try (InputStream inputStream = zipFile.getInputStream(entry)) {
-                                Files.copy(
-                                        inputStream,
-                                        targetPath,
-                                        StandardCopyOption.REPLACE_EXISTING
-                                );
-                            }
+            log.error("Failed to extract: {}", entryName, e);
+            throw e;
+        }
 
-                            extractedFiles.add(entryName);
-                            log.debug("Extracted (EUC-KR): {}", entryName);
-                        }
+        log.debug("Extracted: {}", entryName);
+        return entryName;
+    }
+
+    private void cancelAll(List<Future<String>> futures) {
+        for (Future<String> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * ZIP 스트리밍 압축 해제
+     * - 업로드 본문을 한 번만 읽으면서 엔트리를 바로 추출
+     * - archivePath가 주어지면 같은 패스에서 원본 ZIP 사본도 기록
+     */
+    private List<String> streamExtractZip(InputStream source, Path archivePath, Path extractDir,
+                                          Collection<PageBlobService.StoredBlob> storedBlobs) throws IOException {
+        List<String> extractedFiles = new ArrayList<>();
+
+        try (OutputStream archiveOut = archivePath != null
+                ? new BufferedOutputStream(Files.newOutputStream(archivePath), 64 * 1024)
+                : OutputStream.nullOutputStream()) {
 
-                    } catch (IOException ex) {
-                        log.error("Failed to extract: {}", entry.getName(), ex);
-                        throw new RuntimeException("압축 해제 실패: " + entry.getName(), ex);
-                    }
+            TeeInputStream teeInputStream = new TeeInputStream(source, archiveOut);
+
+            // allowStoredEntriesWithDataDescriptor=true: 크기 정보가 뒤에 오는 STORED 엔트리도 허용
+            ZipArchiveInputStream zipInputStream = new ZipArchiveInputStream(
+                    teeInputStream, ZipEntryNameDecoder.RAW_CHARSET, false, true);
+
+            // 스트리밍에서는 중앙 디렉토리를 먼저 볼 수 없으므로 첫 비ASCII 이름에서 한 번 결정
+            // (ASCII 이름은 인코딩과 무관하므로 그 전까지의 추출 결과는 동일)
+            Charset charset = null;
+
+            ZipArchiveEntry entry;
+            while ((entry = zipInputStream.getNextZipEntry()) != null) {
+                if (charset == null && ZipEntryNameDecoder.needsDetection(entry)) {
+                    charset = ZipEntryNameDecoder.detect(List.of(entry.getRawName()));
+                    log.info("ZIP entry name charset: {}", charset);
                 }
+
+                String entryName = ZipEntryNameDecoder.decode(
+                        entry, charset != null ? charset : StandardCharsets.UTF_8);
+                Path targetPath = resolveEntryPath(extractDir, entryName);
+
+                if (entry.isDirectory()) {
+                    Files.createDirectories(targetPath);
+                    continue;
+                }
+
+                if (!zipInputStream.canReadEntryData(entry)) {
+                    throw new IOException("지원하지 않는 ZIP 엔트리 형식입니다: " + entryName);
+                }
+
+                Files.createDirectories(targetPath.getParent());
+                writeEntry(zipInputStream, entryName, targetPath, storedBlobs);
+
+                extractedFiles.add(entryName);
+                log.debug("Extracted (stream): {}", entryName);
+            }
+
+            // 중앙 디렉토리까지 마저 읽어 원본 사본을 완성
+            if (archivePath != null) {
+                teeInputStream.drain();
+                log.info("ZIP file saved: {}", archivePath);
             }
         }
 
         return extractedFiles;
     }
 
+    /**
+     * 엔트리 내용 기록
+     * - 이미지: 해시 저장소에 한 번만 기록하고 압축 해제 폴더에는 하드링크로 노출
+     * - 그 외(frame.avf 등): 그대로 복사
+     */
+    private void writeEntry(InputStream inputStream, String entryName, Path targetPath,
+                            Collection<PageBlobService.StoredBlob> storedBlobs) throws IOException {
+        String extension = entryName.contains(".")
+                ? entryName.substring(entryName.lastIndexOf('.') + 1).toLowerCase()
+                : "";
+
+        if (ALLOWED_IMAGE_EXTENSIONS.contains(extension)) {
+            PageBlobService.StoredBlob blob = pageBlobService.store(inputStream, extension);
+            pageBlobService.linkTo(blob, targetPath);
+            storedBlobs.add(blob);
+        } else {
+            Files.copy(inputStream, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 엔트리 경로 계산 (압축 해제 폴더 밖으로 나가는 경로 차단)
+     */
+    private Path resolveEntryPath(Path extractDir, String entryName) throws IOException {
+        Path targetPath = extractDir.resolve(entryName).normalize();
+        if (!targetPath.startsWith(extractDir.normalize())) {
+            throw new IOException("잘못된 ZIP 엔트리 경로입니다: " + entryName);
+        }
+        return targetPath;
+    }
+
     /**
      * 파일 확장자 추출
      */
@@ -363,15 +562,15 @@ public class FileUploadService {
         }
     }
 
-    private Path findAvfFile(Path directory) {
-        try {
-            return Files.walk(directory)
-                    .filter(path -> path.getFileName().toString().equals("frame.avf"))
-                    .findFirst()
-                    .orElse(null);
-        } catch (IOException e) {
-            log.error("Error searching for AVF file", e);
-            return null;
-        }
+    /**
+     * ZIP 엔트리 이름에서 frame.avf 검색
+     *
+     * @return pages/ 기준 상대 경로 (없으면 null)
+     */
+    private String findAvfEntry(List<String> entryNames) {
+        return entryNames.stream()
+                .filter(ActionFrameService::isAvfFile)
+                .findFirst()
+                .orElse(null);
     }
-}
\ No newline at end of file
+}
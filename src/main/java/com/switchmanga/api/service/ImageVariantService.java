@@ -0,0 +1,318 @@
+package com.switchmanga.api.service;
+
+import com.switchmanga.api.config.FileUploadConfig;
+import com.switchmanga.api.util.ImageHeaderProbe;
+import com.switchmanga.api.util.ImageResizer;
+import com.switchmanga.api.util.LruCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 화면 크기별 이미지 변환 (/uploads/...?w=720)
+ *
+ * - 요청 가로는 정해진 단계(widths)로 맞춰서 변환 결과 종류를 제한
+ * - 변환 결과는 디스크 캐시(cache/resized)에 저장하고, 전체 크기 한도를 넘으면 LRU 순으로 삭제
+ * - 같은 변환을 동시에 요청하면 한 번만 변환하고 나머지는 결과를 기다림
+ * - 원본이 요청 가로보다 작거나, ImageIO로 읽을 수 없는 형식(WebP, 애니메이션 GIF 등)은 원본 그대로 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageVariantService {
+
+    private static final List<String> RESIZABLE_EXTENSIONS = List.of("jpg", "jpeg", "png");
+
+    private final FileUploadConfig fileUploadConfig;
+
+    // 허용 가로 단계 (px)
+    @Value("${file.upload.resize.widths:360,480,720,1080,1440}")
+    private int[] widths;
+
+    // 변환 결과 캐시 폴더 (base-dir 기준)
+    @Value("${file.upload.resize.cache-dir:cache/resized}")
+    private String cacheDir;
+
+    // 변환 결과 캐시 최대 크기 (bytes)
+    @Value("${file.upload.resize.cache-max-bytes:2147483648}")
+    private long cacheMaxBytes;
+
+    // JPEG 품질
+    @Value("${file.upload.resize.quality:0.85}")
+    private float quality;
+
+    private LruCache<String, Path> cache;
+    private final Map<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong resized = new AtomicLong();
+    private final AtomicLong collapsed = new AtomicLong();
+    private final AtomicLong passthrough = new AtomicLong();
+
+    /**
+     * 캐시 인덱스 복원 (오래 사용하지 않은 파일부터 넣어 LRU 순서 유지)
+     */
+    @PostConstruct
+    public void init() {
+        widths = Arrays.stream(widths).filter(w -> w > 0).sorted().distinct().toArray();
+        cache = new LruCache<>(cacheMaxBytes, this::sizeOf, (key, path) -> deleteQuietly(path));
+
+        Path root = getCacheRoot();
+        try {
+            Files.createDirectories(root);
+            try (Stream<Path> files = Files.walk(root)) {
+                List<Path> cached = files.filter(Files::isRegularFile).toList();
+                cached.stream()
+                        .filter(path -> path.getFileName().toString().endsWith(".part"))
+                        .forEach(this::deleteQuietly);
+                cached.stream()
+                        .filter(path -> !path.getFileName().toString().endsWith(".part"))
+                        .sorted(Comparator.comparing(this::lastAccess))
+                        .forEach(path -> cache.put(keyOf(path), path));
+            }
+            LruCache.Stats stats = cache.stats();
+            log.info("Image variant cache: {} files, {} bytes (limit {})", stats.size(), stats.weight(), cacheMaxBytes);
+        } catch (IOException e) {
+            log.warn("Failed to load image variant cache: {}", root, e);
+        }
+    }
+
+    /**
+     * 요청 가로에 맞는 파일 (변환 결과 또는 원본)
+     *
+     * @param relativePath /uploads/ 이후 경로
+     * @return 원본이 없으면 null
+     */
+    public Variant resolve(String relativePath, int requestedWidth) throws IOException {
+        Path source = resolveSource(relativePath);
+        if (source == null) {
+            return null;
+        }
+
+        String extension = extensionOf(source);
+        int width = snapWidth(requestedWidth);
+
+        BasicFileAttributes attributes = Files.readAttributes(source, BasicFileAttributes.class);
+        String key = variantKey(relativePath, attributes, width);
+
+        if (!RESIZABLE_EXTENSIONS.contains(extension)) {
+            passthrough.incrementAndGet();
+            return new Variant(source, key, false);
+        }
+
+        Path cached = cache.get(key);
+        if (cached != null && Files.exists(cached)) {
+            return new Variant(cached, key, true);
+        }
+
+        // 원본이 더 작으면 변환하지 않음 (헤더만 확인)
+        Integer sourceWidth = probeWidth(source);
+        if (sourceWidth != null && sourceWidth <= width) {
+            passthrough.incrementAndGet();
+            return new Variant(source, key, false);
+        }
+
+        Path target = getCacheRoot()
+                .resolve(key.substring(0, 2))
+                .resolve(key + ("png".equals(extension) ? ".png" : ".jpg"));
+        Path variant = resizeOnce(key, source, target, width, "png".equals(extension));
+
+        return variant != null ? new Variant(variant, key, true) : new Variant(source, key, false);
+    }
+
+    /**
+     * 캐시/변환 통계
+     */
+    public Map<String, Object> getStats() {
+        LruCache.Stats stats = cache.stats();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("cachedFiles", stats.size());
+        result.put("cachedBytes", stats.weight());
+        result.put("maxBytes", stats.maxWeight());
+        result.put("hits", stats.hits());
+        result.put("misses", stats.misses());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictions", stats.evictions());
+        result.put("resized", resized.get());
+        result.put("collapsed", collapsed.get());
+        result.put("passthrough", passthrough.get());
+        result.put("inFlight", inFlight.size());
+        result.put("widths", widths);
+        return result;
+    }
+
+    /**
+     * 요청 가로 이상인 가장 작은 단계 (없으면 최대 단계)
+     */
+    int snapWidth(int requestedWidth) {
+        for (int width : widths) {
+            if (width >= requestedWidth) {
+                return width;
+            }
+        }
+        return widths[widths.length - 1];
+    }
+
+    /**
+     * 같은 key의 변환은 한 번만 실행 (나중 요청은 먼저 시작한 변환 결과를 기다림)
+     */
+    private Path resizeOnce(String key, Path source, Path target, int width, boolean png) throws IOException {
+        CompletableFuture<Path> mine = new CompletableFuture<>();
+        CompletableFuture<Path> running = inFlight.putIfAbsent(key, mine);
+
+        if (running != null) {
+            collapsed.incrementAndGet();
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+            }
+        }
+
+        try {
+            Path result = Files.exists(target) ? target : render(source, target, width, png);
+            if (result != null) {
+                cache.put(key, result);
+            }
+            mine.complete(result);
+            return result;
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private Path render(Path source, Path target, int width, boolean png) throws IOException {
+        BufferedImage image = ImageResizer.resize(source, width, !png);
+        if (image == null) {
+            return null;
+        }
+
+        if (png) {
+            ImageResizer.writePng(image, target);
+        } else {
+            ImageResizer.writeJpeg(image, target, quality);
+        }
+        resized.incrementAndGet();
+        return target;
+    }
+
+    private Integer probeWidth(Path source) {
+        ImageHeaderProbe probe = new ImageHeaderProbe();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(source)) {
+            int read;
+            while (!probe.isDone() && (read = in.read(buffer)) != -1) {
+                probe.update(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return probe.getWidth();
+    }
+
+    /**
+     * /uploads/ 이후 경로 → 원본 파일 (업로드 폴더 밖, 캐시/팩/페이지 이미지 저장소, 존재하지 않는 파일은 null)
+     */
+    private Path resolveSource(String relativePath) {
+        Path baseDir = fileUploadConfig.getBaseDirectory().toAbsolutePath().normalize();
+        Path path = baseDir.resolve(relativePath).normalize();
+
+        Path packsDir = fileUploadConfig.getPacksDirectory().toAbsolutePath().normalize();
+        Path blobsDir = fileUploadConfig.getBlobsDirectory().toAbsolutePath().normalize();
+        if (!path.startsWith(baseDir) || path.startsWith(getCacheRoot()) || path.startsWith(packsDir)
+                || path.startsWith(blobsDir) || !Files.isRegularFile(path)) {
+            return null;
+        }
+        return path;
+    }
+
+    /**
+     * 원본 경로 + 크기 + 수정 시각 + 가로 → 변환 key (원본이 바뀌면 key도 바뀜)
+     */
+    private String variantKey(String relativePath, BasicFileAttributes attributes, int width) {
+        String raw = relativePath + "|" + attributes.size() + "|" + attributes.lastModifiedTime().toMillis() + "|" + width;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(raw.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 20);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Path getCacheRoot() {
+        return fileUploadConfig.getBaseDirectory().resolve(cacheDir).toAbsolutePath().normalize();
+    }
+
+    private static String keyOf(Path cachedFile) {
+        String name = cachedFile.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    private static String extensionOf(Path path) {
+        String name = path.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(dot + 1).toLowerCase() : "";
+    }
+
+    private long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private FileTime lastAccess(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class).lastAccessTime();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete cached image variant: {}", path, e);
+        }
+    }
+
+    /**
+     * 응답할 파일
+     *
+     * @param key 변환 key (ETag용)
+     * @param resized 변환 결과인지 (false면 원본)
+     */
+    public record Variant(Path path, String key, boolean resized) {
+    }
+}
@@ -26,6 +26,7 @@ public class OrderService {
     private final OrderItemRepository orderItemRepository;
     private final UserRepository userRepository;
     private final VolumeRepository volumeRepository;
+    private final EntitlementService entitlementService;
 
     // 전체 주문 목록 조회
     public List<Order> getAllOrders() {
@@ -107,8 +108,17 @@ public class OrderService {
             throw new RuntimeException("유효하지 않은 주문 상태입니다: " + status);
         }
 
+        boolean wasOwned = isOwnedStatus(order.getStatus());
         order.setStatus(status);
 
+        // 구매 상태가 바뀌면 커밋 후 열람 권한 반영
+        if (!wasOwned && isOwnedStatus(status)) {
+            entitlementService.grantAfterCommit(order.getUser().getId(),
+                    orderItemRepository.findVolumeIdsByOrderId(order.getId()));
+        } else if (wasOwned && !isOwnedStatus(status)) {
+            entitlementService.revokeAfterCommit(order.getUser().getId());
+        }
+
         // 결제 완료 시간 기록
         if ("PAID".equals(status) && order.getPaidAt() == null) {
             order.setPaidAt(LocalDateTime.now());
@@ -147,6 +157,9 @@ public class OrderService {
     @Transactional
     public void deleteOrder(Long id) {
         Order order = getOrderById(id);
+        if (isOwnedStatus(order.getStatus())) {
+            entitlementService.revokeAfterCommit(order.getUser().getId());
+        }
         orderRepository.delete(order);
     }
 
@@ -171,6 +184,11 @@ public class OrderService {
                status.equals("REFUNDED");
     }
 
+    // 볼륨 열람 권한이 생기는 주문 상태
+    private boolean isOwnedStatus(String status) {
+        return "PAID".equals(status) || "COMPLETED".equals(status);
+    }
+
     // 사용자별 총 구매 금액
     public Double getTotalSpentByUser(Long userId) {
         Double total = orderRepository.getTotalSpentByUserId(userId);
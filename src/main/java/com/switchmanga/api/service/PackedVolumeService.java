@@ -0,0 +1,267 @@
+package com.switchmanga.api.service;
+
+import com.switchmanga.api.config.FileUploadConfig;
+import com.switchmanga.api.entity.Page;
+import com.switchmanga.api.repository.PageRepository;
+import com.switchmanga.api.util.LruCache;
+import com.switchmanga.api.util.PackedVolume;
+import com.switchmanga.api.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 볼륨 팩 파일 관리 ({base-dir}/packs/{volumeId}.pack)
+ *
+ * - 페이지 추출이 끝나면 저장소 이미지를 볼륨 단위 파일 하나로 묶음 (이동/백업/삭제가 파일 하나로 끝남)
+ * - 읽기 시 페이지마다 파일을 열지 않고, 열어 둔 팩에서 구간만 전송
+ * - 열린 팩은 최근 사용 순으로 일정 개수만 유지
+ * - 팩 삭제/재생성은 트랜잭션 커밋 후에만 실행 (롤백 시 기존 팩 유지)
+ * - 페이지가 바뀌면 커밋 후 기존 팩을 지우고 백그라운드에서 다시 묶음, 재생성 전까지는 페이지 이미지 파일로 응답
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PackedVolumeService {
+
+    private static final String PACK_EXTENSION = ".pack";
+
+    private final FileUploadConfig fileUploadConfig;
+    private final PageBlobService pageBlobService;
+    private final PageRepository pageRepository;
+    private final ThreadPoolTaskExecutor packBuildExecutor;
+
+    // 팩 파일 생성 여부
+    @Value("${file.upload.pack.enabled:true}")
+    private boolean enabled;
+
+    // 동시에 열어 둘 팩 수
+    private final LruCache<Long, PackedVolume> openPacks =
+            new LruCache<>(256, pack -> 1, (volumeId, pack) -> pack.release());
+
+    // 재생성 대기 중인 볼륨 (같은 볼륨의 연속 수정은 한 번만 재생성)
+    private final Set<Long> pendingRebuilds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 볼륨 팩 생성 (저장소 이미지가 아닌 페이지가 있으면 만들지 않음)
+     *
+     * @return 생성했으면 true
+     */
+    public boolean build(Long volumeId, List<Page> pages) {
+        if (!enabled || pages.isEmpty()) {
+            return false;
+        }
+
+        List<PackedVolume.Source> sources = new ArrayList<>(pages.size());
+        for (Page page : pages) {
+            if (page.getContentHash() == null) {
+                deletePack(volumeId);
+                return false;
+            }
+            String extension = extensionOf(page.getImageUrl());
+            sources.add(new PackedVolume.Source(page.getPageNumber(), page.getContentHash(), extension,
+                    pageBlobService.resolvePath(page.getContentHash(), extension)));
+        }
+        sources.sort(Comparator.comparingInt(PackedVolume.Source::pageNumber));
+
+        try {
+            long started = System.currentTimeMillis();
+            PackedVolume.write(packPath(volumeId), volumeId, sources);
+            closeOpenPack(volumeId);
+
+            log.info("Volume {} packed: {} pages in {}ms", volumeId, sources.size(),
+                    System.currentTimeMillis() - started);
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to pack volume {}", volumeId, e);
+            deletePack(volumeId);
+            return false;
+        }
+    }
+
+    /**
+     * 팩에서 페이지 조회 (사용 후 반드시 close)
+     *
+     * @return 팩이 없거나 해당 페이지가 없으면 null
+     */
+    public PackedPage openPage(Long volumeId, int pageNumber) {
+        PackedVolume pack = acquire(volumeId);
+        if (pack == null) {
+            return null;
+        }
+
+        PackedVolume.Entry entry = pack.find(pageNumber);
+        if (entry == null) {
+            pack.release();
+            return null;
+        }
+        return new PackedPage(pack, entry);
+    }
+
+    /**
+     * 팩 삭제 (볼륨/전체 페이지 삭제 시) - 트랜잭션 안이면 커밋 후 삭제
+     */
+    public void invalidate(Long volumeId) {
+        TransactionCallbacks.afterCommit(() -> deletePack(volumeId));
+    }
+
+    /**
+     * 팩 재생성 (페이지 추가/수정/순서 변경/삭제 시) - 커밋 후 기존 팩을 지우고 백그라운드에서 다시 묶음
+     */
+    public void rebuild(Long volumeId) {
+        TransactionCallbacks.afterCommit(() -> {
+            deletePack(volumeId);
+            scheduleRebuild(volumeId);
+        });
+    }
+
+    private void scheduleRebuild(Long volumeId) {
+        if (!enabled || !pendingRebuilds.add(volumeId)) {
+            return;
+        }
+        try {
+            packBuildExecutor.execute(() -> {
+                // 조회 전에 대기 표시를 지워서, 조회 이후 커밋된 수정은 다시 예약되도록 함
+                pendingRebuilds.remove(volumeId);
+                try {
+                    build(volumeId, pageRepository.findByVolumeIdOrderByPageNumberAsc(volumeId));
+                } catch (Exception e) {
+                    log.warn("Failed to rebuild volume pack {}", volumeId, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 팩 없이도 페이지 이미지 파일로 응답 가능 - 다음 수정/업로드 때 다시 생성
+            pendingRebuilds.remove(volumeId);
+            log.warn("Pack build queue full, volume {} left unpacked", volumeId);
+        }
+    }
+
+    private void deletePack(Long volumeId) {
+        closeOpenPack(volumeId);
+        try {
+            Files.deleteIfExists(packPath(volumeId));
+        } catch (IOException e) {
+            log.warn("Failed to delete volume pack {}", volumeId, e);
+        }
+    }
+
+    /**
+     * 열린 팩을 참조 수 +1 해서 반환 (없으면 열어서 캐시)
+     */
+    private PackedVolume acquire(Long volumeId) {
+        // 캐시에서 꺼낸 직후 제거/교체로 닫힐 수 있으므로 한 번 더 시도
+        for (int attempt = 0; attempt < 2; attempt++) {
+            PackedVolume pack = openPacks.get(volumeId);
+
+            if (pack == null) {
+                pack = openAndCache(volumeId);
+                if (pack == null) {
+                    return null;
+                }
+            }
+
+            if (pack.retain()) {
+                return pack;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 팩 열기 (같은 팩을 동시에 여러 번 열지 않도록 직렬화)
+     */
+    private synchronized PackedVolume openAndCache(Long volumeId) {
+        PackedVolume pack = openPacks.get(volumeId);
+        if (pack != null) {
+            return pack;
+        }
+
+        Path path = packPath(volumeId);
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try {
+            pack = PackedVolume.open(path);
+        } catch (IOException e) {
+            log.warn("Failed to open volume pack {}", volumeId, e);
+            return null;
+        }
+        openPacks.put(volumeId, pack);
+        return pack;
+    }
+
+    private synchronized void closeOpenPack(Long volumeId) {
+        PackedVolume pack = openPacks.remove(volumeId);
+        if (pack != null) {
+            pack.release();
+        }
+    }
+
+    private Path packPath(Long volumeId) {
+        return fileUploadConfig.getPacksDirectory().resolve(volumeId + PACK_EXTENSION);
+    }
+
+    private static String extensionOf(String url) {
+        int dot = url != null ? url.lastIndexOf('.') : -1;
+        return dot > 0 ? url.substring(dot + 1).toLowerCase() : "bin";
+    }
+
+    /**
+     * 팩 안의 페이지 (close 시 팩 참조 해제)
+     */
+    public static final class PackedPage implements AutoCloseable {
+
+        private final PackedVolume pack;
+        private final PackedVolume.Entry entry;
+
+        private PackedPage(PackedVolume pack, PackedVolume.Entry entry) {
+            this.pack = pack;
+            this.entry = entry;
+        }
+
+        public long getLength() {
+            return entry.length();
+        }
+
+        public String getHash() {
+            return entry.hash();
+        }
+
+        public String getExtension() {
+            return entry.extension();
+        }
+
+        /**
+         * 페이지 전체를 버퍼로 읽기 (페이지 캐시 적재용)
+         */
+        public void read(ByteBuffer target) throws IOException {
+            pack.read(entry, target);
+        }
+
+        /**
+         * 페이지 구간 전송 (zero-copy)
+         */
+        public void transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            pack.transferTo(entry, position, count, target);
+        }
+
+        @Override
+        public void close() {
+            pack.release();
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.switchmanga.api.service;
+
+import com.switchmanga.api.config.FileUploadConfig;
+import com.switchmanga.api.entity.PageBlob;
+import com.switchmanga.api.repository.PageBlobRepository;
+import com.switchmanga.api.repository.PageRepository;
+import com.switchmanga.api.util.ImageHeaderProbe;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * 콘텐츠 주소 기반 페이지 이미지 저장소
+ *
+ * - 이미지는 SHA-256 해시 경로에 저장: {base-dir}/blobs/ab/cd/{hash}.jpg → /uploads/blobs/ab/cd/{hash}.jpg
+ * - 같은 내용은 한 번만 기록되고, 해시 URL은 내용이 바뀌지 않으므로 영구 캐시 가능
+ * - 파일 기록(store)은 DB와 무관하게 하고, 참조 수는 페이지 저장 트랜잭션 안에서 acquire/release로 관리
+ * - 참조가 0이 된 이미지는 유예 시간이 지난 뒤 collectGarbage에서 삭제
+ *   (유예 시간 동안은 같은 내용을 올린 다른 업로드가 참조를 추가할 수 있음)
+ * - 기존 파일 재사용(store)과 GC 삭제는 해시별 잠금으로 직렬화 (재사용 직후의 파일을 지우지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PageBlobService {
+
+    public static final String URL_PREFIX = "/uploads/blobs/";
+
+    private static final String TMP_DIR = "tmp";
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final Pattern EXTENSION_PATTERN = Pattern.compile("[a-z0-9]{1,10}");
+    private static final int LOCK_STRIPES = 64;
+
+    private final PageBlobRepository pageBlobRepository;
+    private final PageRepository pageRepository;
+    private final FileUploadConfig fileUploadConfig;
+    private final ThumbnailService thumbnailService;
+
+    // 참조가 0이 된 뒤 실제 삭제까지 유예 시간
+    @Value("${file.upload.blob-gc-grace-minutes:60}")
+    private long gcGraceMinutes;
+
+    // 해시별 잠금 (store의 재사용 판단과 GC의 삭제가 겹치지 않도록)
+    private final Object[] hashLocks = createLocks();
+
+    /**
+     * 스트림을 해시 경로에 저장 (이미 있으면 기록하지 않음)
+     * - 스트림은 끝까지 읽지만 닫지 않음 (ZIP 엔트리 스트림용)
+     * - 복사하는 동안 헤더만 보고 형식/가로/세로를 판별 (ImageHeaderProbe, 디코딩 없음)
+     *
+     * @param fallbackExtension 내용으로 형식을 판별하지 못했을 때 사용할 확장자
+     */
+    public StoredBlob store(InputStream inputStream, String fallbackExtension) throws IOException {
+        Path tmpDir = fileUploadConfig.getBlobsDirectory().resolve(TMP_DIR);
+        Files.createDirectories(tmpDir);
+        Path tmpFile = Files.createTempFile(tmpDir, "blob-", ".part");
+
+        try {
+            MessageDigest digest = sha256();
+            CRC32 crc = new CRC32();
+            ImageHeaderProbe probe = new ImageHeaderProbe();
+            long size = 0;
+
+            byte[] buffer = new byte[64 * 1024];
+            try (OutputStream out = Files.newOutputStream(tmpFile)) {
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    if (!probe.isDone()) {
+                        probe.update(buffer, 0, read);
+                    }
+                    digest.update(buffer, 0, read);
+                    crc.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                    size += read;
+                }
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String extension = probe.getFormat() != null
+                    ? probe.getFormat()
+                    : normalizeExtension(fallbackExtension);
+            Path target = resolvePath(hash, extension);
+
+            boolean created = false;
+            synchronized (lockFor(hash)) {
+                if (Files.exists(target)) {
+                    // 중복 내용: GC 유예 판단용으로 수정 시각만 갱신
+                    Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                } else {
+                    Files.createDirectories(target.getParent());
+                    try {
+                        Files.move(tmpFile, target, StandardCopyOption.ATOMIC_MOVE);
+                        created = true;
+                    } catch (FileAlreadyExistsException e) {
+                        // 같은 내용을 동시에 저장한 경우
+                    }
+                }
+            }
+
+            return new StoredBlob(hash, extension, size, crc.getValue(), probe.getWidth(), probe.getHeight(),
+                    target, toUrl(hash, extension), created);
+
+        } finally {
+            Files.deleteIfExists(tmpFile);
+        }
+    }
+
+    /**
+     * 저장된 이미지를 다른 경로에도 노출 (하드링크, 실패 시 복사)
+     * - 하드링크는 디스크 공간을 추가로 쓰지 않고, 원본이 GC되어도 링크 쪽 파일은 유지됨
+     */
+    public void linkTo(StoredBlob blob, Path target) throws IOException {
+        Files.deleteIfExists(target);
+        try {
+            Files.createLink(target, blob.path());
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(blob.path(), target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 페이지 참조 추가 (페이지 저장과 같은 트랜잭션에서 호출)
+     */
+    @Transactional
+    public void acquire(Collection<StoredBlob> blobs) {
+        upsert(blobs, 1);
+    }
+
+    /**
+     * 참조 없이 등록만 (페이지로 쓰이지 않으면 유예 시간 후 GC 대상)
+     */
+    @Transactional
+    public void register(Collection<StoredBlob> blobs) {
+        upsert(blobs, 0);
+    }
+
+    /**
+     * 페이지 참조 해제 (페이지 삭제와 같은 트랜잭션에서 호출, null 해시는 무시)
+     */
+    @Transactional
+    public void release(Collection<String> hashes) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String hash : hashes) {
+            if (hash != null) {
+                counts.merge(hash, 1, Integer::sum);
+            }
+        }
+        pageBlobRepository.releaseAll(counts);
+    }
+
+    /**
+     * 참조가 없는 이미지 정리
+     * - 참조 0 상태로 유예 시간이 지났고, 실제로 참조하는 페이지가 없고, 파일도 최근에 재사용되지 않은 경우만 삭제
+     *
+     * @return 삭제한 이미지 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int collectGarbage() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(gcGraceMinutes);
+        Instant fileThreshold = Instant.now().minusSeconds(gcGraceMinutes * 60);
+
+        List<PageBlob> candidates = pageBlobRepository
+                .findTop100ByRefCountLessThanEqualAndUpdatedAtBeforeOrderByUpdatedAtAsc(0, threshold);
+
+        int deleted = 0;
+        for (PageBlob blob : candidates) {
+            try {
+                // DB 레벨 CASCADE 삭제 등으로 어긋난 참조 수 보정
+                if (pageRepository.existsByContentHash(blob.getHash())) {
+                    pageBlobRepository.recount(blob.getHash());
+                    continue;
+                }
+
+                Path path = resolvePath(blob.getHash(), blob.getExtension());
+
+                // 수정 시각 확인부터 파일 삭제까지 store의 재사용과 겹치지 않도록 잠금
+                synchronized (lockFor(blob.getHash())) {
+                    if (Files.exists(path) && Files.getLastModifiedTime(path).toInstant().isAfter(fileThreshold)) {
+                        continue;
+                    }
+
+                    if (pageBlobRepository.deleteIfUnreferenced(blob.getHash()) == 0) {
+                        continue;
+                    }
+                    Files.deleteIfExists(path);
+                }
+                thumbnailService.deleteHashedThumbnail(blob.getHash());
+                deleted++;
+            } catch (Exception e) {
+                log.warn("Page blob GC failed: {}", blob.getHash(), e);
+            }
+        }
+
+        if (deleted > 0) {
+            log.info("Page blob GC: {} unreferenced blobs removed", deleted);
+        }
+        return deleted;
+    }
+
+    /**
+     * 해시 경로 계산
+     */
+    public Path resolvePath(String hash, String extension) {
+        if (!HASH_PATTERN.matcher(hash).matches()) {
+            throw new IllegalArgumentException("잘못된 이미지 해시입니다: " + hash);
+        }
+        return fileUploadConfig.getBlobsDirectory()
+                .resolve(hash.substring(0, 2))
+                .resolve(hash.substring(2, 4))
+                .resolve(hash + "." + extension);
+    }
+
+    private Object lockFor(String hash) {
+        return hashLocks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static Object[] createLocks() {
+        Object[] locks = new Object[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    private String toUrl(String hash, String extension) {
+        return URL_PREFIX + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + "." + extension;
+    }
+
+    private void upsert(Collection<StoredBlob> blobs, int refsPerBlob) {
+        Map<String, StoredBlob> unique = new LinkedHashMap<>();
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (StoredBlob blob : blobs) {
+            unique.putIfAbsent(blob.hash(), blob);
+            counts.merge(blob.hash(), refsPerBlob, Integer::sum);
+        }
+
+        List<PageBlob> rows = new ArrayList<>(unique.size());
+        for (StoredBlob blob : unique.values()) {
+            rows.add(PageBlob.builder()
+                    .hash(blob.hash())
+                    .extension(blob.extension())
+                    .fileSize(blob.size())
+                    .refCount(counts.get(blob.hash()))
+                    .build());
+        }
+        pageBlobRepository.acquireAll(rows);
+    }
+
+    /**
+     * 내용으로 형식을 판별하지 못했을 때 파일명 확장자 정리
+     */
+    private static String normalizeExtension(String fallbackExtension) {
+        String extension = fallbackExtension != null ? fallbackExtension.toLowerCase() : "";
+        if ("jpeg".equals(extension)) {
+            return "jpg";
+        }
+        return EXTENSION_PATTERN.matcher(extension).matches() ? extension : "bin";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 저장된 이미지 정보
+     *
+     * @param crc32 CRC-32 (ZIP 다운로드용)
+     * @param width 이미지 가로 (헤더로 판별하지 못하면 null)
+     * @param height 이미지 세로 (헤더로 판별하지 못하면 null)
+     * @param created 이번 호출에서 새로 기록했는지 (false면 기존 파일 재사용)
+     */
+    public record StoredBlob(String hash, String extension, long size, long crc32, Integer width, Integer height,
+                             Path path, String url, boolean created) {
+    }
+}
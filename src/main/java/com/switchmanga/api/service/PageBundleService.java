@@ -0,0 +1,169 @@
+package com.switchmanga.api.service;
+
+import com.switchmanga.api.entity.Page;
+import com.switchmanga.api.repository.PageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 여러 페이지를 한 응답으로 묶어 전송 (뷰어 미리 받기용)
+ *
+ * 응답 형식 (application/vnd.switchmanga.page-bundle, big-endian):
+ * - 페이지마다 48바이트 프레임 헤더 + 이미지 바이트
+ *   - pageNumber (int32), length (int32), SHA-256 (32바이트, 없으면 0), 확장자 (8바이트 ASCII, 0으로 채움)
+ * - 프레임 수는 X-Page-Count 헤더, 전체 길이는 Content-Length로 미리 알 수 있음
+ *
+ * 볼륨 팩이 있으면 팩에서 바로 전송하고, 없으면 페이지 이미지 파일(저장소/원본 ZIP)에서 전송
+ * (페이지 캐시에 있는 페이지는 메모리 버퍼에서 전송)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PageBundleService {
+
+    public static final String CONTENT_TYPE = "application/vnd.switchmanga.page-bundle";
+    public static final int FRAME_HEADER_SIZE = 48;
+
+    private final PackedVolumeService packedVolumeService;
+    private final PageRepository pageRepository;
+    private final StaticFileService staticFileService;
+    private final PageCacheService pageCacheService;
+
+    /**
+     * 볼륨의 firstPage ~ lastPage 묶음 준비 (없는 페이지에서 멈춤, 사용 후 반드시 close)
+     */
+    public PageBundle open(Long volumeId, int firstPage, int lastPage) throws IOException {
+        PageBundle bundle = new PageBundle();
+        try {
+            if (!openFromPack(bundle, volumeId, firstPage, lastPage)) {
+                openFromFiles(bundle, volumeId, firstPage, lastPage);
+            }
+            return bundle;
+        } catch (IOException | RuntimeException e) {
+            bundle.close();
+            throw e;
+        }
+    }
+
+    private boolean openFromPack(PageBundle bundle, Long volumeId, int firstPage, int lastPage) throws IOException {
+        for (int pageNumber = firstPage; pageNumber <= lastPage; pageNumber++) {
+            PackedVolumeService.PackedPage page = packedVolumeService.openPage(volumeId, pageNumber);
+            if (page == null) {
+                // 첫 페이지부터 없으면 팩이 없는 볼륨
+                return pageNumber > firstPage;
+            }
+            ByteBuffer cached;
+            try {
+                cached = pageCacheService.lookup(page);
+            } catch (IOException | RuntimeException e) {
+                page.close();
+                throw e;
+            }
+            bundle.parts.add(new Part(pageNumber, page.getLength(), page.getHash(), page.getExtension(), page, null,
+                    cached));
+        }
+        return true;
+    }
+
+    private void openFromFiles(PageBundle bundle, Long volumeId, int firstPage, int lastPage) throws IOException {
+        List<Page> pages = pageRepository.findByVolumeIdAndPageNumberBetweenOrderByPageNumberAsc(
+                volumeId, firstPage, lastPage);
+
+        for (Page page : pages) {
+            StaticFileService.StaticFile file = staticFileService.resolveImageUrl(page.getImageUrl());
+            if (file == null) {
+                log.warn("Page image not found for bundle: volume={}, page={}", volumeId, page.getPageNumber());
+                break;
+            }
+            bundle.parts.add(new Part(page.getPageNumber(), file.length(), page.getContentHash(),
+                    extensionOf(file.filename()), null, file,
+                    pageCacheService.lookup(StaticFileService.relativePathOf(page.getImageUrl()), file)));
+        }
+    }
+
+    private static String extensionOf(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return dot > 0 ? filename.substring(dot + 1).toLowerCase() : "bin";
+    }
+
+    /**
+     * 전송할 페이지 묶음
+     */
+    public static final class PageBundle implements AutoCloseable {
+
+        private final List<Part> parts = new ArrayList<>();
+
+        public int getPageCount() {
+            return parts.size();
+        }
+
+        public int getLastPage() {
+            return parts.isEmpty() ? 0 : parts.get(parts.size() - 1).pageNumber();
+        }
+
+        public long getContentLength() {
+            long length = 0;
+            for (Part part : parts) {
+                length += FRAME_HEADER_SIZE + part.length();
+            }
+            return length;
+        }
+
+        /**
+         * 프레임 헤더 + 이미지 전송 (이미지는 캐시 버퍼 또는 FileChannel.transferTo)
+         */
+        public void writeTo(WritableByteChannel target) throws IOException {
+            ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER_SIZE);
+            for (Part part : parts) {
+                Arrays.fill(header.array(), (byte) 0);
+                header.clear();
+                header.putInt(part.pageNumber());
+                header.putInt((int) part.length());
+                header.put(part.hash() != null && part.hash().length() == 64
+                        ? HexFormat.of().parseHex(part.hash())
+                        : new byte[32]);
+                byte[] extension = part.extension().getBytes(StandardCharsets.US_ASCII);
+                header.put(extension, 0, Math.min(extension.length, 8));
+                header.position(FRAME_HEADER_SIZE).flip();
+                while (header.hasRemaining()) {
+                    target.write(header);
+                }
+
+                if (part.cached() != null) {
+                    PageImageService.writeBuffer(part.cached(), target);
+                } else if (part.packed() != null) {
+                    part.packed().transferTo(0, part.length(), target);
+                } else {
+                    part.file().writeTo(target);
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            for (Part part : parts) {
+                if (part.packed() != null) {
+                    part.packed().close();
+                }
+            }
+        }
+    }
+
+    /**
+     * 묶음의 페이지 (팩 페이지 또는 파일 중 하나, 캐시에 있으면 cached)
+     */
+    private record Part(int pageNumber, long length, String hash, String extension,
+                        PackedVolumeService.PackedPage packed, StaticFileService.StaticFile file,
+                        ByteBuffer cached) {
+    }
+}
@@ -0,0 +1,161 @@
+package com.switchmanga.api.service;
+
+import com.switchmanga.api.util.TinyLfuBufferCache;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 자주 읽는 페이지 이미지 메모리 캐시
+ * (페이지 이미지/뷰어 서명 URL - PageImageService, 페이지 묶음 - PageBundleService, /uploads 응답 앞단)
+ *
+ * - 힙 밖(direct) 버퍼에 파일 내용을 보관하고 전체 바이트 한도(max-bytes) 안에서 W-TinyLFU로 교체
+ * - 캐시에 없으면 접근 빈도를 먼저 기록하고, 입장할 만한 파일만 버퍼를 할당해 읽음
+ *   (그 외는 null을 반환해서 호출한 쪽이 파일에서 바로 전송)
+ * - 키는 경로 + ETag(팩 페이지는 내용 해시)라서 파일이 바뀌면 이전 항목은 다시 읽히지 않고 자연히 밀려남
+ * - DEFLATED ZIP 엔트리는 압축을 푼 결과를 보관하므로 반복 요청 시 다시 풀지 않음
+ * - 한 항목 크기 한도(max-entry-bytes)를 넘는 파일은 캐시하지 않음
+ */
+@Slf4j
+@Service
+public class PageCacheService {
+
+    @Value("${file.upload.page-cache.enabled:true}")
+    private boolean enabled;
+
+    // 전체 크기 한도 (bytes, -XX:MaxDirectMemorySize 보다 작아야 함)
+    @Value("${file.upload.page-cache.max-bytes:268435456}")
+    private long maxBytes;
+
+    // 캐시할 파일 최대 크기 (bytes)
+    @Value("${file.upload.page-cache.max-entry-bytes:4194304}")
+    private long maxEntryBytes;
+
+    // 평균 페이지 크기 추정값 (빈도 스케치 크기 결정용)
+    @Value("${file.upload.page-cache.average-entry-bytes:262144}")
+    private int averageEntryBytes;
+
+    private TinyLfuBufferCache<String> cache;
+
+    @PostConstruct
+    public void init() {
+        if (enabled && maxBytes > 0) {
+            cache = new TinyLfuBufferCache<>(maxBytes, averageEntryBytes);
+            log.info("Page cache enabled: maxBytes={}, maxEntryBytes={}", maxBytes, maxEntryBytes);
+        }
+    }
+
+    /**
+     * 캐시된 파일 내용 (없으면 입장할 만한 파일만 읽어서 캐시)
+     *
+     * @return 읽기 전용 버퍼 (position 0, limit = 파일 길이), 캐시 대상이 아니거나 입장 심사에서 탈락하면 null
+     */
+    public ByteBuffer lookup(String relativePath, StaticFileService.StaticFile file) throws IOException {
+        return lookup(relativePath + "#" + file.etag(), file.length(), buffer -> {
+            if (file.path() != null) {
+                try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+                    readFully(channel, file.offset(), buffer);
+                }
+            } else {
+                try (InputStream in = file.inflated().getInputStream()) {
+                    readFully(Channels.newChannel(in), buffer);
+                }
+            }
+        });
+    }
+
+    /**
+     * 볼륨 팩 페이지 (내용 해시가 키라서 팩을 다시 만들어도 같은 이미지는 그대로 적중)
+     *
+     * @return 읽기 전용 버퍼, 캐시 대상이 아니거나 입장 심사에서 탈락하면 null
+     */
+    public ByteBuffer lookup(PackedVolumeService.PackedPage page) throws IOException {
+        return lookup("sha256:" + page.getHash(), page.getLength(), page::read);
+    }
+
+    private ByteBuffer lookup(String key, long length, Loader loader) throws IOException {
+        if (cache == null || length <= 0 || length > maxEntryBytes) {
+            return null;
+        }
+
+        ByteBuffer cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (!cache.shouldLoad(key, length)) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) length);
+        loader.load(buffer);
+        buffer.flip();
+
+        cache.put(key, buffer);
+        return buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * 캐시 통계 (적중률, 사용 용량, 교체/입장 거절 수)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", cache != null);
+        if (cache == null) {
+            return result;
+        }
+
+        TinyLfuBufferCache.Stats stats = cache.stats();
+        result.put("entries", stats.size());
+        result.put("bytes", stats.bytes());
+        result.put("maxBytes", stats.maxBytes());
+        result.put("windowBytes", stats.windowBytes());
+        result.put("probationBytes", stats.probationBytes());
+        result.put("protectedBytes", stats.protectedBytes());
+        result.put("hits", stats.hits());
+        result.put("misses", stats.misses());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictions", stats.evictions());
+        result.put("rejections", stats.rejections());
+        result.put("skips", stats.skips());
+        result.put("maxEntryBytes", maxEntryBytes);
+        return result;
+    }
+
+    /**
+     * 캐시에 넣을 내용을 버퍼 끝까지 채움
+     */
+    @FunctionalInterface
+    private interface Loader {
+        void load(ByteBuffer buffer) throws IOException;
+    }
+
+    private void readFully(FileChannel channel, long position, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("File shorter than expected");
+            }
+            position += read;
+        }
+    }
+
+    private void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Entry shorter than expected");
+            }
+        }
+    }
+}
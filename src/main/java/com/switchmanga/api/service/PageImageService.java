@@ -0,0 +1,105 @@
+package com.switchmanga.api.service;
+
+import com.switchmanga.api.entity.Page;
+import com.switchmanga.api.repository.PageRepository;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 페이지 이미지 한 장 전송 (권한 확인 엔드포인트, 서명 URL 엔드포인트 공용)
+ *
+ * - 볼륨 팩이 있으면 팩에서 바로 전송, 없으면 DB에서 페이지를 찾아 이미지 파일(저장소/원본 ZIP)에서 전송
+ * - 자주 읽는 페이지는 페이지 캐시(PageCacheService)의 메모리 버퍼에서 전송
+ * - 저장소 경로는 공개하지 않으므로 이동(redirect)하지 않고 직접 전송, 직접 등록한 외부 URL만 이동
+ * - 권한/토큰 확인은 호출하는 쪽에서 마친 뒤 호출
+ */
+@Service
+@RequiredArgsConstructor
+public class PageImageService {
+
+    private final PackedVolumeService packedVolumeService;
+    private final PageRepository pageRepository;
+    private final StaticFileService staticFileService;
+    private final PageCacheService pageCacheService;
+
+    /**
+     * 페이지 이미지 응답 작성 (ETag 일치 시 304, 페이지가 없으면 404)
+     *
+     * @param cacheControl Cache-Control 헤더 값
+     */
+    public void write(Long volumeId, int pageNumber, String cacheControl,
+                      ServletWebRequest webRequest, HttpServletResponse response) throws IOException {
+        try (PackedVolumeService.PackedPage page = packedVolumeService.openPage(volumeId, pageNumber)) {
+            if (page != null) {
+                // 내용 해시가 ETag (같은 해시면 같은 이미지)
+                if (webRequest.checkNotModified("\"" + page.getHash() + "\"")) {
+                    return;
+                }
+                writeHeaders(response, "page." + page.getExtension(), page.getLength(), cacheControl);
+
+                WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+                ByteBuffer cached = pageCacheService.lookup(page);
+                if (cached != null) {
+                    writeBuffer(cached, target);
+                } else {
+                    page.transferTo(0, page.getLength(), target);
+                }
+                return;
+            }
+        }
+
+        Page stored = pageRepository.findByVolumeIdAndPageNumber(volumeId, pageNumber).orElse(null);
+        if (stored == null) {
+            response.sendError(HttpStatus.NOT_FOUND.value(), "페이지를 찾을 수 없습니다");
+            return;
+        }
+        if (!StaticFileService.isUploadUrl(stored.getImageUrl())) {
+            response.sendRedirect(stored.getImageUrl());
+            return;
+        }
+
+        StaticFileService.StaticFile file = staticFileService.resolveImageUrl(stored.getImageUrl());
+        if (file == null) {
+            response.sendError(HttpStatus.NOT_FOUND.value(), "페이지 이미지를 찾을 수 없습니다");
+            return;
+        }
+        if (webRequest.checkNotModified("\"" + file.etag() + "\"")) {
+            return;
+        }
+        writeHeaders(response, file.filename(), file.length(), cacheControl);
+
+        WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+        ByteBuffer cached = pageCacheService.lookup(StaticFileService.relativePathOf(stored.getImageUrl()), file);
+        if (cached != null) {
+            writeBuffer(cached, target);
+        } else {
+            file.writeTo(target);
+        }
+    }
+
+    static void writeBuffer(ByteBuffer buffer, WritableByteChannel target) throws IOException {
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+
+    private static void writeHeaders(HttpServletResponse response, String filename, long length,
+                                     String cacheControl) {
+        MediaType contentType = MediaTypeFactory.getMediaType(filename)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+        response.setContentType(contentType.toString());
+        response.setContentLengthLong(length);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+    }
+}
@@ -4,21 +4,34 @@ import com.switchmanga.api.entity.Page;
 import com.switchmanga.api.entity.Volume;
 import com.switchmanga.api.repository.PageRepository;
 import com.switchmanga.api.repository.VolumeRepository;
+import com.switchmanga.api.util.AvfFrameIndex;
+import com.switchmanga.api.util.ZipEntryNameDecoder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.Locale;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -28,8 +41,16 @@ public class PageService {
 
     private final PageRepository pageRepository;
     private final VolumeRepository volumeRepository;
+    private final PageBlobService pageBlobService;
+    private final ThumbnailService thumbnailService;
+    private final PackedVolumeService packedVolumeService;
+    private final VolumeManifestService volumeManifestService;
+    private final ActionFrameService actionFrameService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
-    private static final String UPLOAD_DIR = "uploads/pages";
+    // frame.avf 최대 크기 (넘으면 컷 인덱스를 만들지 않음)
+    private static final int MAX_AVF_SIZE = 16 * 1024 * 1024;
 
     // ========================================
     // Controller에서 호출하는 메서드들
@@ -70,6 +91,8 @@ public class PageService {
 
         // Volume의 totalPages 업데이트
         updateVolumeTotalPages(volumeId);
+        packedVolumeService.rebuild(volumeId);
+        volumeManifestService.invalidate(volumeId);
 
         return saved;
     }
@@ -81,12 +104,21 @@ public class PageService {
     public Page updatePage(Long id, Page pageDetails) {
         Page page = getPageById(id);
 
+        // 이미지 URL을 직접 바꾸면 저장소 이미지 참조 해제
+        if (page.getContentHash() != null && !page.getImageUrl().equals(pageDetails.getImageUrl())) {
+            pageBlobService.release(Collections.singletonList(page.getContentHash()));
+            page.setContentHash(null);
+            page.setCrc32(null);
+        }
+
         page.setPageNumber(pageDetails.getPageNumber());
         page.setImageUrl(pageDetails.getImageUrl());
         page.setThumbnailUrl(pageDetails.getThumbnailUrl());
         page.setWidth(pageDetails.getWidth());
         page.setHeight(pageDetails.getHeight());
         page.setFileSize(pageDetails.getFileSize());
+        packedVolumeService.rebuild(page.getVolume().getId());
+        volumeManifestService.invalidate(page.getVolume().getId());
 
         return pageRepository.save(page);
     }
@@ -98,6 +130,8 @@ public class PageService {
     public Page updatePageOrder(Long id, Integer newPageNumber) {
         Page page = getPageById(id);
         page.setPageNumber(newPageNumber);
+        packedVolumeService.rebuild(page.getVolume().getId());
+        volumeManifestService.invalidate(page.getVolume().getId());
         return pageRepository.save(page);
     }
 
@@ -109,10 +143,13 @@ public class PageService {
         Page page = getPageById(id);
         Long volumeId = page.getVolume().getId();
 
+        pageBlobService.release(Collections.singletonList(page.getContentHash()));
         pageRepository.delete(page);
 
         // Volume의 totalPages 업데이트
         updateVolumeTotalPages(volumeId);
+        packedVolumeService.rebuild(volumeId);
+        volumeManifestService.invalidate(volumeId);
     }
 
     /**
@@ -120,77 +157,245 @@ public class PageService {
      */
     @Transactional
     public void deleteAllPagesByVolume(Long volumeId) {
+        pageBlobService.release(pageRepository.findContentHashesByVolumeId(volumeId));
         pageRepository.deleteByVolumeId(volumeId);
+        packedVolumeService.invalidate(volumeId);
+        actionFrameService.delete(volumeId);
+        volumeManifestService.invalidate(volumeId);
 
         // Volume의 totalPages 업데이트
         Volume volume = volumeRepository.findById(volumeId).orElse(null);
         if (volume != null) {
             volume.setTotalPages(0);
             volumeRepository.save(volume);
+            eventPublisher.publishEvent(CatalogChangedEvent.volume(volumeId, volume.getSeries().getId()));
         }
     }
 
     /**
      * ZIP 파일 업로드 및 페이지 추출
+     * - 파일 추출 중에는 트랜잭션/커넥션을 잡지 않고, 페이지 저장만 짧은 트랜잭션으로 처리
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Page> uploadZipAndExtractPages(Long volumeId, MultipartFile zipFile) throws IOException {
-        Volume volume = volumeRepository.findById(volumeId)
-                .orElseThrow(() -> new IllegalArgumentException("볼륨을 찾을 수 없습니다: " + volumeId));
+        try (InputStream inputStream = zipFile.getInputStream()) {
+            return ingestPages(volumeId, inputStream, null, null);
+        }
+    }
 
-        // 기존 페이지 삭제
-        pageRepository.deleteByVolumeId(volumeId);
+    /**
+     * 임시 보관된 ZIP 파일에서 페이지 추출 (비동기 업로드 작업용)
+     *
+     * @param listener 진행률 콜백 (null 가능)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Page> ingestPagesFromZip(Long volumeId, Path zipPath, PageIngestListener listener) throws IOException {
+        Integer totalPages = countImageEntries(zipPath);
 
-        // 저장 디렉토리 생성
-        String volumeDir = UPLOAD_DIR + "/" + volumeId;
-        Path uploadPath = Paths.get(volumeDir);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(zipPath), 64 * 1024)) {
+            return ingestPages(volumeId, inputStream, totalPages, listener);
         }
+    }
 
-        List<Page> extractedPages = new ArrayList<>();
+    private List<Page> ingestPages(Long volumeId, InputStream zipStream,
+                                   Integer totalPages, PageIngestListener listener) throws IOException {
+        if (!volumeRepository.existsById(volumeId)) {
+            throw new IllegalArgumentException("볼륨을 찾을 수 없습니다: " + volumeId);
+        }
 
-        try (ZipInputStream zis = new ZipInputStream(zipFile.getInputStream())) {
-            ZipEntry entry;
-            int pageNumber = 1;
+        // 1. 페이지 이미지를 저장소에 기록 (트랜잭션 밖)
+        List<PageBlobService.StoredBlob> blobs = new ArrayList<>();
+        FrameSource frameSource = new FrameSource();
+        List<Page> savedPages;
+        try {
+            List<Page> extractedPages = extractPageFiles(zipStream, blobs, frameSource, totalPages, listener);
+
+            // 2. 기존 페이지 교체 + 이미지 참조 수/totalPages 갱신 (짧은 트랜잭션)
+            savedPages = transactionTemplate.execute(
+                    status -> replacePages(volumeId, extractedPages, blobs));
+        } catch (IOException | RuntimeException e) {
+            // 이미 기록한 이미지는 참조 없이 등록해 두어야 GC가 찾아서 정리할 수 있음
+            registerOrphans(blobs, e);
+            throw e;
+        }
 
-            while ((entry = zis.getNextEntry()) != null) {
-                if (!entry.isDirectory() && isImageFile(entry.getName())) {
-                    // 파일명 생성
-                    String extension = getFileExtension(entry.getName());
-                    String fileName = String.format("page_%03d.%s", pageNumber, extension);
-                    Path filePath = uploadPath.resolve(fileName);
-
-                    // 파일 저장
-                    Files.copy(zis, filePath);
-
-                    // Page 엔티티 생성
-                    Page page = new Page();
-                    page.setVolume(volume);
-                    page.setPageNumber(pageNumber);
-                    page.setImageUrl("/" + volumeDir + "/" + fileName);
-                    page.setFileSize((int) entry.getSize());
-
-                    extractedPages.add(page);
-                    pageNumber++;
+        // 3. frame.avf 는 여기서 한 번만 파싱해 컷 인덱스로 저장 (없으면 이전 인덱스 삭제)
+        actionFrameService.store(volumeId, frameSource.avf, frameSource.toIndex());
+        volumeManifestService.invalidate(volumeId);
+
+        // 4. 썸네일은 백그라운드에서 생성
+        thumbnailService.enqueue(savedPages);
+
+        // 5. 볼륨 팩 파일 생성 (읽기 경로용, 실패해도 페이지 이미지 URL로 응답 가능)
+        packedVolumeService.build(volumeId, savedPages);
+
+        // 6. 교체로 참조가 없어진 이미지 정리
+        pageBlobService.collectGarbage();
+
+        return savedPages;
+    }
+
+    /**
+     * 페이지 저장 전에 실패한 업로드의 이미지 등록 (유예 시간 후 GC 대상)
+     */
+    private void registerOrphans(List<PageBlobService.StoredBlob> blobs, Exception cause) {
+        if (blobs.isEmpty()) {
+            return;
+        }
+        try {
+            pageBlobService.register(blobs);
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+            log.warn("Failed to register {} page blobs after ingest failure", blobs.size(), e);
+        }
+    }
+
+    /**
+     * ZIP 스트림의 이미지 파일을 SHA-256 저장소에 기록하고 저장 전 Page 목록 반환
+     * - 이미 같은 내용이 있으면 파일을 다시 쓰지 않음
+     * - 가로/세로는 기록 중 헤더에서 읽고, 파일 크기는 실제 기록한 바이트 수 사용 (스트리밍 엔트리는 getSize()가 -1)
+     * - frame.avf 는 같은 패스에서 내용과 이미지 파일명 → 페이지 번호를 frameSource에 모아 둠
+     */
+    private List<Page> extractPageFiles(InputStream zipStream, List<PageBlobService.StoredBlob> blobs,
+                                        FrameSource frameSource, Integer totalPages,
+                                        PageIngestListener listener) throws IOException {
+        List<Page> extractedPages = new ArrayList<>();
+
+        // 파일명은 확장자 판별에만 쓰이므로 원본 바이트 그대로 읽음 (잘못된 인코딩으로 실패하지 않도록)
+        ZipArchiveInputStream zis = new ZipArchiveInputStream(
+                zipStream, ZipEntryNameDecoder.RAW_CHARSET, false, true);
+
+        ZipArchiveEntry entry;
+        int pageNumber = 1;
+
+        while ((entry = zis.getNextZipEntry()) != null) {
+            if (!entry.isDirectory() && isImageFile(entry.getName())) {
+                PageBlobService.StoredBlob blob = pageBlobService.store(zis, getFileExtension(entry.getName()));
+                blobs.add(blob);
+
+                // Page 엔티티 생성
+                Page page = new Page();
+                page.setPageNumber(pageNumber);
+                page.setImageUrl(blob.url());
+                page.setContentHash(blob.hash());
+                page.setCrc32(blob.crc32());
+                page.setFileSize((int) blob.size());
+                page.setWidth(blob.width());
+                page.setHeight(blob.height());
+
+                extractedPages.add(page);
+                frameSource.addPage(entry, pageNumber);
+
+                if (listener != null) {
+                    listener.onProgress(pageNumber, totalPages);
+                }
+                pageNumber++;
+            } else if (!entry.isDirectory() && ActionFrameService.isAvfFile(entry.getName())) {
+                byte[] avf = zis.readNBytes(MAX_AVF_SIZE + 1);
+                if (avf.length > MAX_AVF_SIZE) {
+                    log.warn("frame.avf too large, action frames skipped: {}", entry.getName());
+                } else {
+                    frameSource.avf = avf;
                 }
-                zis.closeEntry();
             }
         }
 
         // 페이지 번호순 정렬
         extractedPages.sort(Comparator.comparing(Page::getPageNumber));
+        return extractedPages;
+    }
 
-        // 저장
-        List<Page> savedPages = pageRepository.saveAll(extractedPages);
+    /**
+     * 볼륨의 페이지를 새 목록으로 교체
+     */
+    private List<Page> replacePages(Long volumeId, List<Page> extractedPages,
+                                    List<PageBlobService.StoredBlob> blobs) {
+        Volume volume = volumeRepository.findById(volumeId)
+                .orElseThrow(() -> new IllegalArgumentException("볼륨을 찾을 수 없습니다: " + volumeId));
+
+        // 기존 페이지 삭제 (이미지 참조 해제)
+        pageBlobService.release(pageRepository.findContentHashesByVolumeId(volumeId));
+        pageRepository.deleteByVolumeId(volumeId);
+
+        // 저장 (JDBC batch INSERT 후 id가 채워진 목록을 한 번에 다시 조회)
+        pageRepository.insertAll(volumeId, extractedPages);
+        pageBlobService.acquire(blobs);
+        List<Page> savedPages = pageRepository.findByVolumeIdOrderByPageNumberAsc(volumeId);
 
         // Volume의 totalPages 업데이트
         volume.setTotalPages(extractedPages.size());
         volumeRepository.save(volume);
+        eventPublisher.publishEvent(CatalogChangedEvent.volume(volumeId, volume.getSeries().getId()));
 
         return savedPages;
     }
 
+    /**
+     * ZIP 중앙 디렉토리로 이미지 엔트리 수 계산 (진행률 표시용)
+     */
+    private Integer countImageEntries(Path zipPath) {
+        try (ZipFile zipFile = new ZipFile(zipPath.toFile(), ZipEntryNameDecoder.RAW_CHARSET, false)) {
+            int count = 0;
+            Enumeration<ZipArchiveEntry> entries = zipFile.getEntries();
+            while (entries.hasMoreElements()) {
+                ZipArchiveEntry entry = entries.nextElement();
+                if (!entry.isDirectory() && isImageFile(entry.getName())) {
+                    count++;
+                }
+            }
+            return count;
+        } catch (IOException e) {
+            log.warn("Failed to count ZIP entries: {}", zipPath, e);
+            return null;
+        }
+    }
+
+    /**
+     * 추출 중 모은 frame.avf 내용 (파일명으로 컷을 지정한 경우를 위해 이미지 엔트리 → 페이지 번호도 보관)
+     * 파일명은 FileUploadService와 같이 아카이브 전체 이름으로 인코딩을 판별한 뒤 디코딩
+     */
+    private static final class FrameSource {
+
+        private final List<ZipArchiveEntry> pageEntries = new ArrayList<>();
+        private final List<Integer> pageNumbers = new ArrayList<>();
+        private byte[] avf;
+
+        void addPage(ZipArchiveEntry entry, int pageNumber) {
+            pageEntries.add(entry);
+            pageNumbers.add(pageNumber);
+        }
+
+        AvfFrameIndex toIndex() {
+            if (avf == null) {
+                return null;
+            }
+
+            List<byte[]> rawNames = new ArrayList<>();
+            for (ZipArchiveEntry entry : pageEntries) {
+                if (ZipEntryNameDecoder.needsDetection(entry)) {
+                    rawNames.add(entry.getRawName());
+                }
+            }
+            Charset charset = ZipEntryNameDecoder.detect(rawNames);
+
+            Map<String, Integer> pageByName = new HashMap<>();
+            for (int i = 0; i < pageEntries.size(); i++) {
+                String entryName = ZipEntryNameDecoder.decode(pageEntries.get(i), charset);
+                String baseName = entryName.substring(entryName.lastIndexOf('/') + 1).toLowerCase(Locale.ROOT);
+                pageByName.putIfAbsent(baseName, pageNumbers.get(i));
+            }
+            return AvfFrameIndex.parse(avf, name -> pageByName.get(name.toLowerCase(Locale.ROOT)));
+        }
+    }
+
+    /**
+     * 페이지 추출 진행률 콜백
+     */
+    @FunctionalInterface
+    public interface PageIngestListener {
+        void onProgress(int processedPages, Integer totalPages);
+    }
+
     // ========================================
     // 기존 메서드들 (호환성 유지)
     // ========================================
@@ -229,7 +434,7 @@ public class PageService {
         deleteAllPagesByVolume(volumeId);
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Page> extractPagesFromZip(Long volumeId, MultipartFile zipFile) throws IOException {
         return uploadZipAndExtractPages(volumeId, zipFile);
     }
@@ -248,6 +453,7 @@ public class PageService {
             long count = pageRepository.countByVolumeId(volumeId);
             volume.setTotalPages((int) count);
             volumeRepository.save(volume);
+            eventPublisher.publishEvent(CatalogChangedEvent.volume(volumeId, volume.getSeries().getId()));
         }
     }
 
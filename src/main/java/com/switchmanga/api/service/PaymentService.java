@@ -2,6 +2,7 @@ package com.switchmanga.api.service;
 
 import com.switchmanga.api.entity.Order;
 import com.switchmanga.api.entity.Payment;
+import com.switchmanga.api.repository.OrderItemRepository;
 import com.switchmanga.api.repository.OrderRepository;
 import com.switchmanga.api.repository.PaymentRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,8 @@ public class PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final EntitlementService entitlementService;
 
     // 전체 결제 목록 조회
     public List<Payment> getAllPayments() {
@@ -101,6 +104,10 @@ public class PaymentService {
         order.setPaidAt(LocalDateTime.now());
         orderRepository.save(order);
 
+        // 커밋 후 열람 권한 추가
+        entitlementService.grantAfterCommit(order.getUser().getId(),
+                orderItemRepository.findVolumeIdsByOrderId(order.getId()));
+
         return paymentRepository.save(payment);
     }
 
@@ -137,6 +144,9 @@ public class PaymentService {
         order.setStatus("REFUNDED");
         orderRepository.save(order);
 
+        // 커밋 후 열람 권한 다시 계산
+        entitlementService.revokeAfterCommit(order.getUser().getId());
+
         return paymentRepository.save(payment);
     }
 
@@ -8,6 +8,7 @@ import com.switchmanga.api.entity.*;
 import com.switchmanga.api.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -45,6 +46,10 @@ public class PublisherService {
     private final VolumeRepository volumeRepository;
     private final UserRepository userRepository;
     private final OrderRepository orderRepository;
+    private final EntitlementService entitlementService;
+    private final VolumeManifestService volumeManifestService;
+    private final VolumeCleanupService volumeCleanupService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ========================================
     // Publisher 관련 메서드
@@ -69,6 +74,7 @@ public class PublisherService {
         if (request.getDescription() != null) publisher.setDescription(request.getDescription());
 
         Publisher saved = publisherRepository.save(publisher);
+        eventPublisher.publishEvent(CatalogChangedEvent.publisher(saved.getId()));
         return PublisherInfoResponse.from(saved);
     }
 
@@ -160,7 +166,9 @@ public class PublisherService {
             series.setCategoryId(request.getCategoryId());
         }
 
-        return seriesRepository.save(series);
+        Series saved = seriesRepository.save(series);
+        eventPublisher.publishEvent(CatalogChangedEvent.series(saved.getId()));
+        return saved;
     }
 
     @Transactional
@@ -182,6 +190,7 @@ public class PublisherService {
         if (request.getCoverImage() != null) series.setCoverImage(request.getCoverImage());
         if (request.getStatus() != null) series.setStatus(request.getStatus());
         if (request.getCategoryId() != null) series.setCategoryId(request.getCategoryId());
+        eventPublisher.publishEvent(CatalogChangedEvent.series(seriesId));
 
         return seriesRepository.save(series);
     }
@@ -197,7 +206,10 @@ public class PublisherService {
             throw new AccessDeniedException("이 시리즈에 대한 삭제 권한이 없습니다.");
         }
 
+        List<Long> volumeIds = series.getVolumes().stream().map(Volume::getId).toList();
+        volumeCleanupService.beforeDeleteSeries(seriesId, volumeIds);
         seriesRepository.delete(series);
+        eventPublisher.publishEvent(CatalogChangedEvent.series(seriesId));
     }
 
     // ========================================
@@ -319,6 +331,7 @@ public class PublisherService {
         volume.setZipFilePath(request.getZipFilePath());
 
         Volume saved = volumeRepository.save(volume);
+        eventPublisher.publishEvent(CatalogChangedEvent.volume(saved.getId(), series.getId()));
         updateSeriesTotalVolumes(series.getId());
 
         return saved;
@@ -348,6 +361,9 @@ public class PublisherService {
         if (request.getIsFree() != null) volume.setIsFree(request.getIsFree());
         if (request.getStatus() != null) volume.setStatus(request.getStatus());
         if (request.getFreePages() != null) volume.setFreePages(request.getFreePages());
+        entitlementService.evictVolume(volumeId);
+        volumeManifestService.invalidate(volumeId);
+        eventPublisher.publishEvent(CatalogChangedEvent.volume(volumeId, volume.getSeries().getId()));
         if (request.getZipFile() != null) volume.setZipFile(request.getZipFile());
         if (request.getZipFilePath() != null) volume.setZipFilePath(request.getZipFilePath());
 
@@ -366,7 +382,9 @@ public class PublisherService {
         }
 
         Long seriesId = volume.getSeries().getId();
+        volumeCleanupService.beforeDeleteVolume(volumeId);
         volumeRepository.delete(volume);
+        eventPublisher.publishEvent(CatalogChangedEvent.volume(volumeId, seriesId));
         updateSeriesTotalVolumes(seriesId);
     }
 
@@ -519,6 +537,7 @@ public class PublisherService {
             series.setTotalVolumes((int) count);
             seriesRepository.save(series);
         }
+        eventPublisher.publishEvent(CatalogChangedEvent.series(seriesId));
     }
 
     // ========================================
@@ -1,11 +1,17 @@
 package com.switchmanga.api.service;
 
+import com.switchmanga.api.dto.response.CursorPage;
+import com.switchmanga.api.dto.series.SeriesInfoResponse;
+import com.switchmanga.api.dto.series.SeriesSuggestResponse;
+import com.switchmanga.api.dto.series.SeriesSummaryResponse;
 import com.switchmanga.api.entity.Publisher;
 import com.switchmanga.api.entity.Series;
+import com.switchmanga.api.entity.Volume;
 import com.switchmanga.api.repository.PublisherRepository;
 import com.switchmanga.api.repository.SeriesRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,16 +26,22 @@ public class SeriesService {
 
     private final SeriesRepository seriesRepository;
     private final PublisherRepository publisherRepository;
+    private final VolumeCleanupService volumeCleanupService;
+    private final CatalogCacheService catalogCacheService;
+    private final CatalogSearchService catalogSearchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ========================================
     // Controller에서 호출하는 메서드들 (11개)
     // ========================================
 
     /**
-     * 전체 시리즈 목록 조회
+     * 전체 시리즈 목록 조회 (커서 기반, 최신순)
      */
-    public List<Series> getAllSeries() {
-        return seriesRepository.findAll();
+    public CursorPage<SeriesSummaryResponse> getAllSeries(String cursor, Integer size) {
+        int limit = CursorPage.sizeOf(size);
+        return CursorPage.of(seriesRepository.findSummaries(
+                CursorPage.seekOf(cursor), CursorPage.fetchOf(limit)), limit, SeriesSummaryResponse::getId);
     }
 
     /**
@@ -40,40 +52,59 @@ public class SeriesService {
                 .orElseThrow(() -> new IllegalArgumentException("시리즈를 찾을 수 없습니다: " + id));
     }
 
+    /**
+     * 시리즈 상세 조회 (공개 응답용 DTO 프로젝션, 카탈로그 캐시 경유)
+     */
+    public SeriesInfoResponse getSeriesInfo(Long id) {
+        return catalogCacheService.getSeriesInfo(id)
+                .orElseThrow(() -> new IllegalArgumentException("시리즈를 찾을 수 없습니다: " + id));
+    }
+
     /**
      * 출판사별 시리즈 목록 조회
      */
-    public List<Series> getSeriesByPublisher(Long publisherId) {
-        // ✅ 수정: findByPublisherId → findByPublisher_Id
-        return seriesRepository.findByPublisher_Id(publisherId);
+    public List<SeriesSummaryResponse> getSeriesByPublisher(Long publisherId) {
+        return seriesRepository.findSummariesByPublisherId(publisherId);
     }
 
     /**
      * 활성 시리즈 목록 조회 (status가 ONGOING인 것)
      */
-    public List<Series> getActiveSeries() {
-        return seriesRepository.findByStatus("ONGOING");
+    public CursorPage<SeriesSummaryResponse> getActiveSeries(String cursor, Integer size) {
+        return getSeriesByStatus("ONGOING", cursor, size);
     }
 
     /**
-     * 상태별 시리즈 목록 조회
+     * 상태별 시리즈 목록 조회 (커서 기반, 최신순)
      */
-    public List<Series> getSeriesByStatus(String status) {
-        return seriesRepository.findByStatus(status);
+    public CursorPage<SeriesSummaryResponse> getSeriesByStatus(String status, String cursor, Integer size) {
+        int limit = CursorPage.sizeOf(size);
+        return CursorPage.of(seriesRepository.findSummariesByStatus(
+                status, CursorPage.seekOf(cursor), CursorPage.fetchOf(limit)), limit, SeriesSummaryResponse::getId);
     }
 
     /**
-     * 제목으로 시리즈 검색
+     * 제목(한/영/일)으로 시리즈 검색 (검색 색인, 관련도 순)
      */
-    public List<Series> searchSeriesByTitle(String title) {
-        return seriesRepository.findByTitleContainingIgnoreCase(title);
+    public CursorPage<SeriesSummaryResponse> searchSeriesByTitle(String title, String cursor, Integer size) {
+        return CursorPage.ofRanked(catalogSearchService.searchSeriesByTitle(title), cursor, CursorPage.sizeOf(size),
+                seriesRepository::findSummariesByIdIn, SeriesSummaryResponse::getId);
     }
 
     /**
-     * 작가로 시리즈 검색
+     * 작가/그림 작가로 시리즈 검색 (검색 색인, 관련도 순 커서 페이지)
      */
-    public List<Series> searchSeriesByAuthor(String author) {
-        return seriesRepository.findByAuthorContainingIgnoreCase(author);
+    public CursorPage<SeriesSummaryResponse> searchSeriesByAuthor(String author, String cursor, Integer size) {
+        return CursorPage.ofRanked(catalogSearchService.searchSeriesByAuthor(author), cursor, CursorPage.sizeOf(size),
+                seriesRepository::findSummariesByIdIn, SeriesSummaryResponse::getId);
+    }
+
+    /**
+     * 시리즈 자동완성 (제목 한/영/일 + 작가 접두어, 인기도 순, 메모리 색인만 조회)
+     */
+    public List<SeriesSuggestResponse> suggestSeries(String prefix, Integer limit) {
+        int count = limit != null ? Math.max(1, Math.min(limit, CatalogSearchService.MAX_SUGGESTIONS)) : 10;
+        return catalogSearchService.suggestSeries(prefix, count);
     }
 
     /**
@@ -94,7 +125,9 @@ public class SeriesService {
             series.setTotalVolumes(0);
         }
 
-        return seriesRepository.save(series);
+        Series saved = seriesRepository.save(series);
+        eventPublisher.publishEvent(CatalogChangedEvent.series(saved.getId()));
+        return saved;
     }
 
     /**
@@ -128,6 +161,7 @@ public class SeriesService {
         if (seriesDetails.getCategoryId() != null) {
             series.setCategoryId(seriesDetails.getCategoryId());
         }
+        eventPublisher.publishEvent(CatalogChangedEvent.series(id));
 
         return seriesRepository.save(series);
     }
@@ -142,6 +176,7 @@ public class SeriesService {
                 .orElseThrow(() -> new IllegalArgumentException("출판사를 찾을 수 없습니다: " + publisherId));
 
         series.setPublisher(publisher);
+        eventPublisher.publishEvent(CatalogChangedEvent.series(seriesId));
         return seriesRepository.save(series);
     }
 
@@ -151,7 +186,11 @@ public class SeriesService {
     @Transactional
     public void deleteSeries(Long id) {
         Series series = getSeriesById(id);
+
+        List<Long> volumeIds = series.getVolumes().stream().map(Volume::getId).toList();
+        volumeCleanupService.beforeDeleteSeries(id, volumeIds);
         seriesRepository.delete(series);
+        eventPublisher.publishEvent(CatalogChangedEvent.series(id));
     }
 
     // ========================================
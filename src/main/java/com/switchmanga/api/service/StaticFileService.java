@@ -0,0 +1,165 @@
+package com.switchmanga.api.service;
+
+import com.switchmanga.api.config.FileUploadConfig;
+import com.switchmanga.api.util.ArchiveEntryResource;
+import com.switchmanga.api.util.ArchiveIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * /uploads/** 정적 파일 조회
+ *
+ * - 업로드 폴더의 일반 파일, 원본 ZIP 기반 책 폴더의 엔트리를 응답 단위(StaticFile)로 변환
+ * - 본문을 읽지 않고 메타데이터(stat/인덱스)만으로 길이, 수정 시각, ETag 결정
+ *   - 해시 경로(blobs/, thumbs/blobs/): 파일명의 SHA-256
+ *   - ZIP 엔트리: CRC-32 + 크기
+ *   - 그 외: 크기 + 수정 시각
+ * - 볼륨 팩 폴더, 페이지 이미지 저장소(blobs/)는 공개하지 않음
+ *   (유료 페이지는 권한 확인/서명 URL 엔드포인트가 resolveImageUrl 로 찾아서 전송)
+ */
+@Service
+@RequiredArgsConstructor
+public class StaticFileService {
+
+    private static final String UPLOADS_PREFIX = "/uploads/";
+
+    // /uploads/blobs/ab/cd/{hash}.jpg, /uploads/thumbs/blobs/ab/cd/{hash}.jpg
+    private static final Pattern CONTENT_ADDRESSED_PATH =
+            Pattern.compile("(?:thumbs/)?blobs/[0-9a-f]{2}/[0-9a-f]{2}/([0-9a-f]{64})\\.[a-z0-9]+");
+
+    private final FileUploadConfig fileUploadConfig;
+    private final ArchiveStorageService archiveStorageService;
+
+    /**
+     * 내용이 바뀌지 않는 해시 경로인지 (영구 캐시 가능)
+     */
+    public static boolean isContentAddressed(String relativePath) {
+        return CONTENT_ADDRESSED_PATH.matcher(relativePath).matches();
+    }
+
+    /**
+     * 업로드 폴더의 파일 URL인지 (아니면 직접 등록한 외부 URL)
+     */
+    public static boolean isUploadUrl(String url) {
+        return url != null && url.startsWith(UPLOADS_PREFIX);
+    }
+
+    /**
+     * /uploads/ 이후 경로 → 공개 응답할 파일
+     *
+     * @return 없거나 공개하지 않는 경로(팩, 페이지 이미지 저장소)면 null
+     */
+    public StaticFile resolve(String relativePath) throws IOException {
+        return resolve(relativePath, false);
+    }
+
+    /**
+     * 페이지 이미지 URL(/uploads/...) → 파일 (권한 확인을 마친 내부 전송용, 저장소 경로 포함)
+     *
+     * @return /uploads/ 경로가 아니거나(외부 URL) 파일이 없으면 null
+     */
+    public StaticFile resolveImageUrl(String imageUrl) throws IOException {
+        if (!isUploadUrl(imageUrl)) {
+            return null;
+        }
+        return resolve(relativePathOf(imageUrl), true);
+    }
+
+    /**
+     * 페이지 이미지 URL(/uploads/...) → /uploads/ 이후 경로 (페이지 캐시 키가 /uploads 응답과 같도록)
+     */
+    public static String relativePathOf(String imageUrl) {
+        return imageUrl.substring(UPLOADS_PREFIX.length());
+    }
+
+    private StaticFile resolve(String relativePath, boolean includeBlobs) throws IOException {
+        Path baseDir = fileUploadConfig.getBaseDirectory().toAbsolutePath().normalize();
+        Path path = baseDir.resolve(relativePath).normalize();
+
+        if (!path.startsWith(baseDir)
+                || path.startsWith(fileUploadConfig.getPacksDirectory().toAbsolutePath().normalize())
+                || (!includeBlobs
+                        && path.startsWith(fileUploadConfig.getBlobsDirectory().toAbsolutePath().normalize()))) {
+            return null;
+        }
+
+        if (Files.isRegularFile(path)) {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            long lastModified = attributes.lastModifiedTime().toMillis();
+
+            Matcher matcher = CONTENT_ADDRESSED_PATH.matcher(relativePath);
+            boolean immutable = matcher.matches();
+            String etag = immutable
+                    ? matcher.group(1)
+                    : Long.toHexString(attributes.size()) + "-" + Long.toHexString(lastModified);
+
+            return new StaticFile(path.getFileName().toString(), attributes.size(), lastModified,
+                    etag, immutable, path, 0, null);
+        }
+
+        // 원본 ZIP 기반 책 폴더의 페이지
+        ArchiveEntryResource archiveEntry = archiveStorageService.resolve(relativePath);
+        if (archiveEntry == null || !archiveEntry.exists()) {
+            return null;
+        }
+
+        ArchiveIndex.Entry entry = archiveEntry.getEntry();
+        String etag = "z" + Integer.toHexString(entry.crc()) + "-" + Long.toHexString(entry.size());
+
+        if (entry.method() == ArchiveIndex.STORED) {
+            // 압축하지 않은 엔트리는 ZIP 파일의 구간 그대로
+            return new StaticFile(archiveEntry.getFilename(), entry.size(), archiveEntry.lastModified(),
+                    etag, false, archiveEntry.getArchivePath(), entry.dataOffset(), null);
+        }
+        return new StaticFile(archiveEntry.getFilename(), entry.size(), archiveEntry.lastModified(),
+                etag, false, null, 0, archiveEntry);
+    }
+
+    /**
+     * 응답할 파일
+     *
+     * @param etag 따옴표 없는 ETag 값
+     * @param immutable 해시 경로 여부 (Cache-Control: immutable)
+     * @param path 파일 구간으로 보낼 수 있으면 해당 파일 (offset부터 length 바이트), 아니면 null
+     * @param inflated path가 null일 때 스트림으로 읽을 리소스 (DEFLATED 엔트리)
+     */
+    public record StaticFile(String filename, long length, long lastModified, String etag, boolean immutable,
+                             Path path, long offset, ArchiveEntryResource inflated) {
+
+        /**
+         * 파일 전체 전송 (파일 구간은 FileChannel.transferTo, DEFLATED 엔트리는 압축을 풀면서)
+         */
+        public void writeTo(WritableByteChannel target) throws IOException {
+            if (path == null) {
+                try (InputStream in = inflated.getInputStream()) {
+                    in.transferTo(Channels.newOutputStream(target));
+                }
+                return;
+            }
+
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long position = offset;
+                long end = position + length;
+                while (position < end) {
+                    long sent = channel.transferTo(position, end - position, target);
+                    if (sent <= 0) {
+                        throw new IOException("Short transfer: " + filename);
+                    }
+                    position += sent;
+                }
+            }
+        }
+    }
+}
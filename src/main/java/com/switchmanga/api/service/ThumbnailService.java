@@ -0,0 +1,299 @@
+package com.switchmanga.api.service;
+
+import com.switchmanga.api.config.FileUploadConfig;
+import com.switchmanga.api.dto.admin.ThumbnailStatsResponse;
+import com.switchmanga.api.entity.Page;
+import com.switchmanga.api.repository.PageRepository;
+import com.switchmanga.api.util.ImageResizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 페이지 썸네일 생성
+ *
+ * - 페이지 추출이 끝나면 볼륨 페이지를 썸네일 풀(CPU 코어 수)에 넣어 백그라운드로 생성
+ * - ImageIO 서브샘플링으로 목표 크기의 2배 정도로만 디코딩한 뒤 축소 (ImageResizer) → 원본 크기와 무관하게 힙 사용량 제한
+ * - 저장소 이미지(contentHash)는 해시 경로에 썸네일을 한 번만 만들고 같은 이미지를 쓰는 페이지가 공유
+ * - 기존 볼륨은 backfill로 id 순 배치 처리 (한 배치가 끝나야 다음 배치 조회)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThumbnailService {
+
+    public static final String URL_PREFIX = "/uploads/";
+
+    private static final String HASHED_DIR = "blobs";
+    private static final String PAGES_DIR = "pages";
+    private static final int THROUGHPUT_WINDOW_SECONDS = 60;
+
+    private final PageRepository pageRepository;
+    private final FileUploadConfig fileUploadConfig;
+    private final ThreadPoolTaskExecutor thumbnailExecutor;
+
+    // 썸네일 가로 (px)
+    @Value("${file.upload.thumbnail.width:240}")
+    private int thumbnailWidth;
+
+    // JPEG 품질 (0.0 ~ 1.0)
+    @Value("${file.upload.thumbnail.quality:0.75}")
+    private float thumbnailQuality;
+
+    // 생성 중인 썸네일 (같은 이미지 중복 생성 방지)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    // 통계
+    private final AtomicLong generated = new AtomicLong();
+    private final AtomicLong reused = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong renderNanos = new AtomicLong();
+    private final AtomicLongArray secondBuckets = new AtomicLongArray(THROUGHPUT_WINDOW_SECONDS);
+    private final AtomicLongArray secondStamps = new AtomicLongArray(THROUGHPUT_WINDOW_SECONDS);
+
+    // 백필 상태
+    private final AtomicBoolean backfillRunning = new AtomicBoolean();
+    private final AtomicLong backfillProcessed = new AtomicLong();
+
+    /**
+     * 페이지 썸네일 생성 예약 (페이지 저장 후 호출)
+     */
+    public void enqueue(Collection<Page> pages) {
+        for (Page page : pages) {
+            ThumbnailTask task = ThumbnailTask.of(page);
+            try {
+                thumbnailExecutor.execute(() -> process(task));
+            } catch (RejectedExecutionException e) {
+                // 큐가 가득 차면 백필에서 다시 처리됨
+                skipped.incrementAndGet();
+                log.warn("Thumbnail queue full, page {} left for backfill", task.pageId());
+            }
+        }
+    }
+
+    /**
+     * 썸네일이 없는 기존 페이지 일괄 생성 시작
+     *
+     * @return 이미 실행 중이면 false
+     */
+    public boolean startBackfill(int batchSize) {
+        if (!backfillRunning.compareAndSet(false, true)) {
+            return false;
+        }
+        backfillProcessed.set(0);
+        log.info("Thumbnail backfill started (batch size {})", batchSize);
+        runBackfillBatch(0L, batchSize);
+        return true;
+    }
+
+    /**
+     * 파이프라인 통계
+     */
+    public ThumbnailStatsResponse getStats() {
+        long count = generated.get();
+        return ThumbnailStatsResponse.builder()
+                .poolSize(thumbnailExecutor.getPoolSize())
+                .activeThreads(thumbnailExecutor.getActiveCount())
+                .queueDepth(thumbnailExecutor.getThreadPoolExecutor().getQueue().size())
+                .generated(count)
+                .reused(reused.get())
+                .skipped(skipped.get())
+                .failed(failed.get())
+                .averageRenderMillis(count > 0 ? renderNanos.get() / 1_000_000.0 / count : 0)
+                .generatedLastMinute(generatedLastMinute())
+                .backfillRunning(backfillRunning.get())
+                .backfillProcessed(backfillProcessed.get())
+                .build();
+    }
+
+    /**
+     * 저장소 이미지의 썸네일 삭제 (이미지 GC 시 호출)
+     */
+    public void deleteHashedThumbnail(String contentHash) throws IOException {
+        Files.deleteIfExists(hashedThumbnailPath(contentHash));
+    }
+
+    private void runBackfillBatch(long afterId, int batchSize) {
+        List<Page> pages;
+        try {
+            pages = pageRepository.findByThumbnailUrlIsNullAndIdGreaterThanOrderByIdAsc(
+                    afterId, PageRequest.of(0, batchSize));
+        } catch (Exception e) {
+            log.error("Thumbnail backfill query failed", e);
+            backfillRunning.set(false);
+            return;
+        }
+
+        if (pages.isEmpty()) {
+            log.info("Thumbnail backfill finished: {} pages processed", backfillProcessed.get());
+            backfillRunning.set(false);
+            return;
+        }
+
+        long lastId = pages.get(pages.size() - 1).getId();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[pages.size()];
+
+        try {
+            for (int i = 0; i < pages.size(); i++) {
+                ThumbnailTask task = ThumbnailTask.of(pages.get(i));
+                futures[i] = CompletableFuture.runAsync(() -> {
+                    process(task);
+                    backfillProcessed.incrementAndGet();
+                }, thumbnailExecutor);
+            }
+        } catch (RejectedExecutionException e) {
+            log.error("Thumbnail backfill stopped: queue full");
+            backfillRunning.set(false);
+            return;
+        }
+
+        // 배치가 모두 끝나면 다음 배치 (대기 스레드 없이 이어서 실행)
+        CompletableFuture.allOf(futures).whenComplete((result, error) -> runBackfillBatch(lastId, batchSize));
+    }
+
+    private void process(ThumbnailTask task) {
+        try {
+            Path source = resolveSource(task.imageUrl());
+            if (source == null || !Files.exists(source)) {
+                skipped.incrementAndGet();
+                return;
+            }
+
+            if (task.contentHash() != null) {
+                processHashed(task, source);
+            } else {
+                Path target = fileUploadConfig.getThumbnailsDirectory().resolve(PAGES_DIR).resolve(task.pageId() + ".jpg");
+                if (render(source, target)) {
+                    pageRepository.updateThumbnailUrl(task.pageId(), toUrl(target));
+                }
+            }
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.warn("Thumbnail generation failed: page {} ({})", task.pageId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 같은 이미지의 썸네일은 한 번만 만들고, 그 이미지를 쓰는 모든 페이지에 연결
+     */
+    private void processHashed(ThumbnailTask task, Path source) throws IOException {
+        String hash = task.contentHash();
+        Path target = hashedThumbnailPath(hash);
+
+        if (!inFlight.add(hash)) {
+            // 다른 작업이 생성 중 - 끝나면 그 작업이 같은 해시의 페이지를 모두 갱신
+            reused.incrementAndGet();
+            return;
+        }
+
+        try {
+            if (Files.exists(target)) {
+                reused.incrementAndGet();
+            } else if (!render(source, target)) {
+                return;
+            }
+            pageRepository.updateThumbnailUrlByContentHash(hash, toUrl(target));
+        } finally {
+            inFlight.remove(hash);
+        }
+    }
+
+    /**
+     * 서브샘플링 디코딩 → 축소 → JPEG 기록
+     *
+     * @return 지원하지 않는 형식이면 false
+     */
+    private boolean render(Path source, Path target) throws IOException {
+        long started = System.nanoTime();
+
+        BufferedImage thumbnail = ImageResizer.resize(source, thumbnailWidth, true);
+        if (thumbnail == null) {
+            // ImageIO 기본 리더가 없는 형식 (WebP 등)
+            skipped.incrementAndGet();
+            return false;
+        }
+        ImageResizer.writeJpeg(thumbnail, target, thumbnailQuality);
+
+        renderNanos.addAndGet(System.nanoTime() - started);
+        generated.incrementAndGet();
+        recordThroughput();
+        return true;
+    }
+
+    /**
+     * /uploads/** URL → 실제 파일 경로 (업로드 폴더 밖은 null)
+     */
+    private Path resolveSource(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith(URL_PREFIX)) {
+            return null;
+        }
+        Path baseDir = fileUploadConfig.getBaseDirectory().normalize();
+        Path path = baseDir.resolve(imageUrl.substring(URL_PREFIX.length())).normalize();
+        return path.startsWith(baseDir) ? path : null;
+    }
+
+    private Path hashedThumbnailPath(String hash) {
+        return fileUploadConfig.getThumbnailsDirectory()
+                .resolve(HASHED_DIR)
+                .resolve(hash.substring(0, 2))
+                .resolve(hash.substring(2, 4))
+                .resolve(hash + ".jpg");
+    }
+
+    private String toUrl(Path path) {
+        Path relative = fileUploadConfig.getBaseDirectory().relativize(path);
+        return URL_PREFIX + relative.toString().replace('\\', '/');
+    }
+
+    /**
+     * 초 단위 버킷에 생성 건수 기록 (최근 1분 처리량 계산용)
+     */
+    private void recordThroughput() {
+        long second = System.currentTimeMillis() / 1000;
+        int index = (int) (second % THROUGHPUT_WINDOW_SECONDS);
+
+        if (secondStamps.get(index) != second) {
+            secondStamps.set(index, second);
+            secondBuckets.set(index, 0);
+        }
+        secondBuckets.incrementAndGet(index);
+    }
+
+    private long generatedLastMinute() {
+        long now = System.currentTimeMillis() / 1000;
+        long total = 0;
+        for (int i = 0; i < THROUGHPUT_WINDOW_SECONDS; i++) {
+            if (now - secondStamps.get(i) < THROUGHPUT_WINDOW_SECONDS) {
+                total += secondBuckets.get(i);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 썸네일 작업 단위 (엔티티 대신 필요한 값만 보관)
+     */
+    private record ThumbnailTask(Long pageId, String contentHash, String imageUrl) {
+        static ThumbnailTask of(Page page) {
+            return new ThumbnailTask(page.getId(), page.getContentHash(), page.getImageUrl());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.switchmanga.api.service;
+
+import com.switchmanga.api.repository.PageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 볼륨 삭제 시 DB 밖 자원 정리 (페이지 이미지 참조, 볼륨 팩, 컷 인덱스, 열람 권한 캐시, 읽기 매니페스트)
+ *
+ * 볼륨/시리즈 삭제 경로(관리자 API, 출판사 포털)가 모두 이 서비스를 거쳐서
+ * 경로마다 정리 항목이 달라지지 않도록 함 - 볼륨 행을 삭제하기 전에 호출
+ */
+@Service
+@RequiredArgsConstructor
+public class VolumeCleanupService {
+
+    private final PageRepository pageRepository;
+    private final PageBlobService pageBlobService;
+    private final PackedVolumeService packedVolumeService;
+    private final ActionFrameService actionFrameService;
+    private final EntitlementService entitlementService;
+    private final VolumeManifestService volumeManifestService;
+
+    /**
+     * 볼륨 하나 삭제 전 정리
+     */
+    public void beforeDeleteVolume(Long volumeId) {
+        // 페이지는 DB CASCADE로 삭제되므로 이미지 참조는 먼저 해제
+        pageBlobService.release(pageRepository.findContentHashesByVolumeId(volumeId));
+        cleanUp(List.of(volumeId));
+    }
+
+    /**
+     * 시리즈 삭제 전 정리 (하위 볼륨은 DB CASCADE로 함께 삭제됨)
+     */
+    public void beforeDeleteSeries(Long seriesId, Collection<Long> volumeIds) {
+        pageBlobService.release(pageRepository.findContentHashesBySeriesId(seriesId));
+        cleanUp(volumeIds);
+    }
+
+    // ========================================
+    // Helper 메서드
+    // ========================================
+
+    private void cleanUp(Collection<Long> volumeIds) {
+        for (Long volumeId : volumeIds) {
+            packedVolumeService.invalidate(volumeId);
+            actionFrameService.delete(volumeId);
+            entitlementService.evictVolume(volumeId);
+            volumeManifestService.invalidate(volumeId);
+        }
+    }
+}
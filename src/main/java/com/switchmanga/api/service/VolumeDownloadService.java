@@ -0,0 +1,217 @@
+package com.switchmanga.api.service;
+
+import com.switchmanga.api.entity.Page;
+import com.switchmanga.api.entity.Volume;
+import com.switchmanga.api.repository.PageRepository;
+import com.switchmanga.api.repository.VolumeRepository;
+import com.switchmanga.api.util.StoredZipLayout;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 볼륨 오프라인 다운로드 (압축하지 않은 ZIP을 즉석에서 구성)
+ *
+ * - 엔트리: manifest.json + 페이지 이미지(0001.jpg, 0002.png, ...)
+ * - 이미지는 이미 압축된 형식이라 STORED로 담고, CRC-32는 페이지에 저장된 값 사용
+ *   (없는 기존 페이지는 처음 한 번 계산해서 저장)
+ * - 배치가 응답 전에 정해지므로 임시 파일 없이 Range(이어 받기) 구간만 바로 전송
+ * - 볼륨 팩이 있으면 팩 파일 하나를 순서대로 읽음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VolumeDownloadService {
+
+    private static final String MANIFEST_ENTRY = "manifest.json";
+
+    private final VolumeRepository volumeRepository;
+    private final PageRepository pageRepository;
+    private final PackedVolumeService packedVolumeService;
+    private final StaticFileService staticFileService;
+    private final VolumeManifestService volumeManifestService;
+
+    /**
+     * 다운로드 준비 (사용 후 반드시 close)
+     *
+     * @throws IllegalArgumentException 볼륨이 없거나 페이지가 없으면
+     */
+    public VolumeDownload open(Long volumeId) throws IOException {
+        Volume volume = volumeRepository.findById(volumeId)
+                .orElseThrow(() -> new IllegalArgumentException("볼륨을 찾을 수 없습니다: " + volumeId));
+        List<Page> pages = pageRepository.findByVolumeIdOrderByPageNumberAsc(volumeId);
+        if (pages.isEmpty()) {
+            throw new IllegalArgumentException("다운로드할 페이지가 없습니다: " + volumeId);
+        }
+
+        VolumeManifestService.Manifest manifest = volumeManifestService.getManifest(volumeId, true);
+        VolumeDownload download = new VolumeDownload(volume.getTitle() + ".zip", "dl-" + manifest.version());
+
+        try {
+            List<StoredZipLayout.Entry> entries = new ArrayList<>(pages.size() + 1);
+            byte[] json = manifest.json();
+            entries.add(new StoredZipLayout.Entry(MANIFEST_ENTRY, json.length, crcOf(json),
+                    (position, count, target) -> writeFully(target, ByteBuffer.wrap(json, (int) position, (int) count))));
+
+            for (Page page : pages) {
+                entries.add(pageEntry(volumeId, page, download));
+            }
+
+            download.layout = StoredZipLayout.of(entries);
+            return download;
+        } catch (IOException | RuntimeException e) {
+            download.close();
+            throw e;
+        }
+    }
+
+    private StoredZipLayout.Entry pageEntry(Long volumeId, Page page, VolumeDownload download) throws IOException {
+        StoredZipLayout.Source source;
+        long size;
+        String extension;
+
+        PackedVolumeService.PackedPage packed = packedVolumeService.openPage(volumeId, page.getPageNumber());
+        if (packed != null) {
+            download.packedPages.add(packed);
+            source = packed::transferTo;
+            size = packed.getLength();
+            extension = packed.getExtension();
+        } else {
+            StaticFileService.StaticFile file = staticFileService.resolveImageUrl(page.getImageUrl());
+            if (file == null) {
+                throw new IOException("페이지 이미지를 찾을 수 없습니다: volume=" + volumeId
+                        + ", page=" + page.getPageNumber());
+            }
+            source = fileSource(file);
+            size = file.length();
+            extension = extensionOf(file.filename());
+        }
+
+        Long crc = page.getCrc32();
+        if (crc == null) {
+            crc = computeCrc(source, size);
+            if (page.getContentHash() != null) {
+                pageRepository.updateCrc32ByContentHash(page.getContentHash(), crc);
+            }
+        }
+
+        String name = String.format("%04d.%s", page.getPageNumber(), extension);
+        return new StoredZipLayout.Entry(name, size, crc, source);
+    }
+
+    private StoredZipLayout.Source fileSource(StaticFileService.StaticFile file) {
+        if (file.path() == null) {
+            // DEFLATED 원본 ZIP 엔트리 (풀면서 건너뜀)
+            return (position, count, target) -> {
+                try (InputStream in = file.inflated().getInputStream()) {
+                    StreamUtils.copyRange(in, Channels.newOutputStream(target), position, position + count - 1);
+                }
+            };
+        }
+
+        return (position, count, target) -> {
+            try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+                long current = file.offset() + position;
+                long end = current + count;
+                while (current < end) {
+                    long sent = channel.transferTo(current, end - current, target);
+                    if (sent <= 0) {
+                        throw new IOException("Short transfer: " + file.filename());
+                    }
+                    current += sent;
+                }
+            }
+        };
+    }
+
+    private static long computeCrc(StoredZipLayout.Source source, long size) throws IOException {
+        CRC32 crc = new CRC32();
+        source.transferTo(0, size, new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer buffer) {
+                int remaining = buffer.remaining();
+                crc.update(buffer);
+                return remaining;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        return crc.getValue();
+    }
+
+    private static long crcOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    private static void writeFully(WritableByteChannel target, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+
+    private static String extensionOf(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return dot > 0 ? filename.substring(dot + 1).toLowerCase() : "bin";
+    }
+
+    /**
+     * 준비된 다운로드 (close 시 열어 둔 팩 참조 해제)
+     */
+    public static final class VolumeDownload implements AutoCloseable {
+
+        private final String filename;
+        private final String etag;
+        private final List<PackedVolumeService.PackedPage> packedPages = new ArrayList<>();
+        private StoredZipLayout layout;
+
+        private VolumeDownload(String filename, String etag) {
+            this.filename = filename;
+            this.etag = etag;
+        }
+
+        public String getFilename() {
+            return filename;
+        }
+
+        /**
+         * 따옴표 없는 ETag (매니페스트 버전 기반, 내용이 같으면 같은 바이트)
+         */
+        public String getEtag() {
+            return etag;
+        }
+
+        public long getLength() {
+            return layout.length();
+        }
+
+        public void write(long start, long count, WritableByteChannel target) throws IOException {
+            layout.write(start, count, target);
+        }
+
+        @Override
+        public void close() {
+            packedPages.forEach(PackedVolumeService.PackedPage::close);
+        }
+    }
+}
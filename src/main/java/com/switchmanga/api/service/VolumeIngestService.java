@@ -0,0 +1,367 @@
+package com.switchmanga.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.switchmanga.api.config.FileUploadConfig;
+import com.switchmanga.api.dto.upload.UploadJobResponse;
+import com.switchmanga.api.dto.upload.VolumeUploadRequest;
+import com.switchmanga.api.entity.UploadJob;
+import com.switchmanga.api.entity.Volume;
+import com.switchmanga.api.repository.SeriesRepository;
+import com.switchmanga.api.repository.UploadJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 볼륨 업로드 비동기 처리
+ *
+ * 요청 스레드: 파일을 임시 디렉토리에 보관하고 UploadJob(QUEUED) 저장 후 바로 jobId 응답
+ * 작업 스레드: Volume 생성 → 커버 저장 → 페이지 추출 → 시리즈 갱신을 단계별로 실행
+ * - 단계마다 UploadJob.stage를 저장하므로 서버 재시작 시 마지막 완료 단계 다음부터 재개
+ * - 페이지 추출 중에는 진행률(processedPages/totalPages)을 주기적으로 기록
+ * - 실패하면 만들던 Volume은 삭제하고(목록에 빈 볼륨이 남지 않도록) 임시 파일은 남겨 둠 → retry로 처음 단계부터 다시 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VolumeIngestService {
+
+    private static final String JOBS_DIR = "jobs";
+    private static final String COVER_FILE = "cover";
+    private static final String ZIP_FILE = "volume.zip";
+
+    // 진행률 DB 기록 간격 (페이지 수)
+    private static final int PROGRESS_UPDATE_INTERVAL = 10;
+
+    private final UploadJobRepository uploadJobRepository;
+    private final SeriesRepository seriesRepository;
+    private final VolumeUploadService volumeUploadService;
+    private final VolumeService volumeService;
+    private final PageService pageService;
+    private final FileUploadConfig fileUploadConfig;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor volumeIngestExecutor;
+
+    /**
+     * 업로드 작업 등록
+     * - 파일을 작업 디렉토리로 옮긴 뒤 작업을 큐에 넣고 즉시 반환
+     */
+    public UploadJobResponse submit(VolumeUploadRequest request, MultipartFile coverFile, MultipartFile zipFile) {
+        boolean hasZip = zipFile != null && !zipFile.isEmpty();
+        return submit(request, coverFile, hasZip ? zipFile::transferTo : null);
+    }
+
+    /**
+     * 업로드 작업 등록 (이미 서버에 있는 ZIP 파일 사용, 예: 청크 업로드 결과)
+     * - ZIP 파일은 작업 디렉토리로 이동됨
+     */
+    public UploadJobResponse submit(VolumeUploadRequest request, MultipartFile coverFile, Path zipPath) {
+        return submit(request, coverFile, zipPath != null
+                ? target -> Files.move(zipPath, target, StandardCopyOption.REPLACE_EXISTING)
+                : null);
+    }
+
+    /**
+     * 작업 등록 전 요청 검증 (파일을 준비하기 전에 미리 확인할 때 사용)
+     *
+     * @return 등록할 수 없으면 실패 응답, 문제가 없으면 null
+     */
+    public UploadJobResponse validate(VolumeUploadRequest request) {
+        if (request.getSeriesId() == null || !seriesRepository.existsById(request.getSeriesId())) {
+            return UploadJobResponse.failure("시리즈를 찾을 수 없습니다: " + request.getSeriesId());
+        }
+        return null;
+    }
+
+    private UploadJobResponse submit(VolumeUploadRequest request, MultipartFile coverFile, ZipStager zipStager) {
+        UploadJobResponse invalid = validate(request);
+        if (invalid != null) {
+            return invalid;
+        }
+
+        Path stagingDir = fileUploadConfig.getTempDirectory()
+                .resolve(JOBS_DIR)
+                .resolve(UUID.randomUUID().toString())
+                .toAbsolutePath();
+
+        try {
+            Files.createDirectories(stagingDir);
+
+            String coverName = null;
+            String coverOriginalName = null;
+            if (coverFile != null && !coverFile.isEmpty()) {
+                coverName = COVER_FILE;
+                coverOriginalName = coverFile.getOriginalFilename();
+                coverFile.transferTo(stagingDir.resolve(coverName));
+            }
+
+            String zipName = null;
+            if (zipStager != null) {
+                zipName = ZIP_FILE;
+                zipStager.stage(stagingDir.resolve(zipName));
+            }
+
+            UploadJob job = UploadJob.builder()
+                    .seriesId(request.getSeriesId())
+                    .requestJson(objectMapper.writeValueAsString(request))
+                    .stagingDir(stagingDir.toString())
+                    .coverFile(coverName)
+                    .coverOriginalName(coverOriginalName)
+                    .zipFile(zipName)
+                    .build();
+            UploadJob savedJob = uploadJobRepository.save(job);
+
+            if (!dispatch(savedJob.getId())) {
+                return getJob(savedJob.getId());
+            }
+
+            log.info("Upload job queued: jobId={}, seriesId={}", savedJob.getId(), savedJob.getSeriesId());
+            return UploadJobResponse.from(savedJob);
+
+        } catch (Exception e) {
+            log.error("Upload job submit failed", e);
+            deleteStagingDir(stagingDir.toString());
+            return UploadJobResponse.failure("업로드 작업 등록 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public UploadJobResponse getJob(Long jobId) {
+        return uploadJobRepository.findById(jobId)
+                .map(UploadJobResponse::from)
+                .orElse(null);
+    }
+
+    /**
+     * 실패한 작업 다시 실행 (남겨 둔 임시 파일로 처음 단계부터)
+     *
+     * @return 작업이 없으면 null
+     */
+    public UploadJobResponse retry(Long jobId) {
+        UploadJob job = uploadJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return null;
+        }
+        if (job.getStatus() != UploadJob.Status.FAILED) {
+            return UploadJobResponse.failure("실패한 작업만 다시 실행할 수 있습니다: " + job.getStatus());
+        }
+        if (!Files.isDirectory(Paths.get(job.getStagingDir()))) {
+            return UploadJobResponse.failure("업로드 파일이 남아 있지 않습니다. 다시 업로드해 주세요");
+        }
+
+        job.setStatus(UploadJob.Status.QUEUED);
+        job.setErrorMessage(null);
+        job.setCompletedAt(null);
+        UploadJob savedJob = uploadJobRepository.save(job);
+
+        if (!dispatch(savedJob.getId())) {
+            return getJob(savedJob.getId());
+        }
+
+        log.info("Upload job retried: jobId={}, attempts={}", savedJob.getId(), savedJob.getAttempts());
+        return UploadJobResponse.from(savedJob);
+    }
+
+    /**
+     * 서버 시작 시 끝나지 않은 작업 재개
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePendingJobs() {
+        List<UploadJob> pendingJobs = uploadJobRepository.findByStatusInOrderByIdAsc(
+                List.of(UploadJob.Status.QUEUED, UploadJob.Status.RUNNING));
+
+        for (UploadJob job : pendingJobs) {
+            log.info("Resuming upload job: jobId={}, stage={}", job.getId(), job.getStage());
+            dispatch(job.getId());
+        }
+    }
+
+    /**
+     * @return 큐가 가득 차 받지 못했으면 false (작업은 FAILED로 기록되고 retry 가능)
+     */
+    private boolean dispatch(Long jobId) {
+        try {
+            volumeIngestExecutor.execute(() -> run(jobId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("Upload job rejected by executor: jobId={}", jobId);
+            uploadJobRepository.findById(jobId).ifPresent(job -> {
+                job.setStatus(UploadJob.Status.FAILED);
+                job.setErrorMessage("업로드 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요");
+                job.setCompletedAt(LocalDateTime.now());
+                uploadJobRepository.save(job);
+            });
+            return false;
+        }
+    }
+
+    /**
+     * 작업 실행 (마지막 완료 단계 다음부터)
+     */
+    void run(Long jobId) {
+        UploadJob job = uploadJobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() == UploadJob.Status.COMPLETED
+                || job.getStatus() == UploadJob.Status.FAILED) {
+            return;
+        }
+
+        job.setStatus(UploadJob.Status.RUNNING);
+        job.setAttempts(job.getAttempts() + 1);
+        if (job.getStartedAt() == null) {
+            job.setStartedAt(LocalDateTime.now());
+        }
+        job = uploadJobRepository.save(job);
+
+        Path stagingDir = Paths.get(job.getStagingDir());
+
+        try {
+            // 1. Volume 생성 (Volume 저장과 단계 기록을 한 트랜잭션으로 묶어 중복 생성 방지)
+            if (job.getStage() == UploadJob.Stage.STAGED) {
+                VolumeUploadRequest request = objectMapper.readValue(job.getRequestJson(), VolumeUploadRequest.class);
+                UploadJob current = job;
+                job = transactionTemplate.execute(status -> {
+                    Volume volume = volumeUploadService.createVolume(request);
+                    current.setVolumeId(volume.getId());
+                    current.setStage(UploadJob.Stage.VOLUME_CREATED);
+                    return uploadJobRepository.save(current);
+                });
+            }
+
+            // 2. 커버 이미지
+            if (job.getStage() == UploadJob.Stage.VOLUME_CREATED) {
+                if (job.getCoverFile() != null) {
+                    try (InputStream inputStream = Files.newInputStream(stagingDir.resolve(job.getCoverFile()))) {
+                        volumeUploadService.attachCoverImage(job.getVolumeId(), inputStream, job.getCoverOriginalName());
+                    }
+                }
+                job = advance(job, UploadJob.Stage.COVER_SAVED);
+            }
+
+            // 3. 페이지 추출 (재실행해도 기존 페이지를 교체하므로 안전)
+            if (job.getStage() == UploadJob.Stage.COVER_SAVED) {
+                if (job.getZipFile() != null) {
+                    ProgressRecorder recorder = new ProgressRecorder(job.getId());
+                    int pageCount = pageService.ingestPagesFromZip(
+                            job.getVolumeId(), stagingDir.resolve(job.getZipFile()), recorder).size();
+                    job.setProcessedPages(pageCount);
+                    job.setTotalPages(pageCount);
+                }
+                job.setProgress(100);
+                job = advance(job, UploadJob.Stage.PAGES_EXTRACTED);
+            }
+
+            // 4. 시리즈 totalVolumes 갱신
+            if (job.getStage() == UploadJob.Stage.PAGES_EXTRACTED) {
+                volumeUploadService.completeVolume(job.getVolumeId());
+                job = advance(job, UploadJob.Stage.COMPLETED);
+            }
+
+            job.setStatus(UploadJob.Status.COMPLETED);
+            job.setCompletedAt(LocalDateTime.now());
+            uploadJobRepository.save(job);
+
+            log.info("Upload job completed: jobId={}, volumeId={}", job.getId(), job.getVolumeId());
+            deleteStagingDir(job.getStagingDir());
+
+        } catch (Exception e) {
+            log.error("Upload job failed: jobId={}, stage={}", jobId, job.getStage(), e);
+
+            // 진행률 갱신 쿼리로 바뀐 값을 덮어쓰지 않도록 최신 상태를 다시 읽어서 기록
+            UploadJob failedJob = uploadJobRepository.findById(jobId).orElse(job);
+            discardVolume(failedJob);
+            failedJob.setStatus(UploadJob.Status.FAILED);
+            failedJob.setErrorMessage(e.getMessage());
+            failedJob.setCompletedAt(LocalDateTime.now());
+            uploadJobRepository.save(failedJob);
+            // 임시 파일은 retry를 위해 남겨 둠
+        }
+    }
+
+    /**
+     * 실패한 작업이 만든 Volume 삭제 후 처음 단계로 되돌림 (페이지 없는 볼륨이 공개 목록에 남지 않도록)
+     */
+    private void discardVolume(UploadJob job) {
+        if (job.getVolumeId() == null) {
+            return;
+        }
+        try {
+            volumeService.deleteVolume(job.getVolumeId());
+        } catch (IllegalArgumentException e) {
+            // 이미 삭제된 볼륨
+        } catch (Exception e) {
+            // 삭제하지 못하면 단계를 유지해 retry가 같은 Volume을 이어서 사용
+            log.error("Failed to delete volume of failed upload job: jobId={}, volumeId={}",
+                    job.getId(), job.getVolumeId(), e);
+            return;
+        }
+        job.setVolumeId(null);
+        job.setStage(UploadJob.Stage.STAGED);
+        job.setProgress(0);
+        job.setProcessedPages(0);
+        job.setTotalPages(null);
+    }
+
+    private UploadJob advance(UploadJob job, UploadJob.Stage stage) {
+        job.setStage(stage);
+        return uploadJobRepository.save(job);
+    }
+
+    private void deleteStagingDir(String stagingDir) {
+        try {
+            FileSystemUtils.deleteRecursively(Paths.get(stagingDir));
+        } catch (IOException e) {
+            log.warn("Failed to delete staging dir: {}", stagingDir, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ZipStager {
+        void stage(Path target) throws IOException;
+    }
+
+    /**
+     * 페이지 추출 진행률을 일정 간격으로 DB에 기록
+     */
+    private class ProgressRecorder implements PageService.PageIngestListener {
+
+        private final Long jobId;
+
+        ProgressRecorder(Long jobId) {
+            this.jobId = jobId;
+        }
+
+        @Override
+        public void onProgress(int processedPages, Integer totalPages) {
+            boolean last = totalPages != null && processedPages >= totalPages;
+            if (processedPages % PROGRESS_UPDATE_INTERVAL != 0 && !last) {
+                return;
+            }
+
+            // 페이지 DB 저장 전이므로 최대 99%까지만 표시
+            int progress = totalPages != null && totalPages > 0
+                    ? Math.min(99, processedPages * 100 / totalPages)
+                    : 0;
+            uploadJobRepository.updateProgress(jobId, processedPages, totalPages, progress);
+        }
+    }
+}
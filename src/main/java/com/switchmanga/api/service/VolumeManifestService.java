@@ -0,0 +1,199 @@
+package com.switchmanga.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.switchmanga.api.config.FileUploadConfig;
+import com.switchmanga.api.dto.reader.VolumeManifest;
+import com.switchmanga.api.entity.Page;
+import com.switchmanga.api.entity.Volume;
+import com.switchmanga.api.repository.PageRepository;
+import com.switchmanga.api.repository.VolumeRepository;
+import com.switchmanga.api.util.LruCache;
+import com.switchmanga.api.util.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 볼륨 읽기 매니페스트 ({packs-dir}/{volumeId}.manifest.json, 미리보기용 {volumeId}.preview.manifest.json)
+ *
+ * - 전체 열람용(모든 페이지 해시)과 미리보기용(무료 페이지까지만 해시) 두 가지
+ *   해시로 원본 이미지 경로를 알 수 있으므로 읽을 수 없는 페이지의 해시는 내보내지 않음
+ * - 볼륨 내용이 바뀔 때까지 한 번만 생성해서 메모리(LRU)와 디스크에 보관
+ * - 버전은 매니페스트 JSON의 SHA-256 앞 16자리 (응답 ETag, ?v= 로 요청하면 immutable 캐시)
+ * - 페이지/볼륨 정책이 바뀌면 커밋 후 삭제하고, 다음 요청에서 다시 생성
+ * - 생성 중 삭제가 일어나면 생성 결과는 저장하지 않음 (이전 내용이 남지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VolumeManifestService {
+
+    private static final String MANIFEST_EXTENSION = ".manifest.json";
+    private static final String PREVIEW_MANIFEST_EXTENSION = ".preview.manifest.json";
+
+    private final FileUploadConfig fileUploadConfig;
+    private final VolumeRepository volumeRepository;
+    private final PageRepository pageRepository;
+    private final ObjectMapper objectMapper;
+    private final ActionFrameService actionFrameService;
+
+    // 메모리 캐시 최대 크기 (bytes)
+    @Value("${reader.manifest.cache-max-bytes:33554432}")
+    private long cacheMaxBytes;
+
+    private LruCache<ManifestKey, Manifest> cache;
+
+    // 삭제가 일어날 때마다 증가 (생성 전후 값이 다르면 결과를 저장하지 않음)
+    private long generation;
+
+    @PostConstruct
+    public void init() {
+        cache = new LruCache<>(cacheMaxBytes, manifest -> manifest.json().length, null);
+    }
+
+    /**
+     * 볼륨 매니페스트 (메모리 → 디스크 → 생성 순)
+     *
+     * @param full 전체 열람 가능 여부 (EntitlementService.canReadAll), false면 무료 페이지 이후 해시 제외
+     * @throws IllegalArgumentException 볼륨이 없으면
+     */
+    public Manifest getManifest(Long volumeId, boolean full) throws IOException {
+        ManifestKey key = new ManifestKey(volumeId, full);
+        Manifest cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long startGeneration = currentGeneration();
+        Path path = manifestPath(key);
+        byte[] json = null;
+        if (Files.isRegularFile(path)) {
+            // 삭제 후 지우지 못한 파일이 남아 있을 수 있으므로 볼륨이 있을 때만 사용
+            if (!volumeRepository.existsById(volumeId)) {
+                throw new IllegalArgumentException("볼륨을 찾을 수 없습니다: " + volumeId);
+            }
+            json = Files.readAllBytes(path);
+        }
+        boolean generated = json == null;
+        if (generated) {
+            json = generate(volumeId, full);
+        }
+
+        Manifest manifest = new Manifest(versionOf(json), json);
+        Path temp = generated ? writeTemp(path, json) : null;
+
+        synchronized (this) {
+            if (generation != startGeneration) {
+                if (temp != null) {
+                    Files.deleteIfExists(temp);
+                }
+                return manifest;
+            }
+            if (temp != null) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            cache.put(key, manifest);
+        }
+
+        if (generated) {
+            log.debug("Volume {} manifest generated: full={}, version={}, {} bytes",
+                    volumeId, full, manifest.version(), json.length);
+        }
+        return manifest;
+    }
+
+    /**
+     * 매니페스트 삭제 (페이지 변경, 볼륨 수정/삭제 시 - 커밋 후 실행)
+     */
+    public void invalidate(Long volumeId) {
+        TransactionCallbacks.afterCommit(() -> evict(volumeId));
+    }
+
+    public Map<String, Object> getStats() {
+        LruCache.Stats stats = cache.stats();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("cachedManifests", stats.size());
+        result.put("cachedBytes", stats.weight());
+        result.put("maxBytes", stats.maxWeight());
+        result.put("hitRate", stats.hitRate());
+        return result;
+    }
+
+    // ========================================
+    // Helper 메서드
+    // ========================================
+
+    private byte[] generate(Long volumeId, boolean full) throws IOException {
+        Volume volume = volumeRepository.findById(volumeId)
+                .orElseThrow(() -> new IllegalArgumentException("볼륨을 찾을 수 없습니다: " + volumeId));
+        List<Page> pages = pageRepository.findByVolumeIdOrderByPageNumberAsc(volumeId);
+
+        int freePages = volume.getFreePages() != null ? volume.getFreePages() : 0;
+        int readableLastPage = full || Boolean.TRUE.equals(volume.getIsFree()) ? pages.size() : freePages;
+        return objectMapper.writeValueAsBytes(
+                VolumeManifest.from(volume, pages, actionFrameService.load(volumeId),
+                        actionFrameService.hasRawFile(volumeId), readableLastPage));
+    }
+
+    private synchronized void evict(Long volumeId) {
+        generation++;
+        for (boolean full : new boolean[]{true, false}) {
+            ManifestKey key = new ManifestKey(volumeId, full);
+            cache.remove(key);
+            try {
+                Files.deleteIfExists(manifestPath(key));
+            } catch (IOException e) {
+                log.warn("Failed to delete volume manifest {} (full={})", volumeId, full, e);
+            }
+        }
+    }
+
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    private Path writeTemp(Path path, byte[] json) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + "." + Thread.currentThread().getId() + ".part");
+        Files.write(temp, json);
+        return temp;
+    }
+
+    private Path manifestPath(ManifestKey key) {
+        return fileUploadConfig.getPacksDirectory()
+                .resolve(key.volumeId() + (key.full() ? MANIFEST_EXTENSION : PREVIEW_MANIFEST_EXTENSION));
+    }
+
+    private static String versionOf(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 매니페스트 응답
+     *
+     * @param version JSON 내용 해시 (ETag)
+     */
+    public record Manifest(String version, byte[] json) {
+    }
+
+    private record ManifestKey(Long volumeId, boolean full) {
+    }
+}
@@ -1,11 +1,15 @@
 package com.switchmanga.api.service;
 
+import com.switchmanga.api.dto.response.CursorPage;
+import com.switchmanga.api.dto.volume.VolumeInfoResponse;
+import com.switchmanga.api.dto.volume.VolumeSummaryResponse;
 import com.switchmanga.api.entity.Series;
 import com.switchmanga.api.entity.Volume;
 import com.switchmanga.api.repository.SeriesRepository;
 import com.switchmanga.api.repository.VolumeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,16 +23,24 @@ public class VolumeService {
 
     private final VolumeRepository volumeRepository;
     private final SeriesRepository seriesRepository;
+    private final VolumeCleanupService volumeCleanupService;
+    private final EntitlementService entitlementService;
+    private final VolumeManifestService volumeManifestService;
+    private final CatalogCacheService catalogCacheService;
+    private final CatalogSearchService catalogSearchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ========================================
     // Controller에서 호출하는 메서드들 (14개)
     // ========================================
 
     /**
-     * 전체 볼륨 목록 조회
+     * 전체 볼륨 목록 조회 (커서 기반, 최신순)
      */
-    public List<Volume> getAllVolumes() {
-        return volumeRepository.findAll();
+    public CursorPage<VolumeSummaryResponse> getAllVolumes(String cursor, Integer size) {
+        int limit = CursorPage.sizeOf(size);
+        return CursorPage.of(volumeRepository.findSummaries(
+                CursorPage.seekOf(cursor), CursorPage.fetchOf(limit)), limit, VolumeSummaryResponse::getId);
     }
 
     /**
@@ -39,25 +51,33 @@ public class VolumeService {
                 .orElseThrow(() -> new IllegalArgumentException("볼륨을 찾을 수 없습니다: " + id));
     }
 
+    /**
+     * 볼륨 상세 조회 (공개 응답용 DTO 프로젝션, 카탈로그 캐시 경유)
+     */
+    public VolumeInfoResponse getVolumeInfo(Long id) {
+        return catalogCacheService.getVolumeInfo(id)
+                .orElseThrow(() -> new IllegalArgumentException("볼륨을 찾을 수 없습니다: " + id));
+    }
+
     /**
      * 시리즈별 볼륨 목록 조회
      */
-    public List<Volume> getVolumesBySeries(Long seriesId) {
-        return volumeRepository.findBySeriesId(seriesId);
+    public List<VolumeSummaryResponse> getVolumesBySeries(Long seriesId) {
+        return volumeRepository.findSummariesBySeriesId(seriesId);
     }
 
     /**
-     * 시리즈별 볼륨 목록 조회 (권 번호 순)
+     * 시리즈별 볼륨 목록 조회 (권 번호 순, 카탈로그 캐시 경유)
      */
-    public List<Volume> getVolumesBySeriesOrdered(Long seriesId) {
-        return volumeRepository.findBySeriesIdOrderByVolumeNumberAsc(seriesId);
+    public List<VolumeSummaryResponse> getVolumesBySeriesOrdered(Long seriesId) {
+        return catalogCacheService.getSeriesVolumes(seriesId);
     }
 
     /**
      * 시리즈 ID + 권 번호로 조회
      */
-    public Volume getVolumeBySeriesAndNumber(Long seriesId, Integer volumeNumber) {
-        return volumeRepository.findBySeriesIdAndVolumeNumber(seriesId, volumeNumber)
+    public VolumeInfoResponse getVolumeBySeriesAndNumber(Long seriesId, Integer volumeNumber) {
+        return volumeRepository.findInfoBySeriesIdAndVolumeNumber(seriesId, volumeNumber)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "볼륨을 찾을 수 없습니다. seriesId: " + seriesId + ", volumeNumber: " + volumeNumber));
     }
@@ -65,30 +85,31 @@ public class VolumeService {
     /**
      * 활성 볼륨 목록 조회 (isFree가 아닌 것 또는 전체)
      */
-    public List<Volume> getActiveVolumes() {
+    public CursorPage<VolumeSummaryResponse> getActiveVolumes(String cursor, Integer size) {
         // 모든 볼륨 반환 (active 필드가 없으므로)
-        return volumeRepository.findAll();
+        return getAllVolumes(cursor, size);
     }
 
     /**
      * 시리즈별 활성 볼륨 목록 조회
      */
-    public List<Volume> getActiveVolumesBySeries(Long seriesId) {
-        return volumeRepository.findBySeriesId(seriesId);
+    public List<VolumeSummaryResponse> getActiveVolumesBySeries(Long seriesId) {
+        return volumeRepository.findSummariesBySeriesId(seriesId);
     }
 
     /**
-     * 제목으로 볼륨 검색
+     * 제목(한/영/일)으로 볼륨 검색 (검색 색인, 관련도 순)
      */
-    public List<Volume> searchVolumesByTitle(String title) {
-        return volumeRepository.findByTitleContainingIgnoreCase(title);
+    public CursorPage<VolumeSummaryResponse> searchVolumesByTitle(String title, String cursor, Integer size) {
+        return CursorPage.ofRanked(catalogSearchService.searchVolumesByTitle(title), cursor, CursorPage.sizeOf(size),
+                volumeRepository::findSummariesByIdIn, VolumeSummaryResponse::getId);
     }
 
     /**
      * ISBN으로 볼륨 조회
      */
-    public Volume getVolumeByIsbn(String isbn) {
-        return volumeRepository.findByIsbn(isbn)
+    public VolumeInfoResponse getVolumeByIsbn(String isbn) {
+        return volumeRepository.findInfoByIsbn(isbn)
                 .orElseThrow(() -> new IllegalArgumentException("ISBN에 해당하는 볼륨을 찾을 수 없습니다: " + isbn));
     }
 
@@ -109,6 +130,7 @@ public class VolumeService {
 
         volume.setSeries(series);
         Volume saved = volumeRepository.save(volume);
+        eventPublisher.publishEvent(CatalogChangedEvent.volume(saved.getId(), seriesId));
 
         // 시리즈 totalVolumes 업데이트
         updateSeriesTotalVolumes(seriesId);
@@ -156,6 +178,9 @@ public class VolumeService {
         if (volumeDetails.getIsFree() != null) {
             volume.setIsFree(volumeDetails.getIsFree());
         }
+        entitlementService.evictVolume(id);
+        volumeManifestService.invalidate(id);
+        eventPublisher.publishEvent(CatalogChangedEvent.volume(id, volume.getSeries().getId()));
 
         return volumeRepository.save(volume);
     }
@@ -173,6 +198,7 @@ public class VolumeService {
 
         volume.setSeries(newSeries);
         Volume saved = volumeRepository.save(volume);
+        eventPublisher.publishEvent(CatalogChangedEvent.volume(volumeId, oldSeriesId));
 
         // 양쪽 시리즈의 totalVolumes 업데이트
         updateSeriesTotalVolumes(oldSeriesId);
@@ -189,7 +215,9 @@ public class VolumeService {
         Volume volume = getVolumeById(id);
         Long seriesId = volume.getSeries().getId();
 
+        volumeCleanupService.beforeDeleteVolume(id);
         volumeRepository.delete(volume);
+        eventPublisher.publishEvent(CatalogChangedEvent.volume(id, seriesId));
 
         // 시리즈 totalVolumes 업데이트
         updateSeriesTotalVolumes(seriesId);
@@ -209,5 +237,6 @@ public class VolumeService {
             series.setTotalVolumes((int) count);
             seriesRepository.save(series);
         }
+        eventPublisher.publishEvent(CatalogChangedEvent.series(seriesId));
     }
 }
\ No newline at end of file
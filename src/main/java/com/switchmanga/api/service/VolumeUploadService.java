@@ -8,11 +8,14 @@ import com.switchmanga.api.repository.SeriesRepository;
 import com.switchmanga.api.repository.VolumeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -29,66 +32,42 @@ public class VolumeUploadService {
     private final VolumeRepository volumeRepository;
     private final SeriesRepository seriesRepository;
     private final PageService pageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final String UPLOAD_DIR = "uploads";
 
     /**
-     * 볼륨 업로드 (Controller에서 호출하는 메서드)
+     * 볼륨 업로드 (동기 처리)
+     * - /api/v1/upload/volume 은 VolumeIngestService를 통해 비동기 작업으로 처리됨
+     * - 단계별 메서드(createVolume → attachCoverImage → 페이지 추출 → completeVolume)를 순서대로 실행
      *
      * @param request 업로드 요청 정보
      * @param zipFile ZIP 파일 (페이지 이미지들)
      * @param coverFile 커버 이미지 파일
      * @return 업로드 응답
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public VolumeUploadResponse uploadVolume(VolumeUploadRequest request,
                                              MultipartFile zipFile,
                                              MultipartFile coverFile) {
         try {
-            // 시리즈 조회
-            Series series = seriesRepository.findById(request.getSeriesId())
-                    .orElseThrow(() -> new IllegalArgumentException("시리즈를 찾을 수 없습니다: " + request.getSeriesId()));
-
             // 볼륨 생성
-            Volume volume = new Volume();
-            volume.setSeries(series);
-            volume.setVolumeNumber(request.getVolumeNumber());
-            volume.setTitle(request.getTitle());
-            volume.setTitleEn(request.getTitleEn());
-            volume.setTitleJp(request.getTitleJp());
-            volume.setDescription(request.getDescription());
-            volume.setPrice(request.getPrice() != null ? BigDecimal.valueOf(request.getPrice()) : BigDecimal.ZERO);
-
-            // publishedDate: String → LocalDate 변환
-            if (request.getPublishedDate() != null && !request.getPublishedDate().isEmpty()) {
-                volume.setPublishedDate(LocalDate.parse(request.getPublishedDate()));
-            } else {
-                volume.setPublishedDate(LocalDate.now());
-            }
-            volume.setTotalPages(0);
+            Volume savedVolume = createVolume(request);
+            Long seriesId = savedVolume.getSeries().getId();
 
             // 커버 이미지 처리
-            String coverImageUrl = null;
+            String coverImageUrl = savedVolume.getCoverImage();
             if (coverFile != null && !coverFile.isEmpty()) {
-                coverImageUrl = saveCoverImage(series.getId(), request.getVolumeNumber(), coverFile);
-                volume.setCoverImage(coverImageUrl);
-            } else if (request.getCoverImage() != null && !request.getCoverImage().isEmpty()) {
-                volume.setCoverImage(request.getCoverImage());
-                coverImageUrl = request.getCoverImage();
+                try (InputStream inputStream = coverFile.getInputStream()) {
+                    coverImageUrl = attachCoverImage(savedVolume.getId(), inputStream, coverFile.getOriginalFilename());
+                }
             }
 
-            Volume savedVolume = volumeRepository.save(volume);
-
             // ZIP 파일에서 페이지 추출
             int pageCount = 0;
             if (zipFile != null && !zipFile.isEmpty()) {
                 try {
-                    var pages = pageService.extractPagesFromZip(savedVolume.getId(), zipFile);
-                    pageCount = pages.size();
-
-                    // totalPages 업데이트
-                    savedVolume.setTotalPages(pageCount);
-                    volumeRepository.save(savedVolume);
+                    pageCount = pageService.extractPagesFromZip(savedVolume.getId(), zipFile).size();
                 } catch (Exception e) {
                     log.error("ZIP 파일 처리 중 오류 발생", e);
                     return VolumeUploadResponse.failure("페이지 추출 실패: " + e.getMessage());
@@ -96,11 +75,11 @@ public class VolumeUploadService {
             }
 
             // 시리즈 totalVolumes 업데이트
-            updateSeriesTotalVolumes(series.getId());
+            completeVolume(savedVolume.getId());
 
             return VolumeUploadResponse.success(
                     savedVolume.getId(),
-                    series.getId(),
+                    seriesId,
                     savedVolume.getVolumeNumber(),
                     savedVolume.getTitle(),
                     pageCount,
@@ -113,10 +92,80 @@ public class VolumeUploadService {
         }
     }
 
+    // ========================================
+    // 업로드 단계별 메서드 (VolumeIngestService에서 단계마다 호출)
+    // ========================================
+
     /**
-     * 볼륨 업로드 (2개 파라미터 - 오버로드)
+     * 1단계: 요청 정보로 Volume 생성 (커버/페이지 없이)
+     */
+    @Transactional
+    public Volume createVolume(VolumeUploadRequest request) {
+        // 시리즈 조회
+        Series series = seriesRepository.findById(request.getSeriesId())
+                .orElseThrow(() -> new IllegalArgumentException("시리즈를 찾을 수 없습니다: " + request.getSeriesId()));
+
+        // 볼륨 생성
+        Volume volume = new Volume();
+        volume.setSeries(series);
+        volume.setVolumeNumber(request.getVolumeNumber());
+        volume.setTitle(request.getTitle());
+        volume.setTitleEn(request.getTitleEn());
+        volume.setTitleJp(request.getTitleJp());
+        volume.setDescription(request.getDescription());
+        volume.setPrice(request.getPrice() != null ? BigDecimal.valueOf(request.getPrice()) : BigDecimal.ZERO);
+
+        // publishedDate: String → LocalDate 변환
+        if (request.getPublishedDate() != null && !request.getPublishedDate().isEmpty()) {
+            volume.setPublishedDate(LocalDate.parse(request.getPublishedDate()));
+        } else {
+            volume.setPublishedDate(LocalDate.now());
+        }
+        volume.setTotalPages(0);
+
+        // 이미 업로드된 커버 경로가 있으면 그대로 사용
+        if (request.getCoverImage() != null && !request.getCoverImage().isEmpty()) {
+            volume.setCoverImage(request.getCoverImage());
+        }
+
+        Volume saved = volumeRepository.save(volume);
+        eventPublisher.publishEvent(CatalogChangedEvent.volume(saved.getId(), series.getId()));
+        return saved;
+    }
+
+    /**
+     * 2단계: 커버 이미지 저장 및 Volume에 연결
+     */
+    @Transactional
+    public String attachCoverImage(Long volumeId, InputStream coverStream, String originalFilename) throws IOException {
+        Volume volume = volumeRepository.findById(volumeId)
+                .orElseThrow(() -> new IllegalArgumentException("볼륨을 찾을 수 없습니다: " + volumeId));
+
+        String coverUrl = saveCoverImage(volume.getSeries().getId(), volume.getVolumeNumber(),
+                coverStream, originalFilename);
+        volume.setCoverImage(coverUrl);
+        volumeRepository.save(volume);
+        eventPublisher.publishEvent(CatalogChangedEvent.volume(volumeId, volume.getSeries().getId()));
+
+        return coverUrl;
+    }
+
+    /**
+     * 마지막 단계: 시리즈 totalVolumes 갱신
      */
     @Transactional
+    public Volume completeVolume(Long volumeId) {
+        Volume volume = volumeRepository.findById(volumeId)
+                .orElseThrow(() -> new IllegalArgumentException("볼륨을 찾을 수 없습니다: " + volumeId));
+
+        updateSeriesTotalVolumes(volume.getSeries().getId());
+        return volume;
+    }
+
+    /**
+     * 볼륨 업로드 (2개 파라미터 - 오버로드)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public VolumeUploadResponse uploadVolume(VolumeUploadRequest request, MultipartFile zipFile) {
         return uploadVolume(request, zipFile, null);
     }
@@ -129,9 +178,14 @@ public class VolumeUploadService {
         Volume volume = volumeRepository.findById(volumeId)
                 .orElseThrow(() -> new IllegalArgumentException("볼륨을 찾을 수 없습니다: " + volumeId));
 
-        String coverUrl = saveCoverImage(volume.getSeries().getId(), volume.getVolumeNumber(), coverFile);
+        String coverUrl;
+        try (InputStream inputStream = coverFile.getInputStream()) {
+            coverUrl = saveCoverImage(volume.getSeries().getId(), volume.getVolumeNumber(),
+                    inputStream, coverFile.getOriginalFilename());
+        }
         volume.setCoverImage(coverUrl);
         volumeRepository.save(volume);
+        eventPublisher.publishEvent(CatalogChangedEvent.volume(volumeId, volume.getSeries().getId()));
 
         return coverUrl;
     }
@@ -143,21 +197,22 @@ public class VolumeUploadService {
     /**
      * 커버 이미지 저장
      */
-    private String saveCoverImage(Long seriesId, Integer volumeNumber, MultipartFile coverFile) throws IOException {
+    private String saveCoverImage(Long seriesId, Integer volumeNumber,
+                                  InputStream coverStream, String originalFilename) throws IOException {
         String coverDir = UPLOAD_DIR + "/covers/" + seriesId;
         Path uploadPath = Paths.get(coverDir);
         if (!Files.exists(uploadPath)) {
             Files.createDirectories(uploadPath);
         }
 
-        String extension = getFileExtension(coverFile.getOriginalFilename());
+        String extension = getFileExtension(originalFilename);
         String fileName = String.format("vol_%d_%s.%s",
                 volumeNumber,
                 UUID.randomUUID().toString().substring(0, 8),
                 extension);
         Path filePath = uploadPath.resolve(fileName);
 
-        Files.copy(coverFile.getInputStream(), filePath);
+        Files.copy(coverStream, filePath);
 
         return "/" + coverDir + "/" + fileName;
     }
@@ -172,6 +227,7 @@ public class VolumeUploadService {
             series.setTotalVolumes((int) count);
             seriesRepository.save(series);
         }
+        eventPublisher.publishEvent(CatalogChangedEvent.series(seriesId));
     }
 
     private String getFileExtension(String fileName) {
@@ -0,0 +1,89 @@
+package com.switchmanga.api.util;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * ZIP 안의 엔트리 하나를 정적 리소스로 노출
+ * - STORED는 데이터 구간을 그대로, DEFLATED만 inflate
+ * - Range 요청의 skip은 STORED면 위치 이동만으로 처리됨
+ */
+public class ArchiveEntryResource extends AbstractResource {
+
+    private static final int INFLATE_BUFFER_SIZE = 64 * 1024;
+
+    private final Path archivePath;
+    private final ArchiveIndex.Entry entry;
+
+    public ArchiveEntryResource(Path archivePath, ArchiveIndex.Entry entry) {
+        this.archivePath = archivePath;
+        this.entry = entry;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        FileChannel channel = FileChannel.open(archivePath);
+        InputStream raw = new ArchiveEntryInputStream(channel, entry.dataOffset(), entry.compressedSize());
+
+        if (entry.method() == ArchiveIndex.STORED) {
+            return raw;
+        }
+
+        // nowrap Inflater는 입력 끝에 더미 바이트가 하나 더 있어야 마지막 블록을 확실히 마무리함
+        Inflater inflater = new Inflater(true);
+        InputStream padded = new SequenceInputStream(raw, new ByteArrayInputStream(new byte[1]));
+        return new InflaterInputStream(padded, inflater, INFLATE_BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inflater.end();
+                }
+            }
+        };
+    }
+
+    @Override
+    public boolean exists() {
+        return Files.isRegularFile(archivePath);
+    }
+
+    @Override
+    public long contentLength() {
+        return entry.size();
+    }
+
+    @Override
+    public long lastModified() throws IOException {
+        return Files.getLastModifiedTime(archivePath).toMillis();
+    }
+
+    @Override
+    public String getFilename() {
+        String name = entry.name();
+        return name.substring(name.lastIndexOf('/') + 1);
+    }
+
+    @Override
+    public String getDescription() {
+        return "archive entry [" + archivePath + "!/" + entry.name() + "]";
+    }
+
+    public Path getArchivePath() {
+        return archivePath;
+    }
+
+    public ArchiveIndex.Entry getEntry() {
+        return entry;
+    }
+}
@@ -0,0 +1,191 @@
+package com.switchmanga.api.util;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ZIP 엔트리 오프셋 인덱스
+ *
+ * 업로드 시 중앙 디렉토리를 한 번 읽어 엔트리별 데이터 시작 위치/크기를 기록해 두고,
+ * 응답 시에는 ZIP을 다시 파싱하지 않고 인덱스만으로 해당 구간을 바로 읽는다.
+ * - STORED: 데이터 구간이 곧 원본 파일
+ * - DEFLATED: 데이터 구간을 inflate
+ *
+ * 파일 형식 (big endian): "SMAI" | version(1) | 아카이브 파일명(UTF) | 엔트리 수(int)
+ *                      | 엔트리마다 이름(UTF), method(byte), dataOffset(long), compressedSize(long), size(long), crc(int)
+ */
+public class ArchiveIndex {
+
+    public static final int STORED = ZipArchiveEntry.STORED;
+    public static final int DEFLATED = ZipArchiveEntry.DEFLATED;
+
+    private static final int MAGIC = 0x534D4149;  // "SMAI"
+    private static final int VERSION = 1;
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_HEADER_LENGTH = 30;
+
+    private final String archiveName;
+    private final Map<String, Entry> entries;
+
+    private ArchiveIndex(String archiveName, Map<String, Entry> entries) {
+        this.archiveName = archiveName;
+        this.entries = entries;
+    }
+
+    /**
+     * ZIP 중앙 디렉토리로 인덱스 생성
+     *
+     * @return 바로 읽을 수 없는 엔트리(암호화, STORED/DEFLATED 외 압축)가 있으면 null
+     */
+    public static ArchiveIndex build(Path zipPath) throws IOException {
+        Map<String, Entry> entries = new LinkedHashMap<>();
+
+        try (ZipFile zipFile = new ZipFile(zipPath.toFile(), ZipEntryNameDecoder.RAW_CHARSET, false);
+             FileChannel channel = FileChannel.open(zipPath)) {
+
+            List<byte[]> rawNames = new ArrayList<>();
+            for (ZipArchiveEntry entry : Collections.list(zipFile.getEntries())) {
+                if (ZipEntryNameDecoder.needsDetection(entry)) {
+                    rawNames.add(entry.getRawName());
+                }
+            }
+            Charset charset = ZipEntryNameDecoder.detect(rawNames);
+
+            Enumeration<ZipArchiveEntry> zipEntries = zipFile.getEntries();
+            while (zipEntries.hasMoreElements()) {
+                ZipArchiveEntry entry = zipEntries.nextElement();
+                if (entry.isDirectory()) {
+                    continue;
+                }
+
+                int method = entry.getMethod();
+                if (entry.getGeneralPurposeBit().usesEncryption() || (method != STORED && method != DEFLATED)) {
+                    return null;
+                }
+
+                long dataOffset = entry.getDataOffset();
+                if (dataOffset < 0) {
+                    dataOffset = readDataOffset(channel, entry.getLocalHeaderOffset());
+                }
+
+                String name = ZipEntryNameDecoder.decode(entry, charset);
+                entries.put(name, new Entry(name, method, dataOffset,
+                        entry.getCompressedSize(), entry.getSize(), (int) entry.getCrc()));
+            }
+        }
+
+        return new ArchiveIndex(zipPath.getFileName().toString(), entries);
+    }
+
+    /**
+     * 인덱스 파일 읽기
+     */
+    public static ArchiveIndex read(Path indexPath) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexPath)))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                throw new IOException("지원하지 않는 아카이브 인덱스입니다: " + indexPath);
+            }
+
+            String archiveName = in.readUTF();
+            int count = in.readInt();
+            Map<String, Entry> entries = new LinkedHashMap<>(count * 4 / 3 + 1);
+
+            for (int i = 0; i < count; i++) {
+                Entry entry = new Entry(in.readUTF(), in.readByte(), in.readLong(),
+                        in.readLong(), in.readLong(), in.readInt());
+                entries.put(entry.name(), entry);
+            }
+            return new ArchiveIndex(archiveName, entries);
+        }
+    }
+
+    /**
+     * 인덱스 파일 기록 (임시 파일 기록 후 원자적 교체)
+     */
+    public void write(Path indexPath) throws IOException {
+        Path tmpFile = indexPath.resolveSibling(indexPath.getFileName() + ".part");
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+                out.writeUTF(archiveName);
+                out.writeInt(entries.size());
+
+                for (Entry entry : entries.values()) {
+                    out.writeUTF(entry.name());
+                    out.writeByte(entry.method());
+                    out.writeLong(entry.dataOffset());
+                    out.writeLong(entry.compressedSize());
+                    out.writeLong(entry.size());
+                    out.writeInt(entry.crc());
+                }
+            }
+            Files.move(tmpFile, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmpFile);
+        }
+    }
+
+    public String getArchiveName() {
+        return archiveName;
+    }
+
+    public Entry getEntry(String name) {
+        return entries.get(name);
+    }
+
+    public Collection<Entry> getEntries() {
+        return entries.values();
+    }
+
+    /**
+     * 로컬 파일 헤더 뒤 데이터 시작 위치 (고정 30바이트 + 파일명 + extra field)
+     */
+    private static long readDataOffset(FileChannel channel, long localHeaderOffset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(LOCAL_HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header, localHeaderOffset + header.position()) < 0) {
+                throw new IOException("ZIP 로컬 헤더를 읽을 수 없습니다: offset " + localHeaderOffset);
+            }
+        }
+
+        if (header.getInt(0) != LOCAL_HEADER_SIGNATURE) {
+            throw new IOException("잘못된 ZIP 로컬 헤더입니다: offset " + localHeaderOffset);
+        }
+        int nameLength = Short.toUnsignedInt(header.getShort(26));
+        int extraLength = Short.toUnsignedInt(header.getShort(28));
+        return localHeaderOffset + LOCAL_HEADER_LENGTH + nameLength + extraLength;
+    }
+
+    /**
+     * 엔트리 위치 정보
+     *
+     * @param dataOffset 압축 데이터 시작 위치 (로컬 헤더 다음)
+     * @param compressedSize 압축 데이터 크기 (STORED면 size와 같음)
+     * @param size 원본 크기
+     */
+    public record Entry(String name, int method, long dataOffset, long compressedSize, long size, int crc) {
+    }
+}
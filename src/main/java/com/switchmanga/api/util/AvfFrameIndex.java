@@ -0,0 +1,245 @@
+package com.switchmanga.api.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * 페이지별 컷(패널) 좌표 인덱스 (frame.avf 를 한 번 파싱한 결과)
+ *
+ * 원본 AVF 구조는 아직 분석 전이므로(MD/TODO.md) 아래 레이아웃(MD/UPLOAD_API.md)만 컷 정보로 해석하고,
+ * 조금이라도 다르면 전체를 거부한다 (추측한 좌표를 공개하지 않도록, 원본 파일은 ActionFrameService가 따로 보관).
+ * <pre>
+ * {
+ *   "version": 1,
+ *   "pages": [
+ *     { "page": 1, "frames": [[x, y, w, h], ...] },
+ *     { "file": "002.jpg", "frames": [[x, y, w, h], ...] }
+ *   ]
+ * }
+ * </pre>
+ * - 페이지는 page(1부터) 또는 file(ZIP 안의 이미지 파일명, 폴더 제외, 대소문자 무시) 중 하나로 지정
+ * - 좌표는 페이지 크기 대비 비율(0~1), 컷 순서는 읽는 순서
+ *
+ * 파일 형식 (big endian): "SMAF" | version(1) | 페이지 수(int)
+ *                      | 페이지마다 pageNumber(int), 컷 수(int), 컷마다 x, y, w, h(float)
+ */
+public class AvfFrameIndex {
+
+    private static final int MAGIC = 0x534D4146;  // "SMAF"
+    private static final int VERSION = 1;
+    private static final int LAYOUT_VERSION = 1;
+
+    // 비율 좌표 합(x + w, y + h)의 부동소수점 오차 허용
+    private static final double RATIO_TOLERANCE = 1e-6;
+
+    // 비정상적으로 큰 파일 방어
+    private static final int MAX_FRAMES = 100_000;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Set<String> ROOT_FIELDS = Set.of("version", "pages");
+    private static final Set<String> PAGE_FIELDS = Set.of("page", "file", "frames");
+
+    // pageNumber → [x0, y0, w0, h0, x1, y1, ...]
+    private final Map<Integer, float[]> frames;
+
+    private AvfFrameIndex(Map<Integer, float[]> frames) {
+        this.frames = frames;
+    }
+
+    /**
+     * frame.avf 파싱 (문서화된 레이아웃만)
+     *
+     * @param pageByName 이미지 파일명 → 페이지 번호 (없으면 null 반환)
+     * @return 레이아웃과 다르거나, 없는 페이지/파일을 가리키거나, 좌표가 범위를 벗어나면 null
+     */
+    public static AvfFrameIndex parse(byte[] data, Function<String, Integer> pageByName) {
+        JsonNode root;
+        try {
+            root = OBJECT_MAPPER.readTree(data);
+        } catch (IOException e) {
+            return null;
+        }
+        if (root == null || !root.isObject() || !hasOnlyFields(root, ROOT_FIELDS)
+                || !root.path("version").isInt() || root.get("version").intValue() != LAYOUT_VERSION
+                || !root.path("pages").isArray()) {
+            return null;
+        }
+
+        Map<Integer, float[]> frames = new TreeMap<>();
+        int frameCount = 0;
+
+        for (JsonNode page : root.get("pages")) {
+            if (!page.isObject() || !hasOnlyFields(page, PAGE_FIELDS) || !page.path("frames").isArray()) {
+                return null;
+            }
+
+            Integer pageNumber = pageNumberOf(page, pageByName);
+            if (pageNumber == null || frames.containsKey(pageNumber)) {
+                return null;
+            }
+
+            JsonNode rects = page.get("frames");
+            frameCount += rects.size();
+            if (frameCount > MAX_FRAMES) {
+                return null;
+            }
+
+            float[] values = new float[rects.size() * 4];
+            int i = 0;
+            for (JsonNode rect : rects) {
+                if (!isFrame(rect)) {
+                    return null;
+                }
+                for (JsonNode value : rect) {
+                    values[i++] = value.floatValue();
+                }
+            }
+            if (values.length > 0) {
+                frames.put(pageNumber, values);
+            }
+        }
+        return new AvfFrameIndex(frames);
+    }
+
+    /**
+     * 인덱스 파일 읽기
+     */
+    public static AvfFrameIndex read(Path indexPath) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexPath)))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                throw new IOException("지원하지 않는 컷 인덱스입니다: " + indexPath);
+            }
+
+            int pageCount = in.readInt();
+            Map<Integer, float[]> frames = new TreeMap<>();
+            for (int i = 0; i < pageCount; i++) {
+                int pageNumber = in.readInt();
+                float[] rects = new float[in.readInt() * 4];
+                for (int j = 0; j < rects.length; j++) {
+                    rects[j] = in.readFloat();
+                }
+                frames.put(pageNumber, rects);
+            }
+            return new AvfFrameIndex(frames);
+        }
+    }
+
+    /**
+     * 인덱스 파일 기록 (임시 파일 기록 후 원자적 교체)
+     */
+    public void write(Path indexPath) throws IOException {
+        Path tmpFile = indexPath.resolveSibling(indexPath.getFileName() + ".part");
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+                out.writeInt(frames.size());
+
+                for (Map.Entry<Integer, float[]> page : frames.entrySet()) {
+                    out.writeInt(page.getKey());
+                    out.writeInt(page.getValue().length / 4);
+                    for (float value : page.getValue()) {
+                        out.writeFloat(value);
+                    }
+                }
+            }
+            Files.move(tmpFile, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmpFile);
+        }
+    }
+
+    public boolean isEmpty() {
+        return frames.isEmpty();
+    }
+
+    public int getPageCount() {
+        return frames.size();
+    }
+
+    public int getFrameCount() {
+        return frames.values().stream().mapToInt(rects -> rects.length / 4).sum();
+    }
+
+    /**
+     * 페이지의 컷 목록 ([x, y, w, h] 배열, 읽는 순서)
+     *
+     * @return 컷 정보가 없으면 null
+     */
+    public List<float[]> getFrames(int pageNumber) {
+        float[] rects = frames.get(pageNumber);
+        if (rects == null) {
+            return null;
+        }
+
+        List<float[]> result = new ArrayList<>(rects.length / 4);
+        for (int i = 0; i < rects.length; i += 4) {
+            result.add(Arrays.copyOfRange(rects, i, i + 4));
+        }
+        return result;
+    }
+
+    /**
+     * page / file 중 정확히 하나로 지정된 페이지 번호
+     */
+    private static Integer pageNumberOf(JsonNode page, Function<String, Integer> pageByName) {
+        JsonNode number = page.get("page");
+        JsonNode file = page.get("file");
+
+        if (number != null && file == null) {
+            return number.isInt() && number.intValue() >= 1 ? number.intValue() : null;
+        }
+        if (file != null && number == null && file.isTextual() && pageByName != null) {
+            return pageByName.apply(file.textValue());
+        }
+        return null;
+    }
+
+    /**
+     * [x, y, w, h] 비율 좌표 (페이지 안에 들어가고 폭/높이가 0보다 큼)
+     */
+    private static boolean isFrame(JsonNode rect) {
+        if (!rect.isArray() || rect.size() != 4) {
+            return false;
+        }
+        for (JsonNode value : rect) {
+            if (!value.isNumber()) {
+                return false;
+            }
+        }
+        double x = rect.get(0).doubleValue();
+        double y = rect.get(1).doubleValue();
+        double w = rect.get(2).doubleValue();
+        double h = rect.get(3).doubleValue();
+        return x >= 0 && y >= 0 && w > 0 && h > 0
+                && x + w <= 1 + RATIO_TOLERANCE && y + h <= 1 + RATIO_TOLERANCE;
+    }
+
+    private static boolean hasOnlyFields(JsonNode node, Set<String> allowed) {
+        Iterator<String> names = node.fieldNames();
+        while (names.hasNext()) {
+            if (!allowed.contains(names.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
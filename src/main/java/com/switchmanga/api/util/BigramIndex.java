@@ -0,0 +1,270 @@
+package com.switchmanga.api.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문자 bigram 역색인 (한글/가나/한자/영문 제목 부분 일치 검색)
+ *
+ * - 문서 = id + 필드 목록 (제목, 영문 제목, 작가 ...), 필드마다 가중치
+ * - 정규화: NFKC(전각/반각 통일) → 소문자 → 가타카나를 히라가나로 → 글자/숫자 외 제거 (띄어쓰기 무시)
+ * - 토큰: 정규화 문자열의 연속 두 글자 + 한 글자 (한 글자 검색용), 필드별 포함 여부를 비트로 보관
+ * - 검색: 질의 토큰을 모두 가진 필드가 있는 문서만, 토큰 목록이 가장 짧은 것부터 교집합
+ * - 점수: 일치 필드 가중치 × (기본 1 + 실제 부분 문자열이면 1 + 앞부분 일치면 1 + 필드에서 질의가 차지하는 비율)
+ * - 읽기/쓰기 락으로 검색과 갱신 동시 처리
+ */
+public class BigramIndex {
+
+    private final double[] fieldWeights;
+
+    // 토큰 → (문서 id → 토큰을 가진 필드 비트)
+    private final Map<Integer, Map<Long, Integer>> postings = new HashMap<>();
+
+    // 문서 id → 정규화된 필드 (삭제/재색인과 부분 문자열 확인용)
+    private final Map<Long, String[]> documents = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * @param fieldWeights 필드 순서대로 가중치 (최대 31개)
+     */
+    public BigramIndex(double... fieldWeights) {
+        if (fieldWeights.length == 0 || fieldWeights.length > 31) {
+            throw new IllegalArgumentException("필드 수는 1 ~ 31개여야 합니다: " + fieldWeights.length);
+        }
+        this.fieldWeights = fieldWeights.clone();
+    }
+
+    /**
+     * 문서 추가/교체 (필드 순서는 생성자 가중치 순서, null 가능)
+     */
+    public void put(long id, String... fields) {
+        String[] normalized = new String[fieldWeights.length];
+        for (int i = 0; i < normalized.length && i < fields.length; i++) {
+            normalized[i] = normalize(fields[i]);
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            documents.put(id, normalized);
+            for (int field = 0; field < normalized.length; field++) {
+                int bit = 1 << field;
+                for (int token : tokens(normalized[field])) {
+                    postings.computeIfAbsent(token, key -> new HashMap<>()).merge(id, bit, (a, b) -> a | b);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 (점수 내림차순, 같은 점수는 id 내림차순 = 최신순)
+     *
+     * @param fieldMask 검색할 필드 비트 (1 << 필드 순서)
+     * @param limit 최대 결과 수
+     * @return 문서 id 목록 (정규화 후 빈 질의면 빈 목록)
+     */
+    public List<Long> search(String query, int fieldMask, int limit) {
+        String normalizedQuery = normalize(query);
+        Set<Integer> queryTokens = queryTokens(normalizedQuery);
+        if (queryTokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> lists = new ArrayList<>(queryTokens.size());
+            for (int token : queryTokens) {
+                Map<Long, Integer> list = postings.get(token);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            Map<Long, Integer> smallest = lists.get(0);
+            for (Map.Entry<Long, Integer> entry : smallest.entrySet()) {
+                int fields = entry.getValue() & fieldMask;
+                for (int i = 1; i < lists.size() && fields != 0; i++) {
+                    Integer other = lists.get(i).get(entry.getKey());
+                    fields &= other != null ? other : 0;
+                }
+                if (fields != 0) {
+                    long id = entry.getKey();
+                    matches.add(new Match(id, score(documents.get(id), fields, normalizedQuery)));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(Comparator.comparingDouble(Match::score).reversed()
+                .thenComparing(Comparator.comparingLong(Match::id).reversed()));
+        return matches.stream().limit(limit).map(Match::id).toList();
+    }
+
+    public int getDocumentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getTokenCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색용 정규화 (NFKC, 소문자, 가타카나 → 히라가나, 글자/숫자만)
+     *
+     * @return null 이면 빈 문자열
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder result = new StringBuilder(folded.length());
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (c >= '\u30A1' && c <= '\u30F6') {
+                // 가타카나 → 히라가나 (ァ..ヶ → ぁ..ゖ)
+                result.append((char) (c - 0x60));
+            } else if (Character.isLetterOrDigit(c) || Character.isSurrogate(c)) {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    // ========================================
+    // Helper 메서드
+    // ========================================
+
+    private void removeLocked(long id) {
+        String[] old = documents.remove(id);
+        if (old == null) {
+            return;
+        }
+
+        for (String field : old) {
+            for (int token : tokens(field)) {
+                Map<Long, Integer> list = postings.get(token);
+                if (list != null && list.remove(id) != null && list.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    private double score(String[] fields, int matchedFields, String query) {
+        double score = 0;
+        for (int field = 0; field < fields.length; field++) {
+            if ((matchedFields & (1 << field)) == 0) {
+                continue;
+            }
+
+            String text = fields[field];
+            double fieldScore = 1;
+            int at = text.indexOf(query);
+            if (at >= 0) {
+                fieldScore += 1;
+                if (at == 0) {
+                    fieldScore += 1;
+                }
+            }
+            fieldScore += (double) query.length() / text.length();
+            score += fieldWeights[field] * fieldScore;
+        }
+        return score;
+    }
+
+    /**
+     * 색인 토큰 (한 글자 + 두 글자)
+     */
+    private static Set<Integer> tokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Integer> tokens = new LinkedHashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            tokens.add(unigram(text.charAt(i)));
+            if (i + 1 < text.length()) {
+                tokens.add(bigram(text.charAt(i), text.charAt(i + 1)));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 질의 토큰 (두 글자 이상이면 bigram 만, 한 글자면 unigram)
+     */
+    private static Set<Integer> queryTokens(String query) {
+        if (query.isEmpty()) {
+            return Set.of();
+        }
+        if (query.length() == 1) {
+            return Set.of(unigram(query.charAt(0)));
+        }
+
+        Set<Integer> tokens = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < query.length(); i++) {
+            tokens.add(bigram(query.charAt(i), query.charAt(i + 1)));
+        }
+        return tokens;
+    }
+
+    private static int unigram(char c) {
+        return c;
+    }
+
+    private static int bigram(char first, char second) {
+        // 정규화 후 '\0' 은 남지 않으므로 상위 16비트가 항상 0이 아님 → unigram 범위(0 ~ 0xFFFF)와 겹치지 않음
+        // (first 가 0x8000 이상이면 음수가 되지만 int 값 자체는 글자 쌍마다 달라서 토큰으로 문제없음)
+        return (first << 16) | second;
+    }
+
+    private record Match(long id, double score) {
+    }
+}
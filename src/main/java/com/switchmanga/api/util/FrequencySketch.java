@@ -0,0 +1,100 @@
+package com.switchmanga.api.util;
+
+/**
+ * 접근 빈도 추정용 Count-Min Sketch (TinyLFU)
+ *
+ * - 4개 행, 행마다 4비트 카운터 (최대 15)
+ * - 증가 시 최소값인 카운터만 올려(conservative update) 과대 추정을 줄임
+ * - 증가 횟수가 sampleSize에 도달하면 모든 카운터를 절반으로 줄여 오래된 인기도를 잊음 (aging)
+ *
+ * 스레드 안전하지 않음 (호출하는 캐시의 락 안에서 사용)
+ */
+public class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    // 한 long에 4비트 카운터 16개
+    private final long[][] table;
+    private final int counterMask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * @param expectedEntries 캐시에 들어갈 것으로 예상되는 항목 수
+     */
+    public FrequencySketch(int expectedEntries) {
+        int counters = Integer.highestOneBit(Math.max(64, expectedEntries) - 1) << 1;
+        this.table = new long[DEPTH][counters / 16];
+        this.counterMask = counters - 1;
+        this.sampleSize = 10 * counters;
+    }
+
+    /**
+     * 추정 빈도 (0 ~ 15)
+     */
+    public int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int min = MAX_COUNT;
+        for (int row = 0; row < DEPTH; row++) {
+            min = Math.min(min, counter(row, index(hash, row)));
+        }
+        return min;
+    }
+
+    /**
+     * 접근 1회 기록
+     */
+    public void increment(Object key) {
+        int hash = spread(key.hashCode());
+        int[] indexes = new int[DEPTH];
+        int min = MAX_COUNT;
+
+        for (int row = 0; row < DEPTH; row++) {
+            indexes[row] = index(hash, row);
+            min = Math.min(min, counter(row, indexes[row]));
+        }
+        if (min == MAX_COUNT) {
+            return;
+        }
+
+        for (int row = 0; row < DEPTH; row++) {
+            if (counter(row, indexes[row]) == min) {
+                table[row][indexes[row] >>> 4] += 1L << ((indexes[row] & 15) << 2);
+            }
+        }
+
+        if (++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * 모든 카운터 절반 (4비트 카운터 16개를 한 번에 시프트 후 인접 카운터로 넘어온 비트 제거)
+     */
+    private void reset() {
+        for (long[] row : table) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = (row[i] >>> 1) & 0x7777777777777777L;
+            }
+        }
+        additions /= 2;
+    }
+
+    private int counter(int row, int index) {
+        return (int) ((table[row][index >>> 4] >>> ((index & 15) << 2)) & 0xF);
+    }
+
+    private int index(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        return (int) (h ^ (h >>> 32)) & counterMask;
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,237 @@
+package com.switchmanga.api.util;
+
+/**
+ * 이미지 헤더만 읽어 형식/가로/세로를 판별 (전체 디코딩 없음)
+ *
+ * 복사 중인 바이트를 update()로 흘려 넣으면 필요한 헤더 구간만 보고 나머지는 건너뜀
+ * - JPEG: SOI 이후 세그먼트 길이만큼 건너뛰며 SOFn 세그먼트의 height/width
+ * - PNG: IHDR 청크
+ * - GIF: Logical Screen Descriptor
+ * - WebP: VP8 / VP8L / VP8X 청크
+ *
+ * 판별이 끝나거나(isDone) 형식을 알 수 없으면 이후 입력은 무시한다.
+ */
+public class ImageHeaderProbe {
+
+    private enum State {
+        START,
+        PNG, GIF, WEBP,
+        JPEG_MARKER_PREFIX, JPEG_MARKER, JPEG_SEGMENT_LENGTH, JPEG_SOF,
+        DONE
+    }
+
+    private final byte[] scratch = new byte[32];
+    private int scratchLength;
+    private int wanted = 2;
+    private long skipRemaining;
+    private State state = State.START;
+
+    private String format;
+    private Integer width;
+    private Integer height;
+
+    /**
+     * 다음 바이트 구간 입력
+     */
+    public void update(byte[] buffer, int offset, int length) {
+        int position = offset;
+        int end = offset + length;
+
+        while (position < end && state != State.DONE) {
+            if (skipRemaining > 0) {
+                int n = (int) Math.min(skipRemaining, end - position);
+                position += n;
+                skipRemaining -= n;
+                continue;
+            }
+
+            int n = Math.min(wanted - scratchLength, end - position);
+            System.arraycopy(buffer, position, scratch, scratchLength, n);
+            position += n;
+            scratchLength += n;
+
+            if (scratchLength == wanted) {
+                scratchLength = 0;
+                consume();
+            }
+        }
+    }
+
+    /**
+     * 더 이상 입력이 필요 없는지 (판별 완료 또는 판별 불가)
+     */
+    public boolean isDone() {
+        return state == State.DONE;
+    }
+
+    /**
+     * 이미지 형식 (jpg, png, gif, webp / 알 수 없으면 null)
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    public Integer getWidth() {
+        return width;
+    }
+
+    public Integer getHeight() {
+        return height;
+    }
+
+    private void consume() {
+        switch (state) {
+            case START -> {
+                int b0 = u8(0);
+                int b1 = u8(1);
+                if (b0 == 0xFF && b1 == 0xD8) {
+                    expect(State.JPEG_MARKER_PREFIX, 1);
+                } else if (b0 == 0x89 && b1 == 'P') {
+                    expect(State.PNG, 22);       // 시그니처 나머지 6 + IHDR 길이/타입 8 + width/height 8
+                } else if (b0 == 'G' && b1 == 'I') {
+                    expect(State.GIF, 8);        // "F87a"/"F89a" + width/height
+                } else if (b0 == 'R' && b1 == 'I') {
+                    expect(State.WEBP, 28);      // RIFF 헤더 나머지 + 첫 청크 헤더 + 크기 정보
+                } else {
+                    fail();
+                }
+            }
+            case PNG -> {
+                // 상대 오프셋: "NG\r\n\u001A\n"(0-5), 길이(6-9), "IHDR"(10-13), width(14-17), height(18-21)
+                if (scratch[0] == 'N' && scratch[1] == 'G' && scratch[10] == 'I' && scratch[11] == 'H'
+                        && scratch[12] == 'D' && scratch[13] == 'R') {
+                    finish("png", s32be(14), s32be(18));
+                } else {
+                    fail();
+                }
+            }
+            case GIF -> {
+                // "F8" + "7a"/"9a" 후 width/height (little endian)
+                if (scratch[0] == 'F' && scratch[1] == '8' && scratch[3] == 'a') {
+                    finish("gif", u16le(4), u16le(6));
+                } else {
+                    fail();
+                }
+            }
+            case WEBP -> probeWebp();
+            case JPEG_MARKER_PREFIX -> {
+                if (u8(0) == 0xFF) {
+                    format = "jpg";
+                    expect(State.JPEG_MARKER, 1);
+                } else {
+                    fail();
+                }
+            }
+            case JPEG_MARKER -> probeJpegMarker(u8(0));
+            case JPEG_SEGMENT_LENGTH -> {
+                int segmentLength = u16be(0);
+                if (segmentLength < 2) {
+                    fail();
+                    return;
+                }
+                skipRemaining = segmentLength - 2;
+                expect(State.JPEG_MARKER_PREFIX, 1);
+            }
+            case JPEG_SOF -> {
+                // 길이(0-1), precision(2), height(3-4), width(5-6)
+                finish("jpg", u16be(5), u16be(3));
+            }
+            default -> fail();
+        }
+    }
+
+    private void probeJpegMarker(int marker) {
+        if (marker == 0xFF) {
+            // 채움 바이트
+            expect(State.JPEG_MARKER, 1);
+        } else if (isStartOfFrame(marker)) {
+            expect(State.JPEG_SOF, 7);
+        } else if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD8)) {
+            // 길이 없는 마커 (TEM, RSTn, SOI)
+            expect(State.JPEG_MARKER_PREFIX, 1);
+        } else if (marker == 0xD9 || marker == 0xDA) {
+            // SOF 없이 EOI/SOS에 도달
+            fail();
+        } else {
+            expect(State.JPEG_SEGMENT_LENGTH, 2);
+        }
+    }
+
+    private static boolean isStartOfFrame(int marker) {
+        // SOF0-SOF15 중 DHT(C4), JPG(C8), DAC(CC) 제외
+        return marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+    }
+
+    private void probeWebp() {
+        // 상대 오프셋 (파일 오프셋 - 2): "FF"(0-1), RIFF 크기(2-5), "WEBP"(6-9), 청크 타입(10-13), 청크 크기(14-17), 데이터(18-)
+        if (scratch[0] != 'F' || scratch[1] != 'F' || scratch[6] != 'W' || scratch[7] != 'E'
+                || scratch[8] != 'B' || scratch[9] != 'P' || scratch[10] != 'V' || scratch[11] != 'P'
+                || scratch[12] != '8') {
+            fail();
+            return;
+        }
+
+        switch (scratch[13]) {
+            case ' ' -> {
+                // VP8 (lossy): frame tag 3바이트, 시작 코드 9D 01 2A, width/height 14비트
+                if (u8(21) == 0x9D && u8(22) == 0x01 && u8(23) == 0x2A) {
+                    finish("webp", u16le(24) & 0x3FFF, u16le(26) & 0x3FFF);
+                } else {
+                    fail();
+                }
+            }
+            case 'L' -> {
+                // VP8L (lossless): 시그니처 0x2F, 이후 (width-1) 14비트, (height-1) 14비트
+                if (u8(18) == 0x2F) {
+                    int bits = u8(19) | (u8(20) << 8) | (u8(21) << 16) | (u8(22) << 24);
+                    finish("webp", (bits & 0x3FFF) + 1, ((bits >>> 14) & 0x3FFF) + 1);
+                } else {
+                    fail();
+                }
+            }
+            case 'X' -> {
+                // VP8X (extended): flags 4바이트, canvas (width-1)/(height-1) 24비트
+                finish("webp", u24le(22) + 1, u24le(25) + 1);
+            }
+            default -> fail();
+        }
+    }
+
+    private void expect(State next, int bytes) {
+        state = next;
+        wanted = bytes;
+    }
+
+    private void finish(String detectedFormat, int detectedWidth, int detectedHeight) {
+        format = detectedFormat;
+        if (detectedWidth > 0 && detectedHeight > 0) {
+            width = detectedWidth;
+            height = detectedHeight;
+        }
+        state = State.DONE;
+    }
+
+    private void fail() {
+        state = State.DONE;
+    }
+
+    private int u8(int index) {
+        return scratch[index] & 0xFF;
+    }
+
+    private int u16be(int index) {
+        return (u8(index) << 8) | u8(index + 1);
+    }
+
+    private int u16le(int index) {
+        return u8(index) | (u8(index + 1) << 8);
+    }
+
+    private int u24le(int index) {
+        return u8(index) | (u8(index + 1) << 8) | (u8(index + 2) << 16);
+    }
+
+    private int s32be(int index) {
+        return (u8(index) << 24) | (u8(index + 1) << 16) | (u8(index + 2) << 8) | u8(index + 3);
+    }
+}
@@ -0,0 +1,123 @@
+package com.switchmanga.api.util;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+
+/**
+ * ImageIO 기반 축소 유틸 (썸네일, 화면 크기별 변환 이미지)
+ *
+ * - 목표 크기의 2배 정도까지만 서브샘플링으로 디코딩한 뒤 부드럽게 축소
+ *   → 원본 해상도와 무관하게 디코딩 래스터 크기가 제한됨
+ * - 기록은 임시 파일에 쓴 뒤 원자적으로 교체
+ */
+public final class ImageResizer {
+
+    private ImageResizer() {
+    }
+
+    /**
+     * 가로 maxWidth 이하로 축소 (원본이 더 작으면 원본 크기)
+     *
+     * @param opaque true면 흰 배경 위에 그려 알파 채널 제거 (JPEG 출력용)
+     * @return ImageIO 리더가 없는 형식(WebP 등)이면 null
+     */
+    public static BufferedImage resize(Path source, int maxWidth, boolean opaque) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+
+                int width = Math.min(maxWidth, sourceWidth);
+                int height = Math.max(1, (int) Math.round((double) sourceHeight * width / sourceWidth));
+
+                int step = Math.max(1, sourceWidth / (width * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage decoded = reader.read(0, param);
+
+                BufferedImage resized = new BufferedImage(width, height,
+                        opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+                Graphics2D graphics = resized.createGraphics();
+                try {
+                    graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                    graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                    if (opaque) {
+                        graphics.setColor(Color.WHITE);
+                        graphics.fillRect(0, 0, width, height);
+                    }
+                    graphics.drawImage(decoded, 0, 0, width, height, null);
+                } finally {
+                    graphics.dispose();
+                }
+                return resized;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * JPEG 기록
+     */
+    public static void writeJpeg(BufferedImage image, Path target, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            write(writer, param, image, target);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * PNG 기록 (투명도 유지)
+     */
+    public static void writePng(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("png").next();
+        try {
+            write(writer, writer.getDefaultWriteParam(), image, target);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static void write(ImageWriter writer, ImageWriteParam param,
+                              BufferedImage image, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path tmpFile = Files.createTempFile(target.getParent(), "img-", ".part");
+
+        try {
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(tmpFile.toFile())) {
+                writer.setOutput(output);
+                writer.write(null, new IIOImage(image, null, null), param);
+            }
+            Files.move(tmpFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmpFile);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.switchmanga.api.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * 가중치(바이트 수 등) 한도를 가진 LRU 캐시
+ *
+ * - 접근 순서 LinkedHashMap 기반, 모든 연산은 단일 락
+ * - 한도를 넘으면 가장 오래 사용하지 않은 항목부터 제거하고, 제거 콜백은 락 밖에서 호출
+ * - 적중/미스/제거 건수 통계 제공
+ */
+public class LruCache<K, V> {
+
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final BiConsumer<K, V> evictionListener;
+
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param maxWeight 가중치 합 한도
+     * @param weigher 항목 가중치 계산
+     * @param evictionListener 한도 초과로 제거된 항목 콜백 (null 가능)
+     */
+    public LruCache(long maxWeight, ToLongFunction<V> weigher, BiConsumer<K, V> evictionListener) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * 항목 수 한도 캐시 (항목마다 가중치 1)
+     */
+    public static <K, V> LruCache<K, V> ofSize(int maxEntries) {
+        return new LruCache<>(maxEntries, value -> 1, null);
+    }
+
+    public V get(K key) {
+        synchronized (this) {
+            V value = entries.get(key);
+            if (value != null) {
+                hits++;
+            } else {
+                misses++;
+            }
+            return value;
+        }
+    }
+
+    public void put(K key, V value) {
+        List<Map.Entry<K, V>> evicted;
+        synchronized (this) {
+            V previous = entries.put(key, value);
+            if (previous != null) {
+                weight -= weigher.applyAsLong(previous);
+            }
+            weight += weigher.applyAsLong(value);
+            evicted = evictOverflow();
+        }
+        notifyEvicted(evicted);
+    }
+
+    public V remove(K key) {
+        synchronized (this) {
+            V value = entries.remove(key);
+            if (value != null) {
+                weight -= weigher.applyAsLong(value);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * 조건에 맞는 항목 일괄 제거 (제거 콜백은 호출하지 않음)
+     */
+    public int removeIf(BiPredicate<K, V> predicate) {
+        synchronized (this) {
+            int removed = 0;
+            Iterator<Map.Entry<K, V>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<K, V> entry = iterator.next();
+                if (predicate.test(entry.getKey(), entry.getValue())) {
+                    weight -= weigher.applyAsLong(entry.getValue());
+                    iterator.remove();
+                    removed++;
+                }
+            }
+            return removed;
+        }
+    }
+
+    public void clear() {
+        synchronized (this) {
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    public Stats stats() {
+        synchronized (this) {
+            return new Stats(entries.size(), weight, maxWeight, hits, misses, evictions);
+        }
+    }
+
+    private List<Map.Entry<K, V>> evictOverflow() {
+        List<Map.Entry<K, V>> evicted = null;
+        Iterator<Map.Entry<K, V>> iterator = entries.entrySet().iterator();
+
+        // 방금 넣은 항목(가장 최근)은 남겨 둠
+        while (weight > maxWeight && entries.size() > 1 && iterator.hasNext()) {
+            Map.Entry<K, V> eldest = iterator.next();
+            weight -= weigher.applyAsLong(eldest.getValue());
+            iterator.remove();
+            evictions++;
+
+            if (evictionListener != null) {
+                if (evicted == null) {
+                    evicted = new ArrayList<>();
+                }
+                evicted.add(Map.entry(eldest.getKey(), eldest.getValue()));
+            }
+        }
+        return evicted;
+    }
+
+    private void notifyEvicted(List<Map.Entry<K, V>> evicted) {
+        if (evicted == null) {
+            return;
+        }
+        for (Map.Entry<K, V> entry : evicted) {
+            evictionListener.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * 캐시 통계
+     */
+    public record Stats(int size, long weight, long maxWeight, long hits, long misses, long evictions) {
+
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.switchmanga.api.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 볼륨 팩 파일 (페이지 이미지를 볼륨 단위 파일 하나로 묶은 형식)
+ *
+ * 구조 (little endian):
+ * - 헤더 32바이트: "SMPV" | version(int) | 페이지 수(int) | 예약(int) | volumeId(long) | 생성 시각 millis(long)
+ * - 페이지 테이블 (페이지 번호순, 항목당 64바이트):
+ *   pageNumber(int) | 예약(int) | offset(long) | length(long) | SHA-256(32) | 확장자(8, ASCII, 0 채움)
+ * - 이미지 데이터 (테이블 순서대로 이어 붙임)
+ *
+ * 읽기: 헤더/테이블만 메모리 매핑해서 페이지 번호로 이진 탐색하고, 이미지 데이터는 FileChannel.transferTo로 전송
+ * 여러 요청이 같은 인스턴스를 공유하므로 retain/release 참조 수로 채널 수명을 관리한다.
+ */
+public final class PackedVolume {
+
+    private static final int MAGIC = 0x56504D53;  // "SMPV" (little endian)
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int ENTRY_SIZE = 64;
+    private static final int HASH_SIZE = 32;
+    private static final int EXTENSION_SIZE = 8;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer table;
+    private final int pageCount;
+    private final long volumeId;
+
+    // 열려 있는 동안 1 이상 (0이 되면 채널을 닫음)
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    private PackedVolume(Path path, FileChannel channel, MappedByteBuffer table, int pageCount, long volumeId) {
+        this.path = path;
+        this.channel = channel;
+        this.table = table;
+        this.pageCount = pageCount;
+        this.volumeId = volumeId;
+    }
+
+    /**
+     * 팩 파일 기록 (임시 파일에 쓴 뒤 원자적으로 교체)
+     *
+     * @param pages 페이지 번호순 정렬된 원본 이미지 목록
+     */
+    public static void write(Path target, long volumeId, List<Source> pages) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path tmpFile = Files.createTempFile(target.getParent(), "pack-", ".part");
+
+        try {
+            try (FileChannel out = FileChannel.open(tmpFile, StandardOpenOption.WRITE)) {
+                long dataOffset = HEADER_SIZE + (long) ENTRY_SIZE * pages.size();
+                ByteBuffer head = ByteBuffer.allocate((int) dataOffset).order(ByteOrder.LITTLE_ENDIAN);
+
+                head.putInt(MAGIC).putInt(VERSION).putInt(pages.size()).putInt(0)
+                        .putLong(volumeId).putLong(System.currentTimeMillis());
+
+                // 이미지 데이터 먼저 기록하면서 테이블 구성
+                long offset = dataOffset;
+                for (Source page : pages) {
+                    long length;
+                    try (FileChannel in = FileChannel.open(page.path(), StandardOpenOption.READ)) {
+                        length = in.size();
+                        long copied = 0;
+                        while (copied < length) {
+                            copied += in.transferTo(copied, length - copied, out.position(offset + copied));
+                        }
+                    }
+
+                    head.putInt(page.pageNumber()).putInt(0).putLong(offset).putLong(length);
+                    head.put(hashBytes(page.hash()));
+                    head.put(extensionBytes(page.extension()));
+                    offset += length;
+                }
+
+                head.flip();
+                while (head.hasRemaining()) {
+                    out.write(head, head.position());
+                }
+                out.force(false);
+            }
+            Files.move(tmpFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmpFile);
+        }
+    }
+
+    /**
+     * 팩 파일 열기 (헤더/테이블 메모리 매핑)
+     */
+    public static PackedVolume open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException("팩 파일 헤더가 손상되었습니다: " + path);
+                }
+            }
+
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException("지원하지 않는 팩 파일입니다: " + path);
+            }
+            int pageCount = header.getInt(8);
+            long volumeId = header.getLong(16);
+
+            long tableSize = (long) ENTRY_SIZE * pageCount;
+            if (pageCount < 0 || HEADER_SIZE + tableSize > channel.size()) {
+                throw new IOException("팩 파일 테이블이 손상되었습니다: " + path);
+            }
+
+            MappedByteBuffer table = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, tableSize);
+            table.order(ByteOrder.LITTLE_ENDIAN);
+            return new PackedVolume(path, channel, table, pageCount, volumeId);
+
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 페이지 번호로 항목 조회 (테이블 이진 탐색)
+     *
+     * @return 없으면 null
+     */
+    public Entry find(int pageNumber) {
+        int low = 0;
+        int high = pageCount - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int current = table.getInt(mid * ENTRY_SIZE);
+
+            if (current < pageNumber) {
+                low = mid + 1;
+            } else if (current > pageNumber) {
+                high = mid - 1;
+            } else {
+                return entryAt(mid);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 페이지 데이터 구간을 대상 채널로 전송 (FileChannel.transferTo)
+     *
+     * @param position 페이지 내 시작 위치
+     * @param count 전송할 바이트 수
+     */
+    public void transferTo(Entry entry, long position, long count, WritableByteChannel target) throws IOException {
+        long start = entry.offset() + position;
+        long end = start + Math.min(count, entry.length() - position);
+
+        while (start < end) {
+            long sent = channel.transferTo(start, end - start, target);
+            if (sent <= 0) {
+                throw new IOException("팩 파일 전송이 중단되었습니다: " + path);
+            }
+            start += sent;
+        }
+    }
+
+    /**
+     * 페이지 데이터 전체를 버퍼로 읽기 (target의 남은 공간이 페이지 길이와 같아야 함)
+     */
+    public void read(Entry entry, ByteBuffer target) throws IOException {
+        long position = entry.offset();
+        while (target.hasRemaining()) {
+            int read = channel.read(target, position);
+            if (read < 0) {
+                throw new EOFException("팩 파일이 예상보다 짧습니다: " + path);
+            }
+            position += read;
+        }
+    }
+
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    public long getVolumeId() {
+        return volumeId;
+    }
+
+    /**
+     * 사용 시작 (이미 닫혔으면 false)
+     */
+    public boolean retain() {
+        while (true) {
+            int current = references.get();
+            if (current <= 0) {
+                return false;
+            }
+            if (references.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 사용 종료 (마지막 참조면 채널을 닫음)
+     */
+    public void release() {
+        if (references.decrementAndGet() == 0) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // 읽기 전용 채널이라 닫기 실패는 무시
+            }
+        }
+    }
+
+    private Entry entryAt(int index) {
+        int base = index * ENTRY_SIZE;
+
+        byte[] hash = new byte[HASH_SIZE];
+        table.get(base + 24, hash);
+        byte[] extension = new byte[EXTENSION_SIZE];
+        table.get(base + 24 + HASH_SIZE, extension);
+
+        int extensionLength = 0;
+        while (extensionLength < EXTENSION_SIZE && extension[extensionLength] != 0) {
+            extensionLength++;
+        }
+
+        return new Entry(
+                table.getInt(base),
+                table.getLong(base + 8),
+                table.getLong(base + 16),
+                HexFormat.of().formatHex(hash),
+                new String(extension, 0, extensionLength, StandardCharsets.US_ASCII));
+    }
+
+    private static byte[] hashBytes(String hash) {
+        if (hash == null || hash.length() != HASH_SIZE * 2) {
+            return new byte[HASH_SIZE];
+        }
+        return HexFormat.of().parseHex(hash);
+    }
+
+    private static byte[] extensionBytes(String extension) {
+        byte[] bytes = new byte[EXTENSION_SIZE];
+        byte[] ascii = extension.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(ascii, 0, bytes, 0, Math.min(ascii.length, EXTENSION_SIZE));
+        return bytes;
+    }
+
+    /**
+     * 팩에 넣을 페이지 이미지
+     */
+    public record Source(int pageNumber, String hash, String extension, Path path) {
+    }
+
+    /**
+     * 팩 안의 페이지 위치
+     *
+     * @param offset 팩 파일 내 데이터 시작 위치
+     * @param hash 이미지 SHA-256 (hex)
+     */
+    public record Entry(int pageNumber, long offset, long length, String hash, String extension) {
+    }
+}
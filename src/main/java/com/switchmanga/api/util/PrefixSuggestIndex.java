@@ -0,0 +1,246 @@
+package com.switchmanga.api.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 접두어 자동완성 색인 (정렬된 키 배열 + 한/두 글자 접두어별 상위 k개)
+ *
+ * - 키: 문서의 각 텍스트(제목 3개 언어, 작가 ...)를 BigramIndex.normalize 로 정규화한 값
+ *   + 두 번째 이후 단어부터 시작하는 키 ("One Piece" → "onepiece", "piece")
+ * - 질의: 정규화한 접두어로 이진 탐색해서 키 범위를 찾고 인기도(score) 순 상위 k개 (같은 문서는 한 번)
+ *   · 한/두 글자 접두어는 범위가 넓으므로 접두어별 상위 k개를 미리 계산해 둠 (질의 시 스캔 없음)
+ *   · 세 글자 이상은 범위를 스캔하되 최대 MAX_SCAN_ENTRIES 개까지만 (넘으면 그 안에서의 상위 k개)
+ * - 읽기는 불변 스냅샷(volatile)이라 락 없음, 변경은 해당 문서 키만 빼고 넣어 새 스냅샷으로 교체
+ * - 변경 비용: 정렬된 키 배열 전체를 복사하므로 한 번에 O(N) (N = 전체 키 수)
+ *   + 바뀐 한/두 글자 접두어 범위의 상위 k개 재계산. 카탈로그 변경은 관리자/출판사 수정 때만
+ *   일어나서 드물다는 전제이며, 대량 변경은 rebuild 로 한 번에 처리
+ *
+ * @param <T> 제안 항목에 담을 값 (응답 DTO 등)
+ */
+public class PrefixSuggestIndex<T> {
+
+    // 한 텍스트에서 만들 단어 시작 키 최대 수
+    private static final int MAX_WORD_KEYS = 4;
+
+    // 상위 k개를 미리 계산해 둘 접두어 최대 길이
+    private static final int HEAD_LENGTH = 2;
+
+    // 미리 계산하지 않은 접두어 질의 한 번에 스캔할 최대 키 수
+    private static final int MAX_SCAN_ENTRIES = 4096;
+
+    private static final Comparator<Entry<?>> KEY_ORDER = Comparator.<Entry<?>, String>comparing(Entry::key)
+            .thenComparing(Comparator.comparingDouble((Entry<?> entry) -> entry.score()).reversed())
+            .thenComparing(Comparator.comparingLong((Entry<?> entry) -> entry.id()).reversed());
+
+    private static final Comparator<Entry<?>> RANK_ORDER = Comparator
+            .comparingDouble((Entry<?> entry) -> entry.score()).reversed()
+            .thenComparing(Comparator.comparingLong((Entry<?> entry) -> entry.id()).reversed());
+
+    private final int topK;
+
+    private volatile Snapshot<T> snapshot = new Snapshot<>(List.of(), Map.of());
+
+    /**
+     * @param topK 질의 한 번에 돌려줄 최대 제안 수
+     */
+    public PrefixSuggestIndex(int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * 제안 결과
+     *
+     * @param value 문서 값
+     * @param matchedText 접두어가 일치한 원본 텍스트
+     */
+    public record Suggestion<T>(T value, String matchedText) {
+    }
+
+    /**
+     * 색인 문서
+     *
+     * @param score 인기도 (클수록 앞)
+     * @param texts 접두어를 찾을 텍스트 (null 가능)
+     */
+    public record Document<T>(long id, double score, T value, List<String> texts) {
+    }
+
+    /**
+     * 전체 다시 만들기 (기동 시 한 번, 정렬 한 번)
+     */
+    public synchronized void rebuild(List<Document<T>> documents) {
+        List<Entry<T>> entries = new ArrayList<>();
+        for (Document<T> document : documents) {
+            entries.addAll(entriesOf(document.id(), document.score(), document.value(), document.texts()));
+        }
+        entries.sort(KEY_ORDER);
+
+        Map<String, List<Entry<T>>> heads = new HashMap<>();
+        for (String head : headsOf(entries)) {
+            heads.put(head, topOf(entries, head, Integer.MAX_VALUE));
+        }
+        snapshot = new Snapshot<>(entries, heads);
+    }
+
+    /**
+     * 문서 추가/교체 (이 문서의 키만 빼고 다시 넣음)
+     */
+    public synchronized void put(Document<T> document) {
+        List<Entry<T>> added = entriesOf(document.id(), document.score(), document.value(), document.texts());
+        added.sort(KEY_ORDER);
+        replace(document.id(), added);
+    }
+
+    public synchronized void remove(long id) {
+        replace(id, List.of());
+    }
+
+    /**
+     * 접두어 자동완성 (인기도 순, 같은 점수는 id 내림차순)
+     *
+     * @return 정규화 후 빈 접두어면 빈 목록
+     */
+    public List<Suggestion<T>> suggest(String prefix, int limit) {
+        String key = BigramIndex.normalize(prefix);
+        int count = Math.min(limit, topK);
+        if (key.isEmpty() || count <= 0) {
+            return List.of();
+        }
+
+        Snapshot<T> current = snapshot;
+        List<Entry<T>> top = key.length() <= HEAD_LENGTH
+                ? current.heads().getOrDefault(key, List.of())
+                : topOf(current.entries(), key, MAX_SCAN_ENTRIES);
+
+        return top.stream()
+                .limit(count)
+                .map(entry -> new Suggestion<>(entry.value(), entry.text()))
+                .toList();
+    }
+
+    public int getEntryCount() {
+        return snapshot.entries().size();
+    }
+
+    // ========================================
+    // Helper 메서드
+    // ========================================
+
+    private void replace(long id, List<Entry<T>> added) {
+        Snapshot<T> current = snapshot;
+
+        Set<String> touched = new HashSet<>();
+        List<Entry<T>> merged = new ArrayList<>(current.entries().size() + added.size());
+        int next = 0;
+        for (Entry<T> entry : current.entries()) {
+            if (entry.id() == id) {
+                addHeads(touched, entry.key());
+                continue;
+            }
+            while (next < added.size() && KEY_ORDER.compare(added.get(next), entry) < 0) {
+                merged.add(added.get(next++));
+            }
+            merged.add(entry);
+        }
+        while (next < added.size()) {
+            merged.add(added.get(next++));
+        }
+        for (Entry<T> entry : added) {
+            addHeads(touched, entry.key());
+        }
+
+        Map<String, List<Entry<T>>> heads = new HashMap<>(current.heads());
+        for (String head : touched) {
+            List<Entry<T>> top = topOf(merged, head, Integer.MAX_VALUE);
+            if (top.isEmpty()) {
+                heads.remove(head);
+            } else {
+                heads.put(head, top);
+            }
+        }
+        snapshot = new Snapshot<>(merged, heads);
+    }
+
+    /**
+     * 접두어 범위의 상위 topK (문서당 한 번, 일치 텍스트는 사전순 앞선 키)
+     *
+     * @param maxScan 범위에서 볼 최대 키 수
+     */
+    private List<Entry<T>> topOf(List<Entry<T>> entries, String key, int maxScan) {
+        int from = lowerBound(entries, key);
+        int to = (int) Math.min(entries.size(), (long) from + maxScan);
+        Map<Long, Entry<T>> best = new HashMap<>();
+        for (int i = from; i < to && entries.get(i).key().startsWith(key); i++) {
+            Entry<T> entry = entries.get(i);
+            best.putIfAbsent(entry.id(), entry);
+        }
+
+        List<Entry<T>> ranked = new ArrayList<>(best.values());
+        ranked.sort(RANK_ORDER);
+        return ranked.size() > topK ? List.copyOf(ranked.subList(0, topK)) : List.copyOf(ranked);
+    }
+
+    private static int lowerBound(List<? extends Entry<?>> entries, String key) {
+        int low = 0;
+        int high = entries.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries.get(mid).key().compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static Set<String> headsOf(List<? extends Entry<?>> entries) {
+        Set<String> heads = new HashSet<>();
+        for (Entry<?> entry : entries) {
+            addHeads(heads, entry.key());
+        }
+        return heads;
+    }
+
+    /**
+     * 키의 한 글자 ~ HEAD_LENGTH 글자 접두어
+     */
+    private static void addHeads(Set<String> heads, String key) {
+        for (int length = 1; length <= HEAD_LENGTH && length <= key.length(); length++) {
+            heads.add(key.substring(0, length));
+        }
+    }
+
+    private static <T> List<Entry<T>> entriesOf(long id, double score, T value, List<String> texts) {
+        Map<String, Entry<T>> entries = new LinkedHashMap<>();
+        for (String text : texts) {
+            if (text == null || text.isBlank()) {
+                continue;
+            }
+
+            String original = text.trim();
+            String[] words = original.split("\\s+");
+            for (int i = 0; i < words.length && i <= MAX_WORD_KEYS; i++) {
+                String key = BigramIndex.normalize(String.join("", Arrays.asList(words).subList(i, words.length)));
+                if (!key.isEmpty()) {
+                    entries.putIfAbsent(key, new Entry<>(key, id, score, value, original));
+                }
+            }
+        }
+        return new ArrayList<>(entries.values());
+    }
+
+    private record Entry<T>(String key, long id, double score, T value, String text) {
+    }
+
+    private record Snapshot<T>(List<Entry<T>> entries, Map<String, List<Entry<T>>> heads) {
+    }
+}
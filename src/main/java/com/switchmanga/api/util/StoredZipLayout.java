@@ -0,0 +1,204 @@
+package com.switchmanga.api.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 압축하지 않은(STORED) ZIP의 바이트 배치
+ *
+ * 엔트리 크기와 CRC-32를 미리 알고 있으면 ZIP 전체 구조(로컬 헤더, 데이터, 중앙 디렉토리)가
+ * 내용을 읽기 전에 정해지므로, 임시 파일 없이 임의의 바이트 구간(Range)을 바로 만들어 보낼 수 있다.
+ *
+ * - 헤더는 메모리에서 만들고, 데이터는 엔트리 Source에서 해당 구간만 전송
+ * - 날짜는 고정값(1980-01-01)이라 같은 엔트리 목록이면 항상 같은 바이트
+ * - 데이터 디스크립터/ZIP64는 쓰지 않음 (4GB, 65535개 초과 시 예외)
+ */
+public final class StoredZipLayout {
+
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+
+    private static final int VERSION = 10;
+    private static final int FLAG_UTF8 = 0x0800;
+    private static final int DOS_TIME = 0;
+    private static final int DOS_DATE = (1 << 5) | 1;   // 1980-01-01
+
+    private static final long MAX_SIZE = 0xFFFFFFFFL;
+    private static final int MAX_ENTRIES = 0xFFFF;
+
+    private final List<Segment> segments;
+    private final long length;
+
+    private StoredZipLayout(List<Segment> segments, long length) {
+        this.segments = segments;
+        this.length = length;
+    }
+
+    /**
+     * 엔트리 목록으로 배치 계산
+     *
+     * @throws IllegalArgumentException 4GB 또는 65535개를 넘으면
+     */
+    public static StoredZipLayout of(List<Entry> entries) {
+        if (entries.size() > MAX_ENTRIES) {
+            throw new IllegalArgumentException("ZIP 엔트리가 너무 많습니다: " + entries.size());
+        }
+
+        List<Segment> segments = new ArrayList<>(entries.size() * 2 + 1);
+        List<Long> localHeaderOffsets = new ArrayList<>(entries.size());
+        long offset = 0;
+
+        for (Entry entry : entries) {
+            byte[] name = entry.name().getBytes(StandardCharsets.UTF_8);
+            ByteBuffer header = littleEndian(LOCAL_HEADER_SIZE + name.length);
+            header.putInt(0x04034b50);
+            header.putShort((short) VERSION);
+            header.putShort((short) flags(entry.name()));
+            header.putShort((short) 0);                 // STORED
+            header.putShort((short) DOS_TIME);
+            header.putShort((short) DOS_DATE);
+            header.putInt((int) entry.crc());
+            header.putInt((int) entry.size());
+            header.putInt((int) entry.size());
+            header.putShort((short) name.length);
+            header.putShort((short) 0);
+            header.put(name);
+
+            localHeaderOffsets.add(offset);
+            segments.add(new Segment(offset, header.array(), null));
+            offset += header.capacity();
+            segments.add(new Segment(offset, null, entry));
+            offset += entry.size();
+
+            if (offset > MAX_SIZE) {
+                throw new IllegalArgumentException("ZIP 크기가 4GB를 넘습니다");
+            }
+        }
+
+        // 중앙 디렉토리 + 끝 레코드
+        long centralDirectoryOffset = offset;
+        int centralDirectorySize = 0;
+        for (Entry entry : entries) {
+            centralDirectorySize += CENTRAL_HEADER_SIZE + entry.name().getBytes(StandardCharsets.UTF_8).length;
+        }
+        if (centralDirectoryOffset + centralDirectorySize + END_OF_CENTRAL_DIRECTORY_SIZE > MAX_SIZE) {
+            throw new IllegalArgumentException("ZIP 크기가 4GB를 넘습니다");
+        }
+
+        ByteBuffer tail = littleEndian(centralDirectorySize + END_OF_CENTRAL_DIRECTORY_SIZE);
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            byte[] name = entry.name().getBytes(StandardCharsets.UTF_8);
+            tail.putInt(0x02014b50);
+            tail.putShort((short) VERSION);             // version made by
+            tail.putShort((short) VERSION);             // version needed
+            tail.putShort((short) flags(entry.name()));
+            tail.putShort((short) 0);
+            tail.putShort((short) DOS_TIME);
+            tail.putShort((short) DOS_DATE);
+            tail.putInt((int) entry.crc());
+            tail.putInt((int) entry.size());
+            tail.putInt((int) entry.size());
+            tail.putShort((short) name.length);
+            tail.putShort((short) 0);                   // extra
+            tail.putShort((short) 0);                   // comment
+            tail.putShort((short) 0);                   // disk
+            tail.putShort((short) 0);                   // internal attributes
+            tail.putInt(0);                             // external attributes
+            tail.putInt(localHeaderOffsets.get(i).intValue());
+            tail.put(name);
+        }
+        tail.putInt(0x06054b50);
+        tail.putShort((short) 0);
+        tail.putShort((short) 0);
+        tail.putShort((short) entries.size());
+        tail.putShort((short) entries.size());
+        tail.putInt(centralDirectorySize);
+        tail.putInt((int) centralDirectoryOffset);
+        tail.putShort((short) 0);
+
+        segments.add(new Segment(offset, tail.array(), null));
+        return new StoredZipLayout(segments, offset + tail.capacity());
+    }
+
+    /**
+     * ZIP 전체 크기 (bytes)
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * [start, start + count) 구간 전송
+     */
+    public void write(long start, long count, WritableByteChannel target) throws IOException {
+        long end = start + count;
+
+        for (Segment segment : segments) {
+            long segmentEnd = segment.offset() + segment.length();
+            if (segmentEnd <= start) {
+                continue;
+            }
+            if (segment.offset() >= end) {
+                break;
+            }
+
+            long from = Math.max(start, segment.offset()) - segment.offset();
+            long to = Math.min(end, segmentEnd) - segment.offset();
+
+            if (segment.bytes() != null) {
+                ByteBuffer buffer = ByteBuffer.wrap(segment.bytes(), (int) from, (int) (to - from));
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+            } else {
+                segment.entry().source().transferTo(from, to - from, target);
+            }
+        }
+    }
+
+    private static int flags(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) > 0x7F) {
+                return FLAG_UTF8;
+            }
+        }
+        return 0;
+    }
+
+    private static ByteBuffer littleEndian(int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * 엔트리 데이터 (position부터 count 바이트를 target으로 전송)
+     */
+    @FunctionalInterface
+    public interface Source {
+        void transferTo(long position, long count, WritableByteChannel target) throws IOException;
+    }
+
+    /**
+     * ZIP 엔트리
+     *
+     * @param crc CRC-32 (부호 없는 32비트 값)
+     */
+    public record Entry(String name, long size, long crc, Source source) {
+    }
+
+    /**
+     * 헤더(bytes) 또는 엔트리 데이터(entry) 구간
+     */
+    private record Segment(long offset, byte[] bytes, Entry entry) {
+
+        long length() {
+            return bytes != null ? bytes.length : entry.size();
+        }
+    }
+}
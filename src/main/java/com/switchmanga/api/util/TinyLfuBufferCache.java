@@ -0,0 +1,227 @@
+package com.switchmanga.api.util;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 바이트 한도를 가진 W-TinyLFU 캐시 (값은 direct ByteBuffer)
+ *
+ * 구조:
+ * - window (전체의 약 1%, LRU): 새 항목은 먼저 여기에 들어감 → 짧게 몰리는 접근 흡수
+ * - main (나머지, SLRU): probation(20%) → 다시 접근하면 protected(80%)로 승격
+ * - window에서 밀려난 후보는 main의 희생 후보보다 추정 빈도(FrequencySketch)가 높을 때만 입장
+ *   → 한 번 보고 마는 페이지가 인기 페이지를 밀어내지 않음
+ * - 가득 찬 뒤에는 값을 만들기 전에 shouldLoad로 같은 빈도 비교를 먼저 해서
+ *   입장하지 못할 항목은 버퍼를 할당하거나 읽지 않게 함
+ *
+ * 값은 힙 밖(direct) 버퍼라 GC 대상 객체 크기가 작고, get은 읽기 전용 복제본을 반환하므로
+ * 제거된 뒤에도 이미 꺼낸 버퍼는 그대로 사용 가능하다. 모든 연산은 단일 락.
+ */
+public class TinyLfuBufferCache<K> {
+
+    private static final double WINDOW_RATIO = 0.01;
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final LinkedHashMap<K, ByteBuffer> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, ByteBuffer> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, ByteBuffer> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+
+    private final long maxBytes;
+    private final long windowMaxBytes;
+    private final long protectedMaxBytes;
+
+    private long windowBytes;
+    private long probationBytes;
+    private long protectedBytes;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long rejections;
+    private long skips;
+
+    /**
+     * @param maxBytes 전체 바이트 한도
+     * @param averageEntryBytes 평균 항목 크기 추정값 (빈도 스케치 크기 결정용)
+     */
+    public TinyLfuBufferCache(long maxBytes, int averageEntryBytes) {
+        this.maxBytes = maxBytes;
+        this.windowMaxBytes = Math.max(1, (long) (maxBytes * WINDOW_RATIO));
+        this.protectedMaxBytes = (long) ((maxBytes - windowMaxBytes) * PROTECTED_RATIO);
+        this.sketch = new FrequencySketch((int) Math.min(Integer.MAX_VALUE, maxBytes / Math.max(1, averageEntryBytes)));
+    }
+
+    /**
+     * 조회 (접근 빈도도 함께 기록)
+     *
+     * @return 읽기 전용 복제본 (position 0), 없으면 null
+     */
+    public synchronized ByteBuffer get(K key) {
+        sketch.increment(key);
+
+        ByteBuffer value = window.get(key);
+        if (value == null) {
+            value = protectedSegment.get(key);
+        }
+        if (value == null) {
+            value = probation.remove(key);
+            if (value != null) {
+                // probation에서 다시 접근 → protected로 승격
+                probationBytes -= value.capacity();
+                protectedSegment.put(key, value);
+                protectedBytes += value.capacity();
+                demoteProtectedOverflow();
+            }
+        }
+
+        if (value == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return value.asReadOnlyBuffer();
+    }
+
+    /**
+     * 값을 만들어 넣을 가치가 있는지 (get으로 접근을 기록한 뒤, 버퍼를 할당하기 전에 호출)
+     * - 빈 공간이 있으면 항상, 가득 찼으면 main 희생 후보보다 추정 빈도가 높을 때만
+     *
+     * @param size 넣을 값의 바이트 수
+     */
+    public synchronized boolean shouldLoad(K key, long size) {
+        if (size > maxBytes - windowMaxBytes) {
+            return false;
+        }
+        if (windowBytes + probationBytes + protectedBytes + size <= maxBytes) {
+            return true;
+        }
+
+        Map<K, ByteBuffer> segment = !probation.isEmpty() ? probation : protectedSegment;
+        if (segment.isEmpty() || sketch.frequency(key) > sketch.frequency(segment.keySet().iterator().next())) {
+            return true;
+        }
+        skips++;
+        return false;
+    }
+
+    /**
+     * 추가 (이미 있으면 무시, 한도보다 큰 값은 넣지 않음)
+     *
+     * @param value direct 버퍼 (position 0 ~ limit가 내용, 이후 호출자가 수정하면 안 됨)
+     */
+    public synchronized void put(K key, ByteBuffer value) {
+        int size = value.capacity();
+        if (size > maxBytes - windowMaxBytes
+                || window.containsKey(key) || probation.containsKey(key) || protectedSegment.containsKey(key)) {
+            return;
+        }
+
+        window.put(key, value);
+        windowBytes += size;
+
+        // window에서 밀려난 항목은 main 입장 심사
+        Iterator<Map.Entry<K, ByteBuffer>> iterator = window.entrySet().iterator();
+        while (windowBytes > windowMaxBytes && window.size() > 1 && iterator.hasNext()) {
+            Map.Entry<K, ByteBuffer> candidate = iterator.next();
+            iterator.remove();
+            windowBytes -= candidate.getValue().capacity();
+            admit(candidate.getKey(), candidate.getValue());
+        }
+    }
+
+    public synchronized void remove(K key) {
+        ByteBuffer value = window.remove(key);
+        if (value != null) {
+            windowBytes -= value.capacity();
+            return;
+        }
+        value = probation.remove(key);
+        if (value != null) {
+            probationBytes -= value.capacity();
+            return;
+        }
+        value = protectedSegment.remove(key);
+        if (value != null) {
+            protectedBytes -= value.capacity();
+        }
+    }
+
+    public synchronized void clear() {
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+        windowBytes = 0;
+        probationBytes = 0;
+        protectedBytes = 0;
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(window.size() + probation.size() + protectedSegment.size(),
+                windowBytes + probationBytes + protectedBytes, maxBytes,
+                windowBytes, probationBytes, protectedBytes,
+                hits, misses, evictions, rejections, skips);
+    }
+
+    /**
+     * main 입장: 공간이 부족하면 희생 후보(probation → protected 순 LRU)와 빈도 비교
+     */
+    private void admit(K key, ByteBuffer value) {
+        int size = value.capacity();
+        long mainMaxBytes = maxBytes - windowMaxBytes;
+        int candidateFrequency = sketch.frequency(key);
+
+        while (probationBytes + protectedBytes + size > mainMaxBytes) {
+            Map<K, ByteBuffer> segment = !probation.isEmpty() ? probation : protectedSegment;
+            Map.Entry<K, ByteBuffer> victim = segment.entrySet().iterator().next();
+
+            if (candidateFrequency <= sketch.frequency(victim.getKey())) {
+                rejections++;
+                return;
+            }
+
+            segment.remove(victim.getKey());
+            if (segment == probation) {
+                probationBytes -= victim.getValue().capacity();
+            } else {
+                protectedBytes -= victim.getValue().capacity();
+            }
+            evictions++;
+        }
+
+        probation.put(key, value);
+        probationBytes += size;
+    }
+
+    /**
+     * protected가 한도를 넘으면 오래된 항목을 probation으로 강등
+     */
+    private void demoteProtectedOverflow() {
+        Iterator<Map.Entry<K, ByteBuffer>> iterator = protectedSegment.entrySet().iterator();
+        while (protectedBytes > protectedMaxBytes && protectedSegment.size() > 1 && iterator.hasNext()) {
+            Map.Entry<K, ByteBuffer> eldest = iterator.next();
+            iterator.remove();
+            protectedBytes -= eldest.getValue().capacity();
+            probation.put(eldest.getKey(), eldest.getValue());
+            probationBytes += eldest.getValue().capacity();
+        }
+    }
+
+    /**
+     * 캐시 통계
+     *
+     * @param rejections main 입장 심사에서 탈락한 횟수
+     * @param skips 값을 만들기 전 심사(shouldLoad)에서 탈락해 읽지 않은 횟수
+     */
+    public record Stats(int size, long bytes, long maxBytes,
+                        long windowBytes, long probationBytes, long protectedBytes,
+                        long hits, long misses, long evictions, long rejections, long skips) {
+
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+}
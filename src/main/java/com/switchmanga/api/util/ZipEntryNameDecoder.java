@@ -0,0 +1,183 @@
+package com.switchmanga.api.util;
+
+import org.apache.commons.compress.archivers.zip.UnicodePathExtraField;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * ZIP 엔트리 파일명 인코딩 판별/디코딩
+ *
+ * 판별 순서:
+ * 1. 엔트리에 UTF-8 플래그(general purpose bit 11)가 있으면 UTF-8
+ * 2. Info-ZIP Unicode Path extra field가 있고 CRC가 맞으면 그 이름 사용
+ * 3. 나머지 비ASCII 이름들을 모아 UTF-8 → CP949 → Shift_JIS(windows-31j) 순으로 엄격 디코딩하고
+ *    문자 분포 점수로 아카이브 단위 인코딩을 한 번만 결정
+ *
+ * ZipFile/ZipArchiveInputStream은 RAW_CHARSET(ISO-8859-1)으로 열어서 실패 없이 원본 바이트만 얻고,
+ * 실제 이름은 decode()로 만든다.
+ */
+public final class ZipEntryNameDecoder {
+
+    /** 손실 없이 원본 바이트를 보존하는 인코딩 (ZipFile 오픈용) */
+    public static final String RAW_CHARSET = StandardCharsets.ISO_8859_1.name();
+
+    public static final Charset CP949 = Charset.forName("x-windows-949");
+    public static final Charset SHIFT_JIS = Charset.forName("windows-31j");
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+    private static final List<Charset> LEGACY_CHARSETS = List.of(CP949, SHIFT_JIS);
+
+    private ZipEntryNameDecoder() {
+    }
+
+    /**
+     * 인코딩 판별이 필요한 엔트리인지 (UTF-8 플래그/Unicode extra field가 없고 비ASCII 이름)
+     */
+    public static boolean needsDetection(ZipArchiveEntry entry) {
+        return !entry.getGeneralPurposeBit().usesUTF8ForNames()
+                && unicodeName(entry) == null
+                && !isAscii(entry.getRawName());
+    }
+
+    /**
+     * 원본 파일명 바이트 목록으로 아카이브 인코딩 결정
+     */
+    public static Charset detect(Collection<byte[]> rawNames) {
+        List<byte[]> candidates = new ArrayList<>();
+        for (byte[] rawName : rawNames) {
+            if (rawName != null && !isAscii(rawName)) {
+                candidates.add(rawName);
+            }
+        }
+
+        if (candidates.isEmpty() || decodeAll(candidates, StandardCharsets.UTF_8) != null) {
+            return StandardCharsets.UTF_8;
+        }
+
+        CharsetEncoder eucKrEncoder = EUC_KR.newEncoder();
+        Charset best = null;
+        int bestScore = Integer.MIN_VALUE;
+
+        for (Charset charset : LEGACY_CHARSETS) {
+            List<String> decoded = decodeAll(candidates, charset);
+            if (decoded == null) {
+                continue;
+            }
+
+            int score = 0;
+            for (String name : decoded) {
+                score += score(name, eucKrEncoder);
+            }
+
+            if (score > bestScore) {
+                best = charset;
+                bestScore = score;
+            }
+        }
+
+        // 어느 쪽으로도 엄격 디코딩이 안 되면 기존 동작과 같이 한국어 인코딩으로 처리
+        return best != null ? best : CP949;
+    }
+
+    /**
+     * 엔트리 이름 디코딩 (Windows 경로 분리자 정리 포함)
+     */
+    public static String decode(ZipArchiveEntry entry, Charset charset) {
+        String name;
+        byte[] rawName = entry.getRawName();
+
+        if (entry.getGeneralPurposeBit().usesUTF8ForNames()) {
+            name = new String(rawName, StandardCharsets.UTF_8);
+        } else {
+            String unicodeName = unicodeName(entry);
+            name = unicodeName != null ? unicodeName : new String(rawName, charset);
+        }
+
+        return name.replace("\\", "/");
+    }
+
+    /**
+     * Info-ZIP Unicode Path extra field (원본 이름 CRC가 일치할 때만 사용)
+     */
+    private static String unicodeName(ZipArchiveEntry entry) {
+        if (!(entry.getExtraField(UnicodePathExtraField.UPATH_ID) instanceof UnicodePathExtraField field)) {
+            return null;
+        }
+
+        byte[] rawName = entry.getRawName();
+        CRC32 crc = new CRC32();
+        crc.update(rawName, 0, rawName.length);
+
+        if (field.getNameCRC32() != crc.getValue() || field.getUnicodeName() == null) {
+            return null;
+        }
+        return new String(field.getUnicodeName(), StandardCharsets.UTF_8);
+    }
+
+    private static List<String> decodeAll(List<byte[]> rawNames, Charset charset) {
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+
+        List<String> decoded = new ArrayList<>(rawNames.size());
+        try {
+            for (byte[] rawName : rawNames) {
+                decoded.add(decoder.decode(ByteBuffer.wrap(rawName)).toString());
+            }
+        } catch (CharacterCodingException e) {
+            return null;
+        }
+        return decoded;
+    }
+
+    /**
+     * 디코딩 결과가 실제 한국어/일본어 파일명처럼 보이는 정도
+     * - KS X 1001 한글 음절, 가나, 한자는 가점
+     * - CP949 확장(UHC 전용) 음절과 반각 가나는 잘못된 인코딩으로 읽었을 때 주로 나타나므로 감점
+     */
+    private static int score(String name, CharsetEncoder eucKrEncoder) {
+        int score = 0;
+
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+
+            if (c < 0x80) {
+                continue;
+            }
+            if (c >= 0xAC00 && c <= 0xD7A3) {
+                score += eucKrEncoder.canEncode(c) ? 2 : -2;
+            } else if (c >= 0x3040 && c <= 0x30FF) {
+                score += 2;  // 히라가나/가타카나
+            } else if (c >= 0x4E00 && c <= 0x9FFF) {
+                score += 1;  // 한자
+            } else if (c >= 0xFF61 && c <= 0xFF9F) {
+                score -= 2;  // 반각 가타카나
+            } else if ((c >= 0x3000 && c <= 0x303F) || (c >= 0xFF01 && c <= 0xFF5E)) {
+                // 전각 기호/문장부호는 양쪽 모두 자연스러움
+            } else {
+                score -= 1;
+            }
+        }
+        return score;
+    }
+
+    private static boolean isAscii(byte[] bytes) {
+        for (byte b : bytes) {
+            if (b < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,74 @@
+package com.switchmanga.api.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageUrlSignerTest {
+
+    private static final String SECRET = "test-secret-for-page-url-signing";
+
+    private final PageUrlSigner signer = new PageUrlSigner(SECRET, 600);
+
+    @Test
+    void acceptsEveryPageInSignedRange() {
+        PageUrlSigner.SignedRange range = signer.sign(7L, 3, 5);
+
+        for (int page = 3; page <= 5; page++) {
+            assertThat(signer.verify(7L, page, range.token())).as("page %d", page).isEqualTo(range.expiresAt());
+        }
+        assertThat(range.token()).startsWith("3-5-" + range.expiresAt() + ".");
+    }
+
+    @Test
+    void rejectsPageOutsideSignedRange() {
+        PageUrlSigner.SignedRange range = signer.sign(7L, 3, 5);
+
+        assertThat(signer.verify(7L, 2, range.token())).isEqualTo(-1);
+        assertThat(signer.verify(7L, 6, range.token())).isEqualTo(-1);
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        PageUrlSigner expired = new PageUrlSigner(SECRET, -60);
+        PageUrlSigner.SignedRange range = expired.sign(7L, 1, 5);
+
+        assertThat(expired.verify(7L, 1, range.token())).isEqualTo(-1);
+        // 같은 키로 검증해도 만료 시각이 지났으면 무효
+        assertThat(signer.verify(7L, 1, range.token())).isEqualTo(-1);
+    }
+
+    @Test
+    void rejectsTamperedToken() {
+        PageUrlSigner.SignedRange range = signer.sign(7L, 1, 5);
+        String token = range.token();
+        int dot = token.indexOf('.');
+        String signature = token.substring(dot + 1);
+
+        // 서명 한 글자 변경
+        char last = signature.charAt(signature.length() - 1);
+        String flipped = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+        assertThat(signer.verify(7L, 1, flipped)).isEqualTo(-1);
+
+        // 범위/만료를 바꾸고 기존 서명 재사용
+        assertThat(signer.verify(7L, 10, "1-20-" + range.expiresAt() + "." + signature)).isEqualTo(-1);
+        assertThat(signer.verify(7L, 1, "1-5-" + (range.expiresAt() + 3600) + "." + signature)).isEqualTo(-1);
+
+        // 다른 볼륨, 다른 비밀값
+        assertThat(signer.verify(8L, 1, token)).isEqualTo(-1);
+        assertThat(new PageUrlSigner("another-secret", 600).verify(7L, 1, token)).isEqualTo(-1);
+    }
+
+    @Test
+    void rejectsMalformedToken() {
+        for (String token : new String[]{null, "", "no-dot", "1-5.sig", "a-b-c.sig", "1-5-9-9.sig"}) {
+            assertThat(signer.verify(7L, 1, token)).as(String.valueOf(token)).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void rejectsBlankSecret() {
+        assertThatThrownBy(() -> new PageUrlSigner(" ", 600)).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,76 @@
+package com.switchmanga.api.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AvfFrameIndexTest {
+
+    // ZIP 안 이미지 파일명 → 페이지 번호 (PageService.FrameSource 와 같이 소문자 비교)
+    private static final Map<String, Integer> PAGES = Map.of(
+            "001.jpg", 1,
+            "표지_002.jpg", 2,
+            "003.jpg", 3);
+    private static final Function<String, Integer> PAGE_BY_NAME =
+            name -> PAGES.get(name.toLowerCase(Locale.ROOT));
+
+    @Test
+    void parsesDocumentedLayout() throws IOException {
+        AvfFrameIndex index = AvfFrameIndex.parse(fixture("documented-layout.avf"), PAGE_BY_NAME);
+
+        assertThat(index).isNotNull();
+        assertThat(index.getPageCount()).isEqualTo(2);
+        assertThat(index.getFrameCount()).isEqualTo(4);
+        assertThat(index.getFrames(1)).containsExactly(
+                new float[]{0f, 0f, 1f, 0.5f},
+                new float[]{0f, 0.5f, 1f, 0.5f});
+        // 파일명으로 지정한 페이지, 읽는 순서 유지
+        assertThat(index.getFrames(2)).containsExactly(
+                new float[]{0.5f, 0f, 0.5f, 1f},
+                new float[]{0f, 0f, 0.5f, 1f});
+        // 컷이 없는 페이지는 인덱스에 넣지 않음
+        assertThat(index.getFrames(3)).isNull();
+    }
+
+    @Test
+    void rejectsLayoutsOtherThanDocumented() throws IOException {
+        for (String name : List.of("line-based.avf", "extra-field.avf", "pixel-coordinates.avf",
+                "unknown-file.avf", "binary.avf")) {
+            assertThat(AvfFrameIndex.parse(fixture(name), PAGE_BY_NAME)).as(name).isNull();
+        }
+    }
+
+    @Test
+    void rejectsFileReferenceWithoutNameLookup() throws IOException {
+        assertThat(AvfFrameIndex.parse(fixture("documented-layout.avf"), null)).isNull();
+    }
+
+    @Test
+    void writeAndReadRoundTrip(@TempDir Path dir) throws IOException {
+        AvfFrameIndex index = AvfFrameIndex.parse(fixture("documented-layout.avf"), PAGE_BY_NAME);
+        Path path = dir.resolve("1.frames");
+
+        index.write(path);
+        AvfFrameIndex read = AvfFrameIndex.read(path);
+
+        assertThat(read.getPageCount()).isEqualTo(index.getPageCount());
+        assertThat(read.getFrames(1)).containsExactlyElementsOf(index.getFrames(1));
+        assertThat(read.getFrames(2)).containsExactlyElementsOf(index.getFrames(2));
+    }
+
+    private static byte[] fixture(String name) throws IOException {
+        try (InputStream in = AvfFrameIndexTest.class.getResourceAsStream("/avf/" + name)) {
+            assertThat(in).as(name).isNotNull();
+            return in.readAllBytes();
+        }
+    }
+}
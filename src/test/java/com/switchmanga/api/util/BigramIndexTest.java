@@ -0,0 +1,127 @@
+package com.switchmanga.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BigramIndexTest {
+
+    // 필드 순서: 제목, 작가
+    private static final int TITLE = 1;
+    private static final int AUTHOR = 1 << 1;
+    private static final int ALL = TITLE | AUTHOR;
+
+    @Test
+    void normalizesWidthCaseKanaAndSeparators() {
+        assertThat(BigramIndex.normalize("ＯＮＥ　ＰＩＥＣＥ")).isEqualTo("onepiece");
+        assertThat(BigramIndex.normalize("SPY×FAMILY")).isEqualTo("spyfamily");
+        assertThat(BigramIndex.normalize("나 혼자만 레벨업!")).isEqualTo("나혼자만레벨업");
+        // 가타카나(전각/반각) → 히라가나, 장음 부호는 글자로 유지
+        assertThat(BigramIndex.normalize("ワンピース")).isEqualTo("わんぴーす");
+        assertThat(BigramIndex.normalize("ﾜﾝﾋﾟｰｽ")).isEqualTo("わんぴーす");
+        assertThat(BigramIndex.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void findsHangulSubstringsIgnoringSpaces() {
+        BigramIndex index = new BigramIndex(3, 1);
+        index.put(1, "나 혼자만 레벨업", "추공");
+        index.put(2, "나빌레라", "HUN");
+
+        assertThat(index.search("혼자만", ALL, 10)).containsExactly(1L);
+        assertThat(index.search("나혼자", ALL, 10)).containsExactly(1L);
+        assertThat(index.search("레벨 업", ALL, 10)).containsExactly(1L);
+        // 한 글자 질의는 unigram 으로 검색
+        assertThat(index.search("레", ALL, 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("혼자만의", ALL, 10)).isEmpty();
+    }
+
+    @Test
+    void foldsKatakanaAndHiragana() {
+        BigramIndex index = new BigramIndex(3, 1);
+        index.put(1, "ワンピース", "尾田栄一郎");
+        index.put(2, "かぐや様は告らせたい", "赤坂アカ");
+
+        assertThat(index.search("わんぴ", ALL, 10)).containsExactly(1L);
+        assertThat(index.search("ﾜﾝﾋﾟｰｽ", ALL, 10)).containsExactly(1L);
+        assertThat(index.search("カグヤ", ALL, 10)).containsExactly(2L);
+        assertThat(index.search("あか", AUTHOR, 10)).containsExactly(2L);
+    }
+
+    @Test
+    void matchesMixedScriptQueries() {
+        BigramIndex index = new BigramIndex(3, 1);
+        index.put(1, "원펀맨 ONE PUNCH-MAN", "ONE");
+        index.put(2, "進撃の巨人 진격의 거인", "諫山創");
+
+        // 한글과 영문 경계에 걸치는 질의
+        assertThat(index.search("맨One", ALL, 10)).containsExactly(1L);
+        assertThat(index.search("ｐｕｎｃｈ－ｍａｎ", ALL, 10)).containsExactly(1L);
+        assertThat(index.search("巨人진격", ALL, 10)).containsExactly(2L);
+        // 색인에 없는 글자 쌍("h원")이 있으면 결과 없음
+        assertThat(index.search("punch원", ALL, 10)).isEmpty();
+    }
+
+    @Test
+    void requiresAllQueryTokensInOneMaskedField() {
+        BigramIndex index = new BigramIndex(3, 1);
+        index.put(1, "Berserk", "Miura Kentaro");
+        index.put(2, "Miura Story", "Someone");
+        index.put(3, "abc", "bcd");
+
+        assertThat(index.search("miura", TITLE, 10)).containsExactly(2L);
+        assertThat(index.search("miura", AUTHOR, 10)).containsExactly(1L);
+        assertThat(index.search("miura", ALL, 10)).containsExactlyInAnyOrder(1L, 2L);
+
+        // "ab"는 제목에만, "cd"는 작가에만 있어 같은 필드에 모든 토큰이 있는 문서가 없음
+        assertThat(index.search("abcd", ALL, 10)).isEmpty();
+        assertThat(index.search("bc", ALL, 10)).containsExactly(3L);
+    }
+
+    @Test
+    void ranksByFieldWeightSubstringPrefixAndCoverage() {
+        BigramIndex index = new BigramIndex(3, 1);
+        index.put(1, "Dragon Ball", "Toriyama");        // 제목 앞부분 일치: 3 × (1 + 1 + 1 + 6/10)
+        index.put(2, "Legend Dragon", "Someone");       // 제목 중간 일치: 3 × (1 + 1 + 6/12)
+        index.put(3, "Unrelated", "Dragon");            // 작가 전체 일치: 1 × (1 + 1 + 1 + 6/6)
+        index.put(4, "Dragon Ball", "Toriyama");        // 1과 같은 점수 → id 내림차순
+
+        assertThat(index.search("dragon", ALL, 10)).containsExactly(4L, 1L, 2L, 3L);
+        assertThat(index.search("dragon", ALL, 2)).containsExactly(4L, 1L);
+        assertThat(index.search("dragon", ALL, 0)).isEmpty();
+    }
+
+    @Test
+    void replacesAndRemovesDocuments() {
+        BigramIndex index = new BigramIndex(3, 1);
+        index.put(1, "Naruto", "Kishimoto");
+        index.put(1, "Bleach", null);
+
+        assertThat(index.search("naruto", ALL, 10)).isEmpty();
+        assertThat(index.search("kishi", ALL, 10)).isEmpty();
+        assertThat(index.search("bleach", ALL, 10)).containsExactly(1L);
+        assertThat(index.getDocumentCount()).isEqualTo(1);
+
+        index.remove(1);
+
+        assertThat(index.search("bleach", ALL, 10)).isEmpty();
+        assertThat(index.getDocumentCount()).isZero();
+        assertThat(index.getTokenCount()).isZero();
+    }
+
+    @Test
+    void ignoresQueriesWithoutLettersOrDigits() {
+        BigramIndex index = new BigramIndex(1);
+        index.put(1, "Naruto");
+
+        assertThat(index.search("  !? ", ALL, 10)).isEmpty();
+        assertThat(index.search(null, ALL, 10)).isEmpty();
+    }
+
+    @Test
+    void rejectsInvalidFieldCount() {
+        assertThatThrownBy(BigramIndex::new).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BigramIndex(new double[32])).isInstanceOf(IllegalArgumentException.class);
+    }
+}
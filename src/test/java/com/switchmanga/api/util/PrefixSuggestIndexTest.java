@@ -0,0 +1,139 @@
+package com.switchmanga.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixSuggestIndexTest {
+
+    // PrefixSuggestIndex.MAX_SCAN_ENTRIES
+    private static final int MAX_SCAN_ENTRIES = 4096;
+
+    @Test
+    void suggestsByScoreThenNewestId() {
+        PrefixSuggestIndex<String> index = new PrefixSuggestIndex<>(3);
+        index.rebuild(List.of(
+                document(1, 10, "Naruto"),
+                document(2, 50, "Nana"),
+                document(3, 30, "Nausicaa"),
+                document(4, 30, "Navillera"),
+                document(5, 90, "Bleach")));
+
+        assertThat(values(index.suggest("n", 10))).containsExactly("Nana", "Navillera", "Nausicaa");
+        assertThat(values(index.suggest("na", 2))).containsExactly("Nana", "Navillera");
+        assertThat(values(index.suggest("nar", 10))).containsExactly("Naruto");
+        assertThat(index.suggest("x", 10)).isEmpty();
+        assertThat(index.suggest(" ! ", 10)).isEmpty();
+    }
+
+    @Test
+    void matchesWordStartsOncePerDocument() {
+        PrefixSuggestIndex<String> index = new PrefixSuggestIndex<>(10);
+        index.rebuild(List.of(
+                new PrefixSuggestIndex.Document<>(1, 10, "one-piece", List.of("One Piece", "ワンピース")),
+                new PrefixSuggestIndex.Document<>(2, 5, "piece", List.of("Piece", "Piece of Cake"))));
+
+        List<PrefixSuggestIndex.Suggestion<String>> pie = index.suggest("pie", 10);
+        assertThat(values(pie)).containsExactly("one-piece", "piece");
+        assertThat(pie.get(0).matchedText()).isEqualTo("One Piece");
+
+        // 가타카나 텍스트를 히라가나 접두어로
+        assertThat(values(index.suggest("わん", 10))).containsExactly("one-piece");
+        assertThat(values(index.suggest("ＯＮＥ ｐ", 10))).containsExactly("one-piece");
+    }
+
+    @Test
+    void putAndRemoveMatchRebuild() {
+        PrefixSuggestIndex<String> incremental = new PrefixSuggestIndex<>(5);
+        Map<Long, PrefixSuggestIndex.Document<String>> current = new LinkedHashMap<>();
+
+        List<PrefixSuggestIndex.Document<String>> initial = List.of(
+                document(1, 10, "Dragon Ball"),
+                document(2, 20, "Dr. Stone"),
+                document(3, 30, "Doraemon"),
+                document(4, 40, "Death Note"));
+        incremental.rebuild(initial);
+        initial.forEach(document -> current.put(document.id(), document));
+
+        // 추가, 점수/텍스트 교체, 삭제, 없는 id 삭제
+        List<PrefixSuggestIndex.Document<String>> puts = List.of(
+                document(5, 25, "Dandadan"),
+                document(1, 50, "Dragon Ball Super"),
+                document(6, 25, "Dorohedoro"),
+                document(2, 5, "Dr. Slump"),
+                document(7, 60, "Demon Slayer"));
+        for (PrefixSuggestIndex.Document<String> document : puts) {
+            incremental.put(document);
+            current.put(document.id(), document);
+        }
+        incremental.remove(3);
+        current.remove(3L);
+        incremental.remove(99);
+
+        PrefixSuggestIndex<String> rebuilt = new PrefixSuggestIndex<>(5);
+        rebuilt.rebuild(new ArrayList<>(current.values()));
+
+        assertThat(incremental.getEntryCount()).isEqualTo(rebuilt.getEntryCount());
+        for (String prefix : List.of("d", "do", "dr", "de", "da", "dra", "dragonb", "dor", "s", "su", "sl",
+                "slu", "st", "ball", "n", "no", "note")) {
+            assertThat(incremental.suggest(prefix, 5)).as(prefix).isEqualTo(rebuilt.suggest(prefix, 5));
+        }
+        assertThat(values(incremental.suggest("do", 5))).containsExactly("Dorohedoro");
+        assertThat(values(incremental.suggest("d", 5)))
+                .containsExactly("Demon Slayer", "Dragon Ball Super", "Death Note", "Dorohedoro", "Dandadan");
+    }
+
+    @Test
+    void removeClearsHeadLists() {
+        PrefixSuggestIndex<String> index = new PrefixSuggestIndex<>(5);
+        index.put(document(1, 10, "Berserk"));
+        index.put(document(2, 20, "Bleach"));
+
+        index.remove(2);
+        assertThat(values(index.suggest("b", 5))).containsExactly("Berserk");
+        assertThat(index.suggest("bl", 5)).isEmpty();
+
+        index.remove(1);
+        assertThat(index.suggest("b", 5)).isEmpty();
+        assertThat(index.getEntryCount()).isZero();
+    }
+
+    @Test
+    void scansAtMostMaxScanEntriesForLongPrefixes() {
+        // 낮은 점수 키가 범위 앞쪽을 채우고, 높은 점수 키("abcz")는 그 뒤에 위치
+        PrefixSuggestIndex<String> withinCap = new PrefixSuggestIndex<>(3);
+        withinCap.rebuild(fillersAnd(MAX_SCAN_ENTRIES - 1));
+        assertThat(values(withinCap.suggest("abc", 3)).get(0)).isEqualTo("top");
+
+        PrefixSuggestIndex<String> overCap = new PrefixSuggestIndex<>(3);
+        overCap.rebuild(fillersAnd(MAX_SCAN_ENTRIES));
+        assertThat(values(overCap.suggest("abc", 3))).doesNotContain("top").hasSize(3);
+
+        // 한/두 글자 접두어는 미리 계산한 상위 k개라 제한 없음, 더 긴 접두어로 좁히면 다시 찾음
+        assertThat(values(overCap.suggest("ab", 3)).get(0)).isEqualTo("top");
+        assertThat(values(overCap.suggest("abcz", 3))).containsExactly("top");
+    }
+
+    private static List<PrefixSuggestIndex.Document<String>> fillersAnd(int fillers) {
+        List<PrefixSuggestIndex.Document<String>> documents = new ArrayList<>(fillers + 1);
+        for (int i = 0; i < fillers; i++) {
+            documents.add(new PrefixSuggestIndex.Document<>(i + 1, 1, "filler",
+                    List.of(String.format("abca%05d", i))));
+        }
+        documents.add(new PrefixSuggestIndex.Document<>(fillers + 1, 100, "top", List.of("abcz")));
+        return documents;
+    }
+
+    private static PrefixSuggestIndex.Document<String> document(long id, double score, String title) {
+        return new PrefixSuggestIndex.Document<>(id, score, title, List.of(title));
+    }
+
+    private static List<String> values(List<PrefixSuggestIndex.Suggestion<String>> suggestions) {
+        return suggestions.stream().map(PrefixSuggestIndex.Suggestion::value).toList();
+    }
+}
@@ -0,0 +1,157 @@
+package com.switchmanga.api.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoredZipLayoutTest {
+
+    // 로컬 헤더 고정 부분 (파일명 제외)
+    private static final int LOCAL_HEADER_SIZE = 30;
+
+    private static final List<String> NAMES = List.of("001.jpg", "표지_002.png", "003.webp");
+    private static final List<byte[]> CONTENTS = List.of(
+            content(1000, 1),
+            content(1, 2),
+            content(4099, 3));
+
+    @Test
+    void writesZipReadableByZipFile(@TempDir Path dir) throws IOException {
+        StoredZipLayout layout = StoredZipLayout.of(entries());
+        byte[] zip = writeRange(layout, 0, layout.length());
+        assertThat((long) zip.length).isEqualTo(layout.length());
+
+        Path path = dir.resolve("bundle.zip");
+        Files.write(path, zip);
+
+        try (ZipFile file = new ZipFile(path.toFile(), StandardCharsets.UTF_8)) {
+            assertThat(file.size()).isEqualTo(NAMES.size());
+            for (int i = 0; i < NAMES.size(); i++) {
+                ZipEntry entry = file.getEntry(NAMES.get(i));
+                assertThat(entry).as(NAMES.get(i)).isNotNull();
+                assertThat(entry.getMethod()).isEqualTo(ZipEntry.STORED);
+                assertThat(entry.getSize()).isEqualTo(CONTENTS.get(i).length);
+                assertThat(entry.getCrc()).isEqualTo(crc(CONTENTS.get(i)));
+                try (InputStream in = file.getInputStream(entry)) {
+                    assertThat(in.readAllBytes()).isEqualTo(CONTENTS.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    void sameEntriesProduceSameBytes() throws IOException {
+        StoredZipLayout first = StoredZipLayout.of(entries());
+        StoredZipLayout second = StoredZipLayout.of(entries());
+
+        assertThat(writeRange(second, 0, second.length())).isEqualTo(writeRange(first, 0, first.length()));
+    }
+
+    @Test
+    void rangesMatchFullOutputAcrossBoundaries() throws IOException {
+        StoredZipLayout layout = StoredZipLayout.of(entries());
+        byte[] full = writeRange(layout, 0, layout.length());
+
+        // 구간 경계: 각 엔트리의 헤더 시작/데이터 시작/데이터 끝, 중앙 디렉토리 시작, 파일 끝
+        List<Long> boundaries = new ArrayList<>();
+        long offset = 0;
+        for (int i = 0; i < NAMES.size(); i++) {
+            boundaries.add(offset);
+            offset += LOCAL_HEADER_SIZE + NAMES.get(i).getBytes(StandardCharsets.UTF_8).length;
+            boundaries.add(offset);
+            offset += CONTENTS.get(i).length;
+        }
+        boundaries.add(offset);
+        boundaries.add(layout.length());
+
+        // 경계 바로 앞/뒤에서 시작하고 끝나는 구간 (헤더와 데이터에 걸치는 구간 포함)
+        List<Long> points = new ArrayList<>();
+        for (long boundary : boundaries) {
+            for (long delta = -1; delta <= 1; delta++) {
+                long point = boundary + delta;
+                if (point >= 0 && point <= layout.length()) {
+                    points.add(point);
+                }
+            }
+        }
+
+        for (long start : points) {
+            for (long end : points) {
+                if (end < start) {
+                    continue;
+                }
+                byte[] slice = writeRange(layout, start, end - start);
+                assertThat(slice).as("[%d, %d)", start, end)
+                        .isEqualTo(Arrays.copyOfRange(full, (int) start, (int) end));
+            }
+        }
+    }
+
+    @Test
+    void concatenatedRangesEqualFullOutput() throws IOException {
+        StoredZipLayout layout = StoredZipLayout.of(entries());
+        byte[] full = writeRange(layout, 0, layout.length());
+
+        // 헤더/데이터 경계와 맞지 않는 크기로 나눠 받아 이어 붙이기
+        ByteArrayOutputStream joined = new ByteArrayOutputStream();
+        for (long start = 0; start < layout.length(); start += 37) {
+            joined.write(writeRange(layout, start, Math.min(37, layout.length() - start)));
+        }
+
+        assertThat(joined.toByteArray()).isEqualTo(full);
+    }
+
+    private static List<StoredZipLayout.Entry> entries() {
+        List<StoredZipLayout.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < NAMES.size(); i++) {
+            byte[] data = CONTENTS.get(i);
+            entries.add(new StoredZipLayout.Entry(NAMES.get(i), data.length, crc(data),
+                    (position, count, target) -> {
+                        ByteBuffer buffer = ByteBuffer.wrap(data, (int) position, (int) count);
+                        while (buffer.hasRemaining()) {
+                            target.write(buffer);
+                        }
+                    }));
+        }
+        return entries;
+    }
+
+    private static byte[] writeRange(StoredZipLayout layout, long start, long count) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (WritableByteChannel target = Channels.newChannel(out)) {
+            layout.write(start, count, target);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] content(int size, int seed) {
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) (i * 31 + seed);
+        }
+        return data;
+    }
+
+    private static long crc(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return crc.getValue();
+    }
+}